@@ -1,9 +1,13 @@
 package com.term.fastingdatecounter.domain.food.controller;
 
 import com.term.fastingdatecounter.domain.food.dto.FoodListResponse;
+import com.term.fastingdatecounter.domain.food.dto.FoodNameListResponse;
 import com.term.fastingdatecounter.domain.food.dto.FoodRequest;
+import com.term.fastingdatecounter.domain.food.dto.FoodStatsResponse;
 import com.term.fastingdatecounter.domain.food.dto.FoodResponse;
 import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.food.domain.FoodNameIndex;
+import com.term.fastingdatecounter.domain.food.service.FoodNameSuggestService;
 import com.term.fastingdatecounter.domain.food.service.FoodService;
 import com.term.fastingdatecounter.domain.user.dto.SessionUser;
 import com.term.fastingdatecounter.domain.user.domain.LoginUser;
@@ -25,16 +29,34 @@ import java.util.List;
 public class FoodApiController {
 
     private final FoodService foodService;
+    private final FoodNameSuggestService foodNameSuggestService;
 
     @Operation(summary = "음식 조회")
     @GetMapping
     public ResponseEntity<FoodListResponse> find(
             @LoginUser SessionUser user
     ){
-        List<Food> foodList = foodService.findByUserId(user.getId()); // find food list by session user id
+        List<FoodResponse> foodList = foodService.findByUserId(user.getId()); // find food list by session user id
         return ResponseEntity.ok(new FoodListResponse(foodList));
     }
 
+    @Operation(summary = "음식명 자동완성 (전체 유저의 등록 수 순)")
+    @GetMapping("/names")
+    public ResponseEntity<FoodNameListResponse> suggestNames(
+            @RequestParam(name = "prefix") String prefix,
+            @RequestParam(name = "size", defaultValue = "" + FoodNameIndex.MAX_SUGGESTIONS) int size
+    ){
+        return ResponseEntity.ok(new FoodNameListResponse(foodNameSuggestService.suggest(prefix, size)));
+    }
+
+    @Operation(summary = "음식별 리뷰 통계 조회")
+    @GetMapping("/{foodId}/stats")
+    public ResponseEntity<FoodStatsResponse> findStats(
+            @LoginUser SessionUser user,
+            @PathVariable(name = "foodId") Long foodId
+    ){
+        return ResponseEntity.ok(foodService.findStats(user.getId(), foodId));
+    }
 
     @Operation(summary = "음식 등록")
     @PostMapping
@@ -15,7 +15,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Tag(name = "음식 관련 페이지")
 @RequiredArgsConstructor
@@ -28,12 +27,9 @@ public class FoodController {
     @Operation(summary = "음식 목록 페이지")
     @GetMapping
     public String food(Model model, @LoginUser SessionUser user){
-        List<Food> foodList = foodService.findByUserId(user.getId()); // find food list by session user id
-        List<FoodResponse> foodListResponse = foodList.stream()
-                .map(FoodResponse::new)
-                .collect(Collectors.toList());
+        List<FoodResponse> foodList = foodService.findByUserId(user.getId()); // find food list by session user id
         model.addAttribute("user", user);
-        model.addAttribute("foodList", foodListResponse);
+        model.addAttribute("foodList", foodList);
         return "food";
     }
 
@@ -0,0 +1,44 @@
+package com.term.fastingdatecounter.domain.food.controller;
+
+import com.term.fastingdatecounter.domain.food.dto.FoodRankResponse;
+import com.term.fastingdatecounter.domain.food.dto.LeaderboardResponse;
+import com.term.fastingdatecounter.domain.food.dto.LeaderboardType;
+import com.term.fastingdatecounter.domain.food.service.LeaderboardService;
+import com.term.fastingdatecounter.domain.user.domain.LoginUser;
+import com.term.fastingdatecounter.domain.user.dto.SessionUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "순위(Leaderboard) API")
+@RequiredArgsConstructor
+@RestController
+public class LeaderboardApiController {
+
+    private final LeaderboardService leaderboardService;
+
+    @Operation(summary = "순위표 조회 (전체 또는 음식명별, 단식일수/연속 단식일 순)")
+    @GetMapping("/api/leaderboard")
+    public ResponseEntity<LeaderboardResponse> findTop(
+            @RequestParam(name = "type", defaultValue = "day-count") String type,
+            @RequestParam(name = "name", required = false) String name,
+            @RequestParam(name = "size", defaultValue = "" + LeaderboardService.DEFAULT_LEADERBOARD_SIZE) int size
+    ){
+        return ResponseEntity.ok(leaderboardService.findTop(LeaderboardType.of(type), name, size));
+    }
+
+    @Operation(summary = "내 음식 순위 조회")
+    @GetMapping("/api/food/{foodId}/rank")
+    public ResponseEntity<FoodRankResponse> findRank(
+            @LoginUser SessionUser user,
+            @PathVariable(name = "foodId") Long foodId,
+            @RequestParam(name = "type", defaultValue = "day-count") String type
+    ){
+        return ResponseEntity.ok(leaderboardService.findRank(user.getId(), foodId, LeaderboardType.of(type)));
+    }
+}
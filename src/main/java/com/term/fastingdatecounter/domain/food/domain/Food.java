@@ -15,37 +15,75 @@ import java.time.LocalDate;
 @DynamicUpdate
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "IDX_food_day_count", columnList = "day_count, id"),
+        @Index(name = "IDX_food_current_streak", columnList = "current_streak, id"),
+        @Index(name = "IDX_food_name_key_day_count", columnList = "name_key, day_count, id"),
+        @Index(name = "IDX_food_name_key_current_streak", columnList = "name_key, current_streak, id"),
+        @Index(name = "IDX_food_created_at", columnList = "created_at")
+})
 public class Food extends BaseTimeEntity {
 
+    public static final String USER_FOREIGN_KEY = "FK_user_TO_food_1";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = USER_FOREIGN_KEY))
     private User user;
 
     @Column(length = 50, nullable = false)
     private String name;
 
+    // 정규화한 음식명 (FoodNameIndex.normalize), 음식명별 순위 조회용
+    @Column(name = "name_key", length = 50, nullable = false)
+    private String nameKey;
+
     @Column(name = "start_date", columnDefinition = "DATE DEFAULT CURRENT_TIMESTAMP", nullable = false)
     private LocalDate startDate;
 
+    // 단식일수는 FoodRepository의 증감/재집계 쿼리로만 갱신 (dirty checking으로 덮어쓰지 않음)
     @ColumnDefault("0")
-    @Column(name = "day_count", nullable = false)
+    @Column(name = "day_count", nullable = false, updatable = false)
     private Long dayCount;
 
+    // 리뷰 변경 버전 (리뷰 등록/수정/삭제마다 단식일수 갱신 UPDATE에서 함께 증가), 통계 캐시 키로 사용
+    @ColumnDefault("0")
+    @Column(name = "review_version", nullable = false, updatable = false)
+    private Long reviewVersion;
+
+    // 연속 단식일 (가장 최근 리뷰 날짜에서 끝나는 연속 단식 성공 일수), StreakService가 갱신
+    @ColumnDefault("0")
+    @Column(name = "current_streak", nullable = false)
+    private Long currentStreak;
+
+    // 최장 연속 단식일
+    @ColumnDefault("0")
+    @Column(name = "longest_streak", nullable = false)
+    private Long longestStreak;
+
+    // 가장 최근 리뷰 날짜 (리뷰가 없으면 null)
+    @Column(name = "last_review_date")
+    private LocalDate lastReviewDate;
+
     @Builder
     public Food(Long id, User user, String name, LocalDate startDate, Long dayCount) {
         this.id = id;
         this.user = user;
         this.name = name;
+        this.nameKey = FoodNameIndex.normalize(name);
         this.startDate = startDate;
-        this.dayCount = dayCount;
+        this.dayCount = dayCount == null ? 0L : dayCount; // insert 직후 엔티티 값이 행과 같도록 기본값 지정
+        this.reviewVersion = 0L;
+        this.currentStreak = 0L;
+        this.longestStreak = 0L;
     }
 
     public void updateName(String name){
         this.name = name;
+        this.nameKey = FoodNameIndex.normalize(name);
     }
 
     public void updateStartDate(LocalDate startDate){
@@ -55,4 +93,14 @@ public class Food extends BaseTimeEntity {
     public void updateDayCount(Long dayCount) {
         this.dayCount = dayCount;
     }
+
+    public void addDayCount(long delta) {
+        this.dayCount = (dayCount == null ? 0L : dayCount) + delta;
+    }
+
+    public void updateStreak(long currentStreak, long longestStreak, LocalDate lastReviewDate) {
+        this.currentStreak = currentStreak;
+        this.longestStreak = longestStreak;
+        this.lastReviewDate = lastReviewDate;
+    }
 }
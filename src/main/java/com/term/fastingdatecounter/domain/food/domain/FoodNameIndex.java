@@ -0,0 +1,219 @@
+package com.term.fastingdatecounter.domain.food.domain;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 음식명 자동완성용 prefix 트라이
+// 정규화한 이름(NFKC, 소문자, 공백 하나로) 단위로 등록 수를 세고, 노드마다 하위 이름 중 인기 상위 MAX_SUGGESTIONS개를 미리 계산해 둠
+// 조회는 prefix 길이만큼 노드를 따라간 뒤 목록을 복사하는 것이 전부 (쓰기는 해당 경로의 노드만 다시 계산)
+// 전체 재생성(addAll)은 이름을 모두 넣은 뒤 상위 목록을 아래 노드부터 한 번만 계산
+public class FoodNameIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<Entry> POPULARITY = Comparator.comparingLong(Entry::getCount).reversed()
+            .thenComparing(Entry::getKey);
+
+    private final Node root = new Node();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int size;
+
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        return Normalizer.normalize(name, Normalizer.Form.NFKC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    // 등록 수 증가 (새 이름이면 name을 표시 이름으로 사용)
+    public void add(String name, long count) {
+        if (normalize(name).isEmpty() || count <= 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            updateTops(putEntry(name, count));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 이름별 등록 수를 한 번에 등록 (색인 재생성용, 노드마다 상위 목록을 한 번만 계산)
+    public void addAll(Map<String, Long> nameCounts) {
+        lock.writeLock().lock();
+        try {
+            nameCounts.forEach(this::putEntry);
+            updateTops(root);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 등록 수 감소 (0이 되면 자동완성에서 제외)
+    public void remove(String name) {
+        String key = normalize(name);
+        if (key.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            List<Node> path = findPath(key);
+            if (path.isEmpty() || path.get(path.size() - 1).entry == null) {
+                return;
+            }
+            Node node = path.get(path.size() - 1);
+            if (node.entry.count <= 1) {
+                node.entry = null;
+                size--;
+            } else {
+                node.entry = node.entry.withCount(node.entry.count - 1);
+            }
+            updateTops(path);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // prefix로 시작하는 음식명을 인기 순으로 최대 limit개 (limit <= MAX_SUGGESTIONS)
+    public List<String> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            List<Node> path = findPath(key);
+            if (path.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<Entry> top = path.get(path.size() - 1).top;
+            List<String> names = new ArrayList<>(Math.min(limit, top.size()));
+            for (int i = 0; i < top.size() && i < limit; i++) {
+                names.add(top.get(i).name);
+            }
+            return names;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Node> putEntry(String name, long count) {
+        String key = normalize(name);
+        if (key.isEmpty() || count <= 0) {
+            return Collections.emptyList();
+        }
+        List<Node> path = findOrCreatePath(key);
+        Node node = path.get(path.size() - 1);
+        if (node.entry == null) {
+            node.entry = new Entry(key, name.trim(), count);
+            size++;
+        } else {
+            node.entry = node.entry.withCount(node.entry.count + count);
+        }
+        return path;
+    }
+
+    private List<Node> findOrCreatePath(String key) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            path.add(node);
+        }
+        return path;
+    }
+
+    private List<Node> findPath(String key) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.get(key.charAt(i));
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            path.add(node);
+        }
+        return path;
+    }
+
+    private void updateTops(List<Node> path) {
+        // 아래 노드부터 자신의 이름 + 자식 노드들의 상위 목록을 합쳐 다시 계산
+        for (int i = path.size() - 1; i >= 0; i--) {
+            computeTop(path.get(i));
+        }
+    }
+
+    private void updateTops(Node node) {
+        // 자식 노드를 먼저 계산한 뒤 자신을 계산 (후위 순회, 깊이는 이름 길이 이하)
+        for (Node child : node.children.values()) {
+            updateTops(child);
+        }
+        computeTop(node);
+    }
+
+    private void computeTop(Node node) {
+        List<Entry> candidates = new ArrayList<>();
+        if (node.entry != null) {
+            candidates.add(node.entry);
+        }
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.top);
+        }
+        candidates.sort(POPULARITY);
+        node.top = candidates.size() > MAX_SUGGESTIONS
+                ? new ArrayList<>(candidates.subList(0, MAX_SUGGESTIONS))
+                : candidates;
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private Entry entry;
+        private List<Entry> top = Collections.emptyList();
+    }
+
+    private static class Entry {
+        private final String key;
+        private final String name;
+        private final long count;
+
+        private Entry(String key, String name, long count) {
+            this.key = key;
+            this.name = name;
+            this.count = count;
+        }
+
+        private Entry withCount(long count) {
+            return new Entry(key, name, count);
+        }
+
+        private String getKey() {
+            return key;
+        }
+
+        private long getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.term.fastingdatecounter.domain.food.dto;
+
+import lombok.Getter;
+
+// 음식명별 등록 수 (자동완성 인기 순위용)
+@Getter
+public class FoodNameCount {
+
+    private final String name;
+    private final long count;
+
+    public FoodNameCount(String name, Long count) {
+        this.name = name;
+        this.count = count;
+    }
+}
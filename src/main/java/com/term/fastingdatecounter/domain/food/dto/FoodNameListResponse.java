@@ -0,0 +1,15 @@
+package com.term.fastingdatecounter.domain.food.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class FoodNameListResponse {
+
+    private final List<String> names; // 인기 순
+
+    public FoodNameListResponse(List<String> names) {
+        this.names = names;
+    }
+}
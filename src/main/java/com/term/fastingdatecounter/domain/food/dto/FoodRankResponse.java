@@ -0,0 +1,21 @@
+package com.term.fastingdatecounter.domain.food.dto;
+
+import lombok.Getter;
+
+@Getter
+public class FoodRankResponse {
+
+    private final Long foodId;
+    private final String type;
+    private final long value;
+    private final long rank;     // 전체 음식 중 순위
+    private final long nameRank; // 같은 음식명 중 순위
+
+    public FoodRankResponse(Long foodId, LeaderboardType type, long value, long rank, long nameRank) {
+        this.foodId = foodId;
+        this.type = type.getValue();
+        this.value = value;
+        this.rank = rank;
+        this.nameRank = nameRank;
+    }
+}
@@ -18,6 +18,8 @@ public class FoodResponse {
 
     private final Long dayCount;
     private final Long dDay;
+    private final Long currentStreak;
+    private final Long longestStreak;
 
     public FoodResponse(Food food) {
         this.id = food.getId();
@@ -25,5 +27,7 @@ public class FoodResponse {
         this.startDate = food.getStartDate();
         this.dayCount = food.getDayCount();
         this.dDay = ChronoUnit.DAYS.between(startDate, LocalDate.now()) + 1L;
+        this.currentStreak = food.getCurrentStreak();
+        this.longestStreak = food.getLongestStreak();
     }
 }
@@ -0,0 +1,53 @@
+package com.term.fastingdatecounter.domain.food.dto;
+
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class FoodStatsResponse {
+
+    private final Long foodId;
+    private final long reviewCount;
+    private final long fastedCount;
+    private final long notFastedCount;
+    private final double successRate;   // 단식 성공 리뷰 비율 (리뷰가 없으면 0)
+    private final long longestGap;      // 리뷰 없이 지나간 최장 일수 (시작일부터 마지막 리뷰까지)
+    private final double averageStreak; // 연속 단식 구간의 평균 길이 (구간이 없으면 0)
+    private final List<Weekday> weekdays; // 월 ~ 일
+
+    public FoodStatsResponse(Long foodId, long[] weekdayReviewCounts, long[] weekdayFastedCounts,
+                             long longestGap, long streakCount) {
+        long reviewCount = 0L;
+        long fastedCount = 0L;
+        this.weekdays = new ArrayList<>(DayOfWeek.values().length);
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            int index = dayOfWeek.ordinal();
+            reviewCount += weekdayReviewCounts[index];
+            fastedCount += weekdayFastedCounts[index];
+            weekdays.add(new Weekday(dayOfWeek, weekdayReviewCounts[index], weekdayFastedCounts[index]));
+        }
+        this.foodId = foodId;
+        this.reviewCount = reviewCount;
+        this.fastedCount = fastedCount;
+        this.notFastedCount = reviewCount - fastedCount;
+        this.successRate = reviewCount == 0 ? 0.0 : (double) fastedCount / reviewCount;
+        this.longestGap = longestGap;
+        this.averageStreak = streakCount == 0 ? 0.0 : (double) fastedCount / streakCount;
+    }
+
+    @Getter
+    public static class Weekday {
+        private final DayOfWeek dayOfWeek;
+        private final long reviewCount;
+        private final long fastedCount;
+
+        public Weekday(DayOfWeek dayOfWeek, long reviewCount, long fastedCount) {
+            this.dayOfWeek = dayOfWeek;
+            this.reviewCount = reviewCount;
+            this.fastedCount = fastedCount;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.term.fastingdatecounter.domain.food.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class LeaderboardResponse {
+
+    private final String type;
+    private final String name; // 음식명별 순위표인 경우의 음식명 (전체면 null)
+    private final List<Item> ranking;
+
+    public LeaderboardResponse(LeaderboardType type, String name, List<LeaderboardRow> rows) {
+        this.type = type.getValue();
+        this.name = name;
+        this.ranking = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            LeaderboardRow row = rows.get(i);
+            long value = type.select(row.getDayCount(), row.getCurrentStreak());
+            ranking.add(new Item(i + 1L, row.getFoodId(), row.getFoodName(), row.getUserName(), value));
+        }
+    }
+
+    @Getter
+    public static class Item {
+        private final long rank;
+        private final Long foodId;
+        private final String foodName;
+        private final String userName;
+        private final long value;
+
+        public Item(long rank, Long foodId, String foodName, String userName, long value) {
+            this.rank = rank;
+            this.foodId = foodId;
+            this.foodName = foodName;
+            this.userName = userName;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.term.fastingdatecounter.domain.food.dto;
+
+import lombok.Getter;
+
+// 순위표 조회 결과 (음식 + 작성자 이름만)
+@Getter
+public class LeaderboardRow {
+
+    private final Long foodId;
+    private final String foodName;
+    private final String userName;
+    private final Long dayCount;
+    private final Long currentStreak;
+
+    // JPQL constructor expression 용 생성자
+    public LeaderboardRow(Long foodId, String foodName, String userName, Long dayCount, Long currentStreak) {
+        this.foodId = foodId;
+        this.foodName = foodName;
+        this.userName = userName;
+        this.dayCount = dayCount;
+        this.currentStreak = currentStreak;
+    }
+}
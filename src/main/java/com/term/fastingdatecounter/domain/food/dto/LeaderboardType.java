@@ -0,0 +1,35 @@
+package com.term.fastingdatecounter.domain.food.dto;
+
+import com.term.fastingdatecounter.global.exception.ErrorCode;
+import com.term.fastingdatecounter.global.exception.ServiceException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.util.Arrays;
+
+// 순위 기준 (단식일수, 연속 단식일)
+@Getter
+public enum LeaderboardType {
+    DAY_COUNT("day-count", "dayCount"),
+    STREAK("streak", "currentStreak")
+    ;
+
+    private final String value;
+    private final String property; // 정렬할 Food 필드
+
+    LeaderboardType(String value, String property) {
+        this.value = value;
+        this.property = property;
+    }
+
+    public long select(Long dayCount, Long currentStreak) {
+        return this == DAY_COUNT ? dayCount : currentStreak;
+    }
+
+    public static LeaderboardType of(String type) {
+        return Arrays.stream(values())
+                .filter(value -> value.value.equalsIgnoreCase(type))
+                .findFirst()
+                .orElseThrow(() -> new ServiceException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_LEADERBOARD_TYPE));
+    }
+}
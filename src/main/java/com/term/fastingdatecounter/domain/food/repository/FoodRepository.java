@@ -1,10 +1,107 @@
 package com.term.fastingdatecounter.domain.food.repository;
 
 import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.food.dto.FoodNameCount;
+import com.term.fastingdatecounter.domain.food.dto.LeaderboardRow;
+import com.term.fastingdatecounter.domain.stats.dto.CohortFood;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface FoodRepository extends JpaRepository<Food, Long> {
+    // 2차 캐시 미사용: 단식일수/리뷰 변경 버전은 bulk update로만 갱신되어 region 전체 무효화가 잦고,
+    // pod별 캐시는 다른 pod의 변경을 반영하지 못함 (유저별 목록은 FoodService의 응답 DTO 캐시 사용)
     List<Food> findByUserId(Long userId);
+
+    // 리뷰 쓰기용 음식 조회 (select ... for update, 같은 음식의 리뷰 쓰기는 트랜잭션 단위로 순서대로 처리)
+    // 세션 유저의 음식인 경우에만 조회 및 잠금 (다른 유저의 음식 행은 잠그지 않음)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from Food f where f.id = :foodId and f.user.id = :userId")
+    Optional<Food> findByIdAndUserIdForUpdate(@Param("foodId") Long foodId, @Param("userId") Long userId);
+
+    // 단식일수 증감 및 리뷰 변경 버전 증가 (음수가 되는 경우 0건 반영 -> 재집계 필요)
+    @Modifying
+    @Query("update Food f set f.dayCount = f.dayCount + :delta, f.reviewVersion = f.reviewVersion + 1 " +
+            "where f.id = :foodId and f.dayCount + :delta >= 0")
+    int addDayCount(@Param("foodId") Long foodId, @Param("delta") long delta);
+
+    // 단식일수 전체 재집계 및 리뷰 변경 버전 증가
+    @Modifying
+    @Query("update Food f set f.dayCount = " +
+            "(select count(r) from Review r where r.food.id = :foodId and r.fasted = true), " +
+            "f.reviewVersion = f.reviewVersion + 1 " +
+            "where f.id = :foodId")
+    int recountDayCount(@Param("foodId") Long foodId);
+
+    // 현재 단식일수 (재집계 직후 영속성 컨텍스트를 거치지 않고 DB 값 조회)
+    @Query("select f.dayCount from Food f where f.id = :foodId")
+    Long findDayCountById(@Param("foodId") Long foodId);
+
+    // 현재 리뷰 변경 버전 (2차 캐시를 거치지 않고 DB에서 조회, 다른 pod의 변경도 반영)
+    @Query("select f.reviewVersion from Food f where f.id = :foodId")
+    Long findReviewVersionById(@Param("foodId") Long foodId);
+
+    // 정규화한 음식명별 등록 수 (많은 순), 자동완성 색인 생성용
+    @Query("select new com.term.fastingdatecounter.domain.food.dto.FoodNameCount(min(f.name), count(f)) " +
+            "from Food f group by f.nameKey order by count(f) desc")
+    List<FoodNameCount> countByName(Pageable pageable);
+
+    // 기간 내 등록된 음식 수 (created_at 인덱스 범위 조회, 일별 집계용)
+    @Query("select count(f) from Food f where f.createdAt >= :from and f.createdAt < :to")
+    long countCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select new com.term.fastingdatecounter.domain.food.dto.FoodNameCount(f.nameKey, count(f)) " +
+            "from Food f where f.createdAt >= :from and f.createdAt < :to group by f.nameKey")
+    List<FoodNameCount> countCreatedBetweenByNameKey(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select min(f.createdAt) from Food f")
+    Optional<LocalDateTime> findFirstCreatedAt();
+
+    // 코호트 집계용 id 범위 (파티션 분할)
+    @Query("select min(f.id) from Food f")
+    Optional<Long> findMinId();
+
+    @Query("select max(f.id) from Food f")
+    Optional<Long> findMaxId();
+
+    // id 범위 내 음식의 코호트 집계 컬럼 (pk 범위 조회)
+    @Query("select new com.term.fastingdatecounter.domain.stats.dto.CohortFood(f.id, f.nameKey, f.startDate, f.lastReviewDate) " +
+            "from Food f where f.id between :fromId and :toId")
+    List<CohortFood> findCohortFoodsByIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 순위표 top N (정렬 기준은 pageable의 sort, (기준 desc, id) 인덱스 사용)
+    @Query("select new com.term.fastingdatecounter.domain.food.dto.LeaderboardRow(" +
+            "f.id, f.name, u.name, f.dayCount, f.currentStreak) " +
+            "from Food f join f.user u")
+    List<LeaderboardRow> findLeaderboard(Pageable pageable);
+
+    @Query("select new com.term.fastingdatecounter.domain.food.dto.LeaderboardRow(" +
+            "f.id, f.name, u.name, f.dayCount, f.currentStreak) " +
+            "from Food f join f.user u where f.nameKey = :nameKey")
+    List<LeaderboardRow> findLeaderboardByNameKey(@Param("nameKey") String nameKey, Pageable pageable);
+
+    // 순위 계산용: 앞 순위 음식 수 (값이 더 크거나, 같으면 id가 더 큰 음식)
+    @Query("select count(f) from Food f " +
+            "where f.dayCount > :value or (f.dayCount = :value and f.id > :foodId)")
+    long countAheadByDayCount(@Param("value") long value, @Param("foodId") Long foodId);
+
+    @Query("select count(f) from Food f where f.nameKey = :nameKey " +
+            "and (f.dayCount > :value or (f.dayCount = :value and f.id > :foodId))")
+    long countAheadByDayCountAndNameKey(@Param("nameKey") String nameKey, @Param("value") long value, @Param("foodId") Long foodId);
+
+    @Query("select count(f) from Food f " +
+            "where f.currentStreak > :value or (f.currentStreak = :value and f.id > :foodId)")
+    long countAheadByCurrentStreak(@Param("value") long value, @Param("foodId") Long foodId);
+
+    @Query("select count(f) from Food f where f.nameKey = :nameKey " +
+            "and (f.currentStreak > :value or (f.currentStreak = :value and f.id > :foodId))")
+    long countAheadByCurrentStreakAndNameKey(@Param("nameKey") String nameKey, @Param("value") long value, @Param("foodId") Long foodId);
 }
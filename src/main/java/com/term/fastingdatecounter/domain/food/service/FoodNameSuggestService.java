@@ -0,0 +1,84 @@
+package com.term.fastingdatecounter.domain.food.service;
+
+import com.term.fastingdatecounter.domain.food.domain.FoodNameIndex;
+import com.term.fastingdatecounter.domain.food.dto.FoodNameCount;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 음식명 자동완성 (전체 유저 공통, pod 메모리의 FoodNameIndex로 DB 조회 없이 응답)
+// 이 pod의 음식 등록/수정/삭제는 커밋 후 바로 반영하고, 다른 pod의 변경은 주기적인 재생성(refresh-interval)으로 반영
+@RequiredArgsConstructor
+@Service
+public class FoodNameSuggestService {
+
+    private final FoodRepository foodRepository;
+
+    @Value("${food-name.max-size:20000}")
+    private int maxSize;
+
+    private volatile FoodNameIndex index = new FoodNameIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${food-name.refresh-interval:PT5M}", fixedDelayString = "${food-name.refresh-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        // 등록 수가 많은 이름부터 max-size개로 새 색인을 만든 뒤 교체
+        List<FoodNameCount> nameCounts = foodRepository.countByName(PageRequest.of(0, maxSize));
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (FoodNameCount nameCount : nameCounts) {
+            counts.merge(nameCount.getName(), nameCount.getCount(), Long::sum);
+        }
+        FoodNameIndex newIndex = new FoodNameIndex();
+        newIndex.addAll(counts);
+        index = newIndex;
+    }
+
+    public List<String> suggest(String prefix, int size) {
+        return index.suggest(prefix, Math.min(Math.max(size, 1), FoodNameIndex.MAX_SUGGESTIONS));
+    }
+
+    public void add(String name) {
+        afterCommit(() -> index.add(name, 1));
+    }
+
+    public void remove(String name) {
+        afterCommit(() -> index.remove(name));
+    }
+
+    public void rename(String before, String after) {
+        if (FoodNameIndex.normalize(before).equals(FoodNameIndex.normalize(after))) {
+            return;
+        }
+        afterCommit(() -> {
+            index.remove(before);
+            index.add(after, 1);
+        });
+    }
+
+    private void afterCommit(Runnable update) {
+        // 롤백된 변경이 색인에 남지 않도록 트랜잭션 커밋 후 반영
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+}
@@ -1,21 +1,29 @@
 package com.term.fastingdatecounter.domain.food.service;
 
 import com.term.fastingdatecounter.domain.food.dto.FoodRequest;
+import com.term.fastingdatecounter.domain.food.dto.FoodResponse;
+import com.term.fastingdatecounter.domain.food.dto.FoodStatsResponse;
 import com.term.fastingdatecounter.domain.food.domain.Food;
 import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
-import com.term.fastingdatecounter.domain.review.domain.Review;
 import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
+import com.term.fastingdatecounter.domain.stats.service.GlobalStatsService;
 import com.term.fastingdatecounter.domain.user.domain.User;
 import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import com.term.fastingdatecounter.global.config.CacheConfig;
 import com.term.fastingdatecounter.global.exception.ErrorCode;
 import com.term.fastingdatecounter.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -25,10 +33,18 @@ public class FoodService {
     private final FoodRepository foodRepository;
     private final ReviewRepository reviewRepository;
 
+    private final FoodNameSuggestService foodNameSuggestService;
+    private final GlobalStatsService globalStatsService;
+    private final FoodStatsService foodStatsService;
+
+    // userId는 LoginUserArgumentResolver가 세션당 한 번 확인한 세션 유저의 id (유저 조회 없이 사용)
+    // 캐시에는 영속 엔티티가 아닌 불변 응답 DTO 목록만 저장 (캐시된 값이 다른 요청에서 수정되거나 지연 로딩되지 않음)
+    @Cacheable(cacheNames = CacheConfig.FOOD_LIST, key = "#userId")
     @Transactional(readOnly = true)
-    public List<Food> findByUserId(Long userId) {
-        User user = findUserById(userId);
-        return foodRepository.findByUserId(user.getId());
+    public List<FoodResponse> findByUserId(Long userId) {
+        return foodRepository.findByUserId(userId).stream()
+                .map(FoodResponse::new)
+                .collect(Collectors.toUnmodifiableList());
     }
 
     @Transactional(readOnly = true)
@@ -36,45 +52,79 @@ public class FoodService {
         return findFoodById(id);
     }
 
+    @Transactional(readOnly = true)
+    public Food findById(Long userId, Long foodId) {
+        Food food = findFoodById(foodId);
+        validateUserAuthority(userId, food.getUser().getId());
+        return food;
+    }
+
+    @Transactional(readOnly = true)
+    public FoodStatsResponse findStats(Long userId, Long foodId) {
+        Food food = findById(userId, foodId);
+        // 리뷰 변경 버전은 매번 DB에서 조회 (pk 조회 1회), 같은 버전의 통계는 캐시에서 응답
+        Long reviewVersion = foodRepository.findReviewVersionById(food.getId());
+        return foodStatsService.aggregate(food.getId(), food.getStartDate(), reviewVersion);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.FOOD_LIST, key = "#userId")
     @Transactional
     public Food save(Long userId, FoodRequest foodRequest) {
-        User user = findUserById(userId);
+        // 유저는 조회하지 않고 참조만 사용, 그 사이 삭제된 유저는 user_id 외래키 위반으로 검출
+        User user = userRepository.getById(userId);
         Food food = foodRequest.toEntity(user);
-        foodRepository.save(food);
+        try {
+            foodRepository.save(food);
+        } catch (DataIntegrityViolationException e) {
+            throw toUserNotFound(e);
+        }
+        foodNameSuggestService.add(food.getName());
+        globalStatsService.recordFood(food.getName());
         return food;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.FOOD_LIST, key = "#userId")
     @Transactional
     public Food update(Long userId, Long foodId, FoodRequest foodRequest) {
-        User user = findUserById(userId);
         Food food = findFoodById(foodId);
-        validateUserAuthority(user.getId(), food.getUser().getId());
-        food.updateName(foodRequest.getName());
+        validateUserAuthority(userId, food.getUser().getId());
         validateStartDate(foodId, foodRequest.getStartDate());
+        foodNameSuggestService.rename(food.getName(), foodRequest.getName());
+        food.updateName(foodRequest.getName());
         food.updateStartDate(foodRequest.getStartDate());
         return food;
     }
 
 
+    @CacheEvict(cacheNames = CacheConfig.FOOD_LIST, key = "#userId")
     @Transactional
     public void delete(Long userId, Long foodId) {
-        User user = findUserById(userId);
         Food food = findFoodById(foodId);
-        validateUserAuthority(user.getId(), food.getUser().getId());
+        validateUserAuthority(userId, food.getUser().getId());
         foodRepository.delete(food);
+        foodNameSuggestService.remove(food.getName());
     }
 
+    @CacheEvict(cacheNames = CacheConfig.FOOD_LIST, key = "#food.user.id")
     @Transactional
     public Food updateDayCount(Food food){
-        Long fastingCount = reviewRepository.countByFoodIdAndFastedIsTrue(food.getId());
-        food.updateDayCount(fastingCount);
+        // 전체 리뷰 재집계 (증감 반영 실패 시의 fallback), 집계는 UPDATE 한 번에서만 하고 결과는 pk로 읽어옴
+        // 리뷰 변경 버전도 같은 UPDATE에서 증가
+        foodRepository.recountDayCount(food.getId());
+        food.updateDayCount(foodRepository.findDayCountById(food.getId()));
         return food;
     }
 
-    public User findUserById(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ServiceException(HttpStatus.NOT_FOUND, ErrorCode.NOT_FOUND_USER));
-        return user;
+    @CacheEvict(cacheNames = CacheConfig.FOOD_LIST, key = "#food.user.id", condition = "#delta != 0")
+    @Transactional
+    public Food updateDayCount(Food food, long delta) {
+        // 단일 UPDATE로 증감 및 리뷰 변경 버전 증가, 반영되지 않으면(음수 등 불일치) 재집계
+        // 단식 여부 변화가 없어도(delta 0) 리뷰 변경 버전은 올려야 하므로 같은 UPDATE 실행
+        if (foodRepository.addDayCount(food.getId(), delta) == 0) {
+            return updateDayCount(food);
+        }
+        food.addDayCount(delta);
+        return food;
     }
 
     public Food findFoodById(Long foodId) {
@@ -85,19 +135,25 @@ public class FoodService {
 
     private void validateUserAuthority(Long userId, Long extractedId) {
         // 세션유저 정보 != 음식에 저장된 유저 정보일 경우 error
-        if (userId != extractedId) {
+        if (!userId.equals(extractedId)) {
             throw new ServiceException(HttpStatus.FORBIDDEN, ErrorCode.ACCESS_DENIED);
         }
     }
 
+    private RuntimeException toUserNotFound(DataIntegrityViolationException exception) {
+        // 음식을 등록할 유저가 없으면 (user_id 외래키 위반)
+        String message = exception.getMostSpecificCause().getMessage();
+        if (message != null && message.toUpperCase().contains(Food.USER_FOREIGN_KEY.toUpperCase())) {
+            return new ServiceException(HttpStatus.NOT_FOUND, ErrorCode.NOT_FOUND_USER);
+        }
+        return exception;
+    }
+
     private void validateStartDate(Long foodId, LocalDate startDate) {
         // 음식에 등록된 리뷰 중 가장 빠른 날짜보다 시작 날짜가 늦으면 error
-        List<Review> reviews = reviewRepository.findByFoodIdOrderByDateDesc(foodId);
-        if (! reviews.isEmpty()) {
-            Review firstReview = reviews.get(reviews.size() - 1);
-            if (startDate.isAfter(firstReview.getDate())) {
-                throw new ServiceException(HttpStatus.BAD_REQUEST, ErrorCode.TOO_LATE_FOOD_START_DATE);
-            }
+        Optional<LocalDate> firstReviewDate = reviewRepository.findFirstReviewDateByFoodId(foodId);
+        if (firstReviewDate.isPresent() && startDate.isAfter(firstReviewDate.get())) {
+            throw new ServiceException(HttpStatus.BAD_REQUEST, ErrorCode.TOO_LATE_FOOD_START_DATE);
         }
     }
 }
@@ -0,0 +1,59 @@
+package com.term.fastingdatecounter.domain.food.service;
+
+import com.term.fastingdatecounter.domain.food.dto.FoodStatsResponse;
+import com.term.fastingdatecounter.domain.review.dto.ReviewDateStatus;
+import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
+import com.term.fastingdatecounter.global.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// 음식별 리뷰 통계 집계 (권한 확인, 버전 조회는 FoodService.findStats)
+@RequiredArgsConstructor
+@Service
+public class FoodStatsService {
+
+    private final ReviewRepository reviewRepository;
+
+    // 리뷰 변경 버전이 같으면 캐시된 결과 사용 (리뷰를 쓰면 버전이 바뀌어 다음 조회 때 다시 집계)
+    @Cacheable(cacheNames = CacheConfig.FOOD_STATS, key = "#foodId + ':' + #reviewVersion + ':' + #startDate")
+    @Transactional(readOnly = true)
+    public FoodStatsResponse aggregate(Long foodId, LocalDate startDate, long reviewVersion) {
+        long[] weekdayReviewCounts = new long[DayOfWeek.values().length];
+        long[] weekdayFastedCounts = new long[DayOfWeek.values().length];
+        long longestGap = 0L;
+        long streakCount = 0L;
+
+        // 날짜 순으로 한 번만 읽으면서 집계 (리뷰 엔티티를 만들지 않음)
+        LocalDate previousDate = startDate.minusDays(1);
+        boolean previousFasted = false;
+        try (Stream<ReviewDateStatus> statuses = reviewRepository.streamDateStatusesByFoodId(foodId)) {
+            Iterator<ReviewDateStatus> iterator = statuses.iterator();
+            while (iterator.hasNext()) {
+                ReviewDateStatus status = iterator.next();
+                int weekday = status.getDate().getDayOfWeek().ordinal();
+                weekdayReviewCounts[weekday]++;
+
+                boolean consecutive = status.getDate().equals(previousDate.plusDays(1));
+                longestGap = Math.max(longestGap, ChronoUnit.DAYS.between(previousDate, status.getDate()) - 1);
+                if (status.isFasted()) {
+                    weekdayFastedCounts[weekday]++;
+                    // 전날 단식 성공 리뷰에 이어지지 않으면 새 연속 단식 구간 시작
+                    if (!(consecutive && previousFasted)) {
+                        streakCount++;
+                    }
+                }
+                previousDate = status.getDate();
+                previousFasted = status.isFasted();
+            }
+        }
+        return new FoodStatsResponse(foodId, weekdayReviewCounts, weekdayFastedCounts, longestGap, streakCount);
+    }
+}
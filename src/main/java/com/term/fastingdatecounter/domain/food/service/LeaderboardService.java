@@ -0,0 +1,61 @@
+package com.term.fastingdatecounter.domain.food.service;
+
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.food.domain.FoodNameIndex;
+import com.term.fastingdatecounter.domain.food.dto.FoodRankResponse;
+import com.term.fastingdatecounter.domain.food.dto.LeaderboardResponse;
+import com.term.fastingdatecounter.domain.food.dto.LeaderboardRow;
+import com.term.fastingdatecounter.domain.food.dto.LeaderboardType;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 전체 유저 순위표 (단식일수, 연속 단식일)
+// 순위는 food 테이블의 (기준, id) 인덱스를 역방향으로 조회: 단식일수/연속 단식일 갱신이 커밋되면 모든 pod에 바로 반영됨
+@RequiredArgsConstructor
+@Service
+public class LeaderboardService {
+
+    public static final int DEFAULT_LEADERBOARD_SIZE = 10;
+    public static final int MAX_LEADERBOARD_SIZE = 100;
+
+    private final FoodRepository foodRepository;
+    private final FoodService foodService;
+
+    @Transactional(readOnly = true)
+    public LeaderboardResponse findTop(LeaderboardType type, String name, int size) {
+        // 같은 값이면 나중에 등록한 음식이 앞 순위
+        // 정렬 방향을 하나로 맞춰 인덱스 역방향 스캔으로 처리 (MariaDB 10.8 미만은 인덱스의 DESC를 무시해 방향이 섞이면 filesort)
+        PageRequest pageable = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_LEADERBOARD_SIZE),
+                Sort.by(Sort.Order.desc(type.getProperty()), Sort.Order.desc("id")));
+        String nameKey = FoodNameIndex.normalize(name);
+        if (nameKey.isEmpty()) {
+            return new LeaderboardResponse(type, null, foodRepository.findLeaderboard(pageable));
+        }
+        List<LeaderboardRow> rows = foodRepository.findLeaderboardByNameKey(nameKey, pageable);
+        return new LeaderboardResponse(type, name.trim(), rows);
+    }
+
+    @Transactional(readOnly = true)
+    public FoodRankResponse findRank(Long userId, Long foodId, LeaderboardType type) {
+        Food food = foodService.findById(userId, foodId);
+        long value = type.select(food.getDayCount(), food.getCurrentStreak());
+
+        // 순위 = 앞 순위 음식 수 + 1
+        long ahead;
+        long nameAhead;
+        if (type == LeaderboardType.DAY_COUNT) {
+            ahead = foodRepository.countAheadByDayCount(value, food.getId());
+            nameAhead = foodRepository.countAheadByDayCountAndNameKey(food.getNameKey(), value, food.getId());
+        } else {
+            ahead = foodRepository.countAheadByCurrentStreak(value, food.getId());
+            nameAhead = foodRepository.countAheadByCurrentStreakAndNameKey(food.getNameKey(), value, food.getId());
+        }
+        return new FoodRankResponse(food.getId(), type, value, ahead + 1, nameAhead + 1);
+    }
+}
@@ -0,0 +1,145 @@
+package com.term.fastingdatecounter.domain.food.service;
+
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
+import com.term.fastingdatecounter.global.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 음식의 연속 단식일(current/longest streak) 관리
+// 리뷰 변경이 DB에 반영(flush)된 뒤 호출하며, 가능한 경우 저장된 상태만으로 증분 갱신하고
+// 최장 기록이 줄어들 수 있는 변경(단식 리뷰 삭제/수정 등)만 전체 재계산
+// 저장된 값을 읽어 다시 쓰므로, 호출하는 리뷰 쓰기는 음식 행을 잠근 상태여야 함 (ReviewService, 동시 쓰기의 갱신 유실 방지)
+@RequiredArgsConstructor
+@Service
+public class StreakService {
+
+    // 연속 구간 탐색 시 한 번에 읽는 날짜 수
+    private static final int RUN_SCAN_SIZE = 64;
+
+    private final ReviewRepository reviewRepository;
+
+    @CacheEvict(cacheNames = CacheConfig.FOOD_LIST, key = "#food.user.id")
+    @Transactional
+    public Food addReview(Food food, LocalDate date, boolean fasted) {
+        LocalDate lastReviewDate = food.getLastReviewDate();
+
+        // 가장 최근 리뷰 이후 날짜: 저장된 연속 기록만으로 갱신 (쿼리 없음)
+        if (lastReviewDate == null || date.isAfter(lastReviewDate)) {
+            long currentStreak = 0L;
+            if (fasted) {
+                currentStreak = date.equals(nextDay(lastReviewDate)) ? food.getCurrentStreak() + 1 : 1L;
+            }
+            food.updateStreak(currentStreak, Math.max(food.getLongestStreak(), currentStreak), date);
+            return food;
+        }
+
+        // 과거 날짜의 단식 실패 리뷰는 비어 있던 날짜를 채울 뿐 연속 구간에 영향 없음
+        if (!fasted) {
+            return food;
+        }
+
+        // 과거 날짜의 단식 성공 리뷰: 앞뒤 연속 구간과 이어 붙임
+        long before = countRunBefore(food.getId(), date);
+        long after = countRunAfter(food.getId(), date);
+        long run = before + 1 + after;
+        long currentStreak = date.plusDays(after).equals(lastReviewDate) ? run : food.getCurrentStreak();
+        food.updateStreak(currentStreak, Math.max(food.getLongestStreak(), run), lastReviewDate);
+        return food;
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.FOOD_LIST, key = "#food.user.id")
+    @Transactional
+    public Food removeReview(Food food, LocalDate date, boolean fasted) {
+        // 최근 날짜가 아닌 단식 실패 리뷰 삭제는 연속 구간에 영향 없음
+        if (!fasted && !date.equals(food.getLastReviewDate())) {
+            return food;
+        }
+        return recompute(food);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.FOOD_LIST, key = "#food.user.id")
+    @Transactional
+    public Food changeReview(Food food, LocalDate beforeDate, boolean beforeFasted, LocalDate afterDate, boolean afterFasted) {
+        // 날짜, 단식 여부 변화가 없으면 갱신하지 않음
+        if (beforeDate.equals(afterDate) && beforeFasted == afterFasted) {
+            return food;
+        }
+        // 이전 값 제거가 연속 구간에 영향이 없으면 새 값만 추가, 아니면 (이미 반영된 새 값까지 포함해) 재계산
+        if (!beforeFasted && !beforeDate.equals(food.getLastReviewDate())) {
+            return addReview(food, afterDate, afterFasted);
+        }
+        return recompute(food);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.FOOD_LIST, key = "#food.user.id")
+    @Transactional
+    public Food recompute(Food food) {
+        // 단식 성공 날짜 전체로 재계산 (fallback)
+        LocalDate lastReviewDate = reviewRepository.findLastReviewDateByFoodId(food.getId()).orElse(null);
+        List<LocalDate> fastedDates = reviewRepository.findFastedDatesByFoodId(food.getId());
+
+        long run = 0L;
+        long longestStreak = 0L;
+        LocalDate previous = null;
+        for (LocalDate date : fastedDates) {
+            run = date.equals(nextDay(previous)) ? run + 1 : 1L;
+            longestStreak = Math.max(longestStreak, run);
+            previous = date;
+        }
+        // 가장 최근 리뷰가 단식 성공이면 마지막 구간이 현재 연속 기록
+        long currentStreak = previous != null && previous.equals(lastReviewDate) ? run : 0L;
+        food.updateStreak(currentStreak, longestStreak, lastReviewDate);
+        return food;
+    }
+
+    private long countRunBefore(Long foodId, LocalDate date) {
+        // date 바로 전날부터 거꾸로 이어지는 단식 성공 일수
+        long count = 0L;
+        LocalDate expected = date.minusDays(1);
+        while (true) {
+            List<LocalDate> dates = reviewRepository.findFastedDatesBefore(
+                    foodId, expected.plusDays(1), PageRequest.of(0, RUN_SCAN_SIZE));
+            for (LocalDate fastedDate : dates) {
+                if (!fastedDate.equals(expected)) {
+                    return count;
+                }
+                count++;
+                expected = expected.minusDays(1);
+            }
+            if (dates.size() < RUN_SCAN_SIZE) {
+                return count;
+            }
+        }
+    }
+
+    private long countRunAfter(Long foodId, LocalDate date) {
+        // date 바로 다음 날부터 이어지는 단식 성공 일수
+        long count = 0L;
+        LocalDate expected = date.plusDays(1);
+        while (true) {
+            List<LocalDate> dates = reviewRepository.findFastedDatesAfter(
+                    foodId, expected.minusDays(1), PageRequest.of(0, RUN_SCAN_SIZE));
+            for (LocalDate fastedDate : dates) {
+                if (!fastedDate.equals(expected)) {
+                    return count;
+                }
+                count++;
+                expected = expected.plusDays(1);
+            }
+            if (dates.size() < RUN_SCAN_SIZE) {
+                return count;
+            }
+        }
+    }
+
+    private LocalDate nextDay(LocalDate date) {
+        return date == null ? null : date.plusDays(1);
+    }
+}
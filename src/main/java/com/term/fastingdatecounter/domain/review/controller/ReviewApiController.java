@@ -1,15 +1,21 @@
 package com.term.fastingdatecounter.domain.review.controller;
 
+import com.term.fastingdatecounter.domain.review.dto.ReviewCalendarResponse;
+import com.term.fastingdatecounter.domain.review.dto.ReviewImportRequest;
+import com.term.fastingdatecounter.domain.review.dto.ReviewImportResponse;
 import com.term.fastingdatecounter.domain.review.dto.ReviewListResponse;
 import com.term.fastingdatecounter.domain.review.dto.ReviewRequest;
 import com.term.fastingdatecounter.domain.review.domain.Review;
 import com.term.fastingdatecounter.domain.review.dto.ReviewResponse;
+import com.term.fastingdatecounter.domain.review.dto.ReviewSummaryResponse;
 import com.term.fastingdatecounter.domain.review.service.ReviewService;
 import com.term.fastingdatecounter.domain.user.dto.SessionUser;
 import com.term.fastingdatecounter.domain.user.domain.LoginUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -17,6 +23,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.validation.Valid;
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 
 @Tag(name = "리뷰(Review) API")
@@ -31,12 +38,36 @@ public class ReviewApiController {
     @GetMapping
     public ResponseEntity<ReviewListResponse> find(
             @LoginUser SessionUser user,
-            @PathVariable(name = "foodId") Long foodId
+            @PathVariable(name = "foodId") Long foodId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "" + ReviewService.DEFAULT_REVIEW_PAGE_SIZE) int size
     ){
-        List<Review> reviews = reviewService.findByFoodId(user.getId(), foodId);
+        Slice<ReviewSummaryResponse> reviews = reviewService.findByFoodId(user.getId(), foodId, cursor, size);
         return ResponseEntity.ok(new ReviewListResponse(reviews));
     }
 
+    @Operation(summary = "리뷰 달력 조회 (월별 작성/단식 여부 비트맵)")
+    @GetMapping("/calendar")
+    public ResponseEntity<ReviewCalendarResponse> findCalendar(
+            @LoginUser SessionUser user,
+            @PathVariable(name = "foodId") Long foodId,
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ){
+        return ResponseEntity.ok(reviewService.findCalendar(user.getId(), foodId, from, to));
+    }
+
+    @Operation(summary = "리뷰 단건 조회")
+    @GetMapping("/{reviewId}")
+    public ResponseEntity<ReviewResponse> findOne(
+            @LoginUser SessionUser user,
+            @PathVariable(name = "foodId") Long foodId,
+            @PathVariable(name = "reviewId") Long reviewId
+    ){
+        Review review = reviewService.findById(user.getId(), foodId, reviewId);
+        return ResponseEntity.ok(new ReviewResponse(review));
+    }
+
     @Operation(summary = "리뷰 등록")
     @PostMapping
     public ResponseEntity<ReviewResponse> save(
@@ -50,6 +81,19 @@ public class ReviewApiController {
         return ResponseEntity.created(uri).body(new ReviewResponse(review));
     }
 
+    @Operation(summary = "리뷰 일괄 등록")
+    @PostMapping("/import")
+    public ResponseEntity<ReviewImportResponse> importReviews(
+            UriComponentsBuilder uriBuilder,
+            @LoginUser SessionUser user,
+            @PathVariable(name = "foodId") Long foodId,
+            @Valid @RequestBody ReviewImportRequest reviewImportRequest
+    ){
+        URI uri = uriBuilder.path("/api/food/{foodId}/reviews").buildAndExpand(foodId).toUri();
+        List<Review> reviews = reviewService.importReviews(user.getId(), foodId, reviewImportRequest.getReviews());
+        return ResponseEntity.created(uri).body(new ReviewImportResponse(reviews.get(0).getFood(), reviews));
+    }
+
     @Operation(summary = "리뷰 수정")
     @PutMapping("/{reviewId}")
     public ResponseEntity<ReviewResponse> update(
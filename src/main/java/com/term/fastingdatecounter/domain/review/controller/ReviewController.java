@@ -17,9 +17,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Tag(name = "리뷰 관련 페이지")
 @RequiredArgsConstructor
 @RequestMapping("/food/{foodId}/reviews")
@@ -36,15 +33,11 @@ public class ReviewController {
             @PathVariable(name = "foodId") Long foodId,
             @LoginUser SessionUser user
     ){
-        List<Review> reviewList = reviewService.findByFoodId(user.getId(), foodId); // find review list by session user id
-        List<ReviewResponse> reviewListResponse = reviewList.stream()
-                .map(ReviewResponse::new)
-                .collect(Collectors.toList());
-        Food food = foodService.findById(foodId);
+        // 리뷰 목록은 페이지 단위로 /api/food/{foodId}/reviews 에서 불러옴
+        Food food = foodService.findById(user.getId(), foodId);
 
         model.addAttribute("food", new FoodResponse(food));
         model.addAttribute("user", user);
-        model.addAttribute("reviewList", reviewListResponse);
         return "review";
     }
 
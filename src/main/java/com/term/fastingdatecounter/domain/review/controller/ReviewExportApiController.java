@@ -0,0 +1,46 @@
+package com.term.fastingdatecounter.domain.review.controller;
+
+import com.term.fastingdatecounter.domain.review.dto.ReviewExportFormat;
+import com.term.fastingdatecounter.domain.review.service.ReviewExportService;
+import com.term.fastingdatecounter.domain.user.domain.LoginUser;
+import com.term.fastingdatecounter.domain.user.dto.SessionUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "리뷰(Review) API")
+@RequiredArgsConstructor
+@RequestMapping("/api/reviews/export")
+@RestController
+public class ReviewExportApiController {
+
+    private final ReviewExportService reviewExportService;
+
+    @Operation(summary = "전체 음식/리뷰 내보내기 (ndjson, csv)")
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @LoginUser SessionUser user,
+            @RequestParam(name = "format", defaultValue = "ndjson") String format
+    ){
+        ReviewExportFormat exportFormat = ReviewExportFormat.of(format);
+        Long userId = user.getId();
+        StreamingResponseBody body = outputStream -> reviewExportService.export(userId, exportFormat, outputStream);
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("fasting-history." + exportFormat.getExtension())
+                .build();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(body);
+    }
+}
@@ -0,0 +1,35 @@
+package com.term.fastingdatecounter.domain.review.controller;
+
+import com.term.fastingdatecounter.domain.review.dto.ReviewSearchResponse;
+import com.term.fastingdatecounter.domain.review.service.ReviewSearchService;
+import com.term.fastingdatecounter.domain.review.service.ReviewService;
+import com.term.fastingdatecounter.domain.user.domain.LoginUser;
+import com.term.fastingdatecounter.domain.user.dto.SessionUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "리뷰(Review) API")
+@RequiredArgsConstructor
+@RequestMapping("/api/reviews/search")
+@RestController
+public class ReviewSearchApiController {
+
+    private final ReviewSearchService reviewSearchService;
+
+    @Operation(summary = "내 리뷰 검색 (제목, 내용)")
+    @GetMapping
+    public ResponseEntity<ReviewSearchResponse> search(
+            @LoginUser SessionUser user,
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "" + ReviewService.DEFAULT_REVIEW_PAGE_SIZE) int size
+    ){
+        return ResponseEntity.ok(reviewSearchService.search(user.getId(), query, page, size));
+    }
+}
@@ -16,10 +16,19 @@ import java.time.LocalDate;
 @DynamicUpdate
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = Review.FOOD_DATE_UNIQUE_KEY, columnNames = {"food_id", "date"}),
+        indexes = @Index(name = "IDX_review_created_at", columnList = "created_at"))
 public class Review extends BaseTimeEntity {
 
+    public static final String FOOD_DATE_UNIQUE_KEY = "UK_review_food_id_date";
+
+    // 시퀀스 한 번 조회로 할당받는 id 개수 (hibernate.jdbc.batch_size와 동일하게 유지)
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY는 insert마다 즉시 실행되어 JDBC batch가 불가능하므로 시퀀스(pooled) 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_seq_generator")
+    @SequenceGenerator(name = "review_seq_generator", sequenceName = "review_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,74 @@
+package com.term.fastingdatecounter.domain.review.domain;
+
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+// 리뷰 검색용 역색인 (유저별 토큰 -> 리뷰), 리뷰 등록/수정/삭제 시 ReviewSearchService가 갱신
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@IdClass(ReviewToken.Key.class)
+@Table(name = "review_token", indexes = @Index(name = "IDX_review_token_user_id_token", columnList = "user_id, token, review_id"))
+public class ReviewToken implements Persistable<ReviewToken.Key> {
+
+    public static final int MAX_TOKEN_LENGTH = 30;
+
+    @Id
+    @Column(name = "review_id")
+    private Long reviewId;
+
+    @Id
+    @Column(length = MAX_TOKEN_LENGTH)
+    private String token;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 리뷰 안에서의 가중 빈도 (제목은 TITLE_WEIGHT배), 검색 순위 점수로 사용
+    @Column(nullable = false)
+    private int frequency;
+
+    // 저장/조회된 토큰인지 (새 토큰은 merge 전 select 없이 바로 insert)
+    @Getter(AccessLevel.NONE)
+    @Transient
+    private boolean persisted;
+
+    @Builder
+    public ReviewToken(Long reviewId, String token, Long userId, int frequency) {
+        this.reviewId = reviewId;
+        this.token = token;
+        this.userId = userId;
+        this.frequency = frequency;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(reviewId, token);
+    }
+
+    public void updateFrequency(int frequency) {
+        this.frequency = frequency;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long reviewId;
+        private String token;
+    }
+}
@@ -0,0 +1,82 @@
+package com.term.fastingdatecounter.domain.review.domain;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// 리뷰 검색 토큰화
+// 글자/숫자가 이어진 구간 단위로 나누고, 한글(한자, 가나 포함)이 있는 구간은 두 글자씩 겹치는 bigram으로,
+// 그 외 구간은 소문자 단어 하나로 토큰화 (조사가 붙은 "두통이"도 "두통"으로 검색 가능)
+// 색인할 때는 한글 구간의 글자 하나씩(unigram)도 함께 저장해서 "물" 같은 한 글자 검색어도 "물을"에 매칭
+public final class ReviewTokenizer {
+
+    public static final int TITLE_WEIGHT = 2;
+
+    private ReviewTokenizer() {
+    }
+
+    // 리뷰 색인 토큰 (bigram + unigram)
+    public static Map<String, Integer> tokenize(String title, String content) {
+        Map<String, Integer> tokens = new LinkedHashMap<>();
+        addTokens(tokens, title, TITLE_WEIGHT, true);
+        addTokens(tokens, content, 1, true);
+        return tokens;
+    }
+
+    // 검색어 토큰 (두 글자 이상 한글 구간은 bigram만, 한 글자는 unigram)
+    public static Map<String, Integer> tokenizeQuery(String text) {
+        Map<String, Integer> tokens = new LinkedHashMap<>();
+        addTokens(tokens, text, 1, false);
+        return tokens;
+    }
+
+    private static void addTokens(Map<String, Integer> tokens, String text, int weight, boolean unigrams) {
+        if (text == null) {
+            return;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+        int start = 0;
+        while (start < codePoints.length) {
+            if (!Character.isLetterOrDigit(codePoints[start])) {
+                start++;
+                continue;
+            }
+            int end = start;
+            boolean cjk = false;
+            while (end < codePoints.length && Character.isLetterOrDigit(codePoints[end])) {
+                cjk |= isCjk(codePoints[end]);
+                end++;
+            }
+            if (cjk && end - start > 1) {
+                for (int i = start; i + 1 < end; i++) {
+                    addToken(tokens, new String(codePoints, i, 2), weight);
+                }
+                if (unigrams) {
+                    for (int i = start; i < end; i++) {
+                        addToken(tokens, new String(codePoints, i, 1), weight);
+                    }
+                }
+            } else {
+                addToken(tokens, new String(codePoints, start, end - start), weight);
+            }
+            start = end;
+        }
+    }
+
+    private static void addToken(Map<String, Integer> tokens, String token, int weight) {
+        String truncated = token.length() > ReviewToken.MAX_TOKEN_LENGTH
+                ? token.substring(0, ReviewToken.MAX_TOKEN_LENGTH)
+                : token;
+        tokens.merge(truncated, weight, Integer::sum);
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,67 @@
+package com.term.fastingdatecounter.domain.review.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+// 월별 리뷰 작성/단식 여부 비트맵
+// 각 비트맵은 해당 월 1일이 0번 비트인 little-endian 비트 배열 (byte i의 k번째 하위 비트 = (8i + k + 1)일)을 base64로 인코딩
+@Getter
+public class ReviewCalendarResponse {
+
+    // 한 번에 조회할 수 있는 최대 월 수
+    public static final int MAX_MONTHS = 12;
+
+    @JsonFormat(pattern = "yyyy-MM-dd", shape = JsonFormat.Shape.STRING)
+    private final LocalDate from;
+
+    @JsonFormat(pattern = "yyyy-MM-dd", shape = JsonFormat.Shape.STRING)
+    private final LocalDate to;
+
+    private final List<Month> months;
+
+    public ReviewCalendarResponse(LocalDate from, LocalDate to, List<ReviewDateStatus> statuses) {
+        this.from = from;
+        this.to = to;
+        this.months = new ArrayList<>();
+
+        // 기간에 걸친 월마다 비트맵 생성 (기간 밖의 날짜는 0)
+        int index = 0;
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            byte[] reviewed = new byte[(month.lengthOfMonth() + 7) / 8];
+            byte[] fasted = new byte[reviewed.length];
+            while (index < statuses.size() && YearMonth.from(statuses.get(index).getDate()).equals(month)) {
+                ReviewDateStatus status = statuses.get(index++);
+                int day = status.getDate().getDayOfMonth() - 1;
+                reviewed[day / 8] |= (byte) (1 << (day % 8));
+                if (status.isFasted()) {
+                    fasted[day / 8] |= (byte) (1 << (day % 8));
+                }
+            }
+            months.add(new Month(month, reviewed, fasted));
+        }
+    }
+
+    @Getter
+    public static class Month {
+
+        @JsonFormat(pattern = "yyyy-MM", shape = JsonFormat.Shape.STRING)
+        private final YearMonth month;
+
+        private final int days;
+        private final String reviewed;
+        private final String fasted;
+
+        private Month(YearMonth month, byte[] reviewed, byte[] fasted) {
+            this.month = month;
+            this.days = month.lengthOfMonth();
+            this.reviewed = Base64.getEncoder().encodeToString(reviewed);
+            this.fasted = Base64.getEncoder().encodeToString(fasted);
+        }
+    }
+}
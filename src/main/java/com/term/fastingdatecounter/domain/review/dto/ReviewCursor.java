@@ -0,0 +1,50 @@
+package com.term.fastingdatecounter.domain.review.dto;
+
+import com.term.fastingdatecounter.global.exception.ErrorCode;
+import com.term.fastingdatecounter.global.exception.ServiceException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Keyset position (date, id) of the last review on a page.
+ */
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReviewCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDate date;
+    private final Long id;
+
+    public static ReviewCursor of(ReviewSummaryResponse review) {
+        return new ReviewCursor(review.getDate(), review.getId());
+    }
+
+    // 클라이언트가 전달한 커서 토큰 해석, 형식이 잘못되면 error
+    public static ReviewCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            if (values.length != 2) {
+                throw new IllegalArgumentException(decoded);
+            }
+            return new ReviewCursor(LocalDate.parse(values[0]), Long.valueOf(values[1]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new ServiceException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_REVIEW_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String value = date + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
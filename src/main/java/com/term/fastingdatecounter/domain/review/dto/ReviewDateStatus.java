@@ -0,0 +1,18 @@
+package com.term.fastingdatecounter.domain.review.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 달력 조회용 리뷰 날짜 + 단식 여부
+@Getter
+public class ReviewDateStatus {
+
+    private final LocalDate date;
+    private final boolean fasted;
+
+    public ReviewDateStatus(LocalDate date, boolean fasted) {
+        this.date = date;
+        this.fasted = fasted;
+    }
+}
@@ -0,0 +1,52 @@
+package com.term.fastingdatecounter.domain.review.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.review.domain.Review;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+// 내보내기 한 줄 (음식 + 리뷰), 리뷰가 없는 음식은 리뷰 항목이 비어 있음
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReviewExportRow {
+
+    public static final List<String> CSV_HEADER = Arrays.asList(
+            "foodId", "foodName", "startDate", "dayCount", "reviewId", "date", "title", "content", "fasted");
+
+    private final Long foodId;
+    private final String foodName;
+
+    @JsonFormat(pattern = "yyyy-MM-dd", shape = JsonFormat.Shape.STRING)
+    private final LocalDate startDate;
+
+    private final Long dayCount;
+    private final Long reviewId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd", shape = JsonFormat.Shape.STRING)
+    private final LocalDate date;
+
+    private final String title;
+    private final String content;
+    private final Boolean fasted;
+
+    public ReviewExportRow(Food food, Review review) {
+        this.foodId = food.getId();
+        this.foodName = food.getName();
+        this.startDate = food.getStartDate();
+        this.dayCount = food.getDayCount();
+        this.reviewId = review == null ? null : review.getId();
+        this.date = review == null ? null : review.getDate();
+        this.title = review == null ? null : review.getTitle();
+        this.content = review == null ? null : review.getContent();
+        this.fasted = review == null ? null : review.isFasted();
+    }
+
+    public List<Object> toCsvValues() {
+        return Arrays.asList(foodId, foodName, startDate, dayCount, reviewId, date, title, content, fasted);
+    }
+}
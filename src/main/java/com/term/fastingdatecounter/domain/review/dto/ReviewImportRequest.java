@@ -0,0 +1,27 @@
+package com.term.fastingdatecounter.domain.review.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ReviewImportRequest {
+
+    public static final int MAX_IMPORT_SIZE = 1000;
+
+    @Valid
+    @NotEmpty(message = "EMPTY_REVIEW_IMPORT")
+    @Size(max = MAX_IMPORT_SIZE, message = "TOO_MANY_REVIEW_IMPORT")
+    private List<ReviewRequest> reviews;
+
+    @Builder
+    public ReviewImportRequest(List<ReviewRequest> reviews) {
+        this.reviews = reviews;
+    }
+}
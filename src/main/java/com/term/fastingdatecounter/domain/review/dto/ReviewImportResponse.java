@@ -0,0 +1,19 @@
+package com.term.fastingdatecounter.domain.review.dto;
+
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.review.domain.Review;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ReviewImportResponse {
+
+    private final int importedCount;
+    private final Long dayCount;
+
+    public ReviewImportResponse(Food food, List<Review> reviews) {
+        this.importedCount = reviews.size();
+        this.dayCount = food.getDayCount();
+    }
+}
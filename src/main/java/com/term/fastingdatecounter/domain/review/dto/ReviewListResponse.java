@@ -1,19 +1,20 @@
 package com.term.fastingdatecounter.domain.review.dto;
 
-import com.term.fastingdatecounter.domain.review.domain.Review;
 import lombok.Getter;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 public class ReviewListResponse {
 
-    private final List<ReviewResponse> reviewList;
+    private final List<ReviewSummaryResponse> reviewList;
+    private final String nextCursor; // 다음 페이지가 없으면 null
 
-    public ReviewListResponse(List<Review> reviewList) {
-        this.reviewList = reviewList.stream()
-                .map(ReviewResponse::new)
-                .collect(Collectors.toList());
+    public ReviewListResponse(Slice<ReviewSummaryResponse> reviewSlice) {
+        this.reviewList = reviewSlice.getContent();
+        this.nextCursor = reviewSlice.hasNext()
+                ? ReviewCursor.of(reviewList.get(reviewList.size() - 1)).encode()
+                : null;
     }
 }
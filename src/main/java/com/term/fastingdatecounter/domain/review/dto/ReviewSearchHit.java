@@ -0,0 +1,16 @@
+package com.term.fastingdatecounter.domain.review.dto;
+
+import lombok.Getter;
+
+// 검색어 토큰을 모두 포함한 리뷰와 점수 (토큰 가중 빈도 합)
+@Getter
+public class ReviewSearchHit {
+
+    private final Long reviewId;
+    private final long score;
+
+    public ReviewSearchHit(Long reviewId, Long score) {
+        this.reviewId = reviewId;
+        this.score = score;
+    }
+}
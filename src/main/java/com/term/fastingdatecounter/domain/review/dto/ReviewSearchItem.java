@@ -0,0 +1,31 @@
+package com.term.fastingdatecounter.domain.review.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 검색 결과 항목 (음식 정보 + 리뷰 요약)
+@Getter
+public class ReviewSearchItem {
+
+    private final Long id;
+    private final Long foodId;
+    @JsonFormat(pattern = "yyyy-MM-dd", shape = JsonFormat.Shape.STRING)
+    private final LocalDate date;
+    private final String title;
+    private final String content;
+    private final boolean contentTruncated;
+    private final boolean fasted;
+
+    // JPQL constructor expression 용 생성자
+    public ReviewSearchItem(Long id, Long foodId, LocalDate date, String title, String content, int contentLength, boolean fasted) {
+        this.id = id;
+        this.foodId = foodId;
+        this.date = date;
+        this.title = title;
+        this.content = content;
+        this.contentTruncated = contentLength > ReviewSummaryResponse.CONTENT_PREVIEW_LENGTH;
+        this.fasted = fasted;
+    }
+}
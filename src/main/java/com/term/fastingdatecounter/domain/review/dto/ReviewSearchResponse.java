@@ -0,0 +1,17 @@
+package com.term.fastingdatecounter.domain.review.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ReviewSearchResponse {
+
+    private final List<ReviewSearchItem> reviewList; // 점수 높은 순
+    private final boolean hasNext;
+
+    public ReviewSearchResponse(List<ReviewSearchItem> reviewList, boolean hasNext) {
+        this.reviewList = reviewList;
+        this.hasNext = hasNext;
+    }
+}
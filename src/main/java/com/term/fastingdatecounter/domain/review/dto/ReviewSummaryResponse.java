@@ -0,0 +1,35 @@
+package com.term.fastingdatecounter.domain.review.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Review list item projected straight from the review table (no entity, no food proxy).
+ * Content is cut to CONTENT_PREVIEW_LENGTH in SQL; the full review is served by the single review API.
+ */
+
+@Getter
+public class ReviewSummaryResponse {
+
+    public static final int CONTENT_PREVIEW_LENGTH = 100;
+
+    private final Long id;
+    @JsonFormat(pattern = "yyyy-MM-dd", shape = JsonFormat.Shape.STRING)
+    private final LocalDate date;
+    private final String title;
+    private final String content;
+    private final boolean contentTruncated;
+    private final boolean fasted;
+
+    // JPQL constructor expression 용 생성자
+    public ReviewSummaryResponse(Long id, LocalDate date, String title, String content, int contentLength, boolean fasted) {
+        this.id = id;
+        this.date = date;
+        this.title = title;
+        this.content = content;
+        this.contentTruncated = contentLength > CONTENT_PREVIEW_LENGTH;
+        this.fasted = fasted;
+    }
+}
@@ -1,16 +1,132 @@
 package com.term.fastingdatecounter.domain.review.repository;
 
 import com.term.fastingdatecounter.domain.review.domain.Review;
+import com.term.fastingdatecounter.domain.review.dto.ReviewDateStatus;
+import com.term.fastingdatecounter.domain.review.dto.ReviewSearchItem;
+import com.term.fastingdatecounter.domain.review.dto.ReviewSummaryResponse;
+import com.term.fastingdatecounter.domain.stats.dto.FoodDate;
+import com.term.fastingdatecounter.domain.stats.dto.ReviewActivity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
+    // 내보내기 시 한 번에 가져오는 행 수
+    String EXPORT_FETCH_SIZE = "500";
+
+    // 목록 조회 시 필요한 컬럼만 선택 (내용은 미리보기 길이만큼 잘라서 조회)
+    String SUMMARY_COLUMNS = "r.id, r.date, r.title, " +
+            "substring(r.content, 1, " + ReviewSummaryResponse.CONTENT_PREVIEW_LENGTH + "), length(r.content), r.fasted";
+
     List<Review> findByFoodIdOrderByDateDesc(Long foodId);
     Optional<Review> findByFoodIdAndDate(Long foodId, LocalDate date);
 
     Long countByFoodIdAndFastedIsTrue(Long foodId);
+
+    // 음식의 가장 빠른 리뷰 날짜 ((food_id, date) 인덱스로 조회)
+    @Query("select min(r.date) from Review r where r.food.id = :foodId")
+    Optional<LocalDate> findFirstReviewDateByFoodId(@Param("foodId") Long foodId);
+
+    // 음식의 가장 최근 리뷰 날짜
+    @Query("select max(r.date) from Review r where r.food.id = :foodId")
+    Optional<LocalDate> findLastReviewDateByFoodId(@Param("foodId") Long foodId);
+
+    // 단식 성공 리뷰 날짜 전체 (연속 단식일 재계산용, 날짜만 조회)
+    @Query("select r.date from Review r where r.food.id = :foodId and r.fasted = true order by r.date")
+    List<LocalDate> findFastedDatesByFoodId(@Param("foodId") Long foodId);
+
+    // 기준 날짜 이전의 단식 성공 리뷰 날짜 (최근 순)
+    @Query("select r.date from Review r where r.food.id = :foodId and r.fasted = true and r.date < :date " +
+            "order by r.date desc")
+    List<LocalDate> findFastedDatesBefore(@Param("foodId") Long foodId, @Param("date") LocalDate date, Pageable pageable);
+
+    // 기준 날짜 이후의 단식 성공 리뷰 날짜 (오래된 순)
+    @Query("select r.date from Review r where r.food.id = :foodId and r.fasted = true and r.date > :date " +
+            "order by r.date")
+    List<LocalDate> findFastedDatesAfter(@Param("foodId") Long foodId, @Param("date") LocalDate date, Pageable pageable);
+
+    // 기간 내 리뷰 날짜와 단식 여부 ((food_id, date) 인덱스 범위 조회)
+    @Query("select new com.term.fastingdatecounter.domain.review.dto.ReviewDateStatus(r.date, r.fasted) " +
+            "from Review r where r.food.id = :foodId and r.date between :from and :to " +
+            "order by r.date")
+    List<ReviewDateStatus> findDateStatusesByFoodIdAndDateBetween(@Param("foodId") Long foodId,
+                                                                 @Param("from") LocalDate from,
+                                                                 @Param("to") LocalDate to);
+
+    // 음식의 전체 리뷰 날짜와 단식 여부 (날짜 순) - 커서로 읽으면서 통계 집계, 트랜잭션 안에서만 사용
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = EXPORT_FETCH_SIZE))
+    @Query("select new com.term.fastingdatecounter.domain.review.dto.ReviewDateStatus(r.date, r.fasted) " +
+            "from Review r where r.food.id = :foodId order by r.date")
+    Stream<ReviewDateStatus> streamDateStatusesByFoodId(@Param("foodId") Long foodId);
+
+    // 기간 내 작성된 리뷰 수, 단식 성공 수, 작성 유저 수 (created_at 인덱스 범위 조회, 일별 집계용)
+    @Query("select new com.term.fastingdatecounter.domain.stats.dto.ReviewActivity(" +
+            "count(r), sum(case when r.fasted = true then 1 else 0 end), count(distinct f.user.id)) " +
+            "from Review r join r.food f where r.createdAt >= :from and r.createdAt < :to")
+    ReviewActivity countWrittenBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select new com.term.fastingdatecounter.domain.stats.dto.ReviewActivity(" +
+            "f.nameKey, count(r), sum(case when r.fasted = true then 1 else 0 end), count(distinct f.user.id)) " +
+            "from Review r join r.food f where r.createdAt >= :from and r.createdAt < :to " +
+            "group by f.nameKey")
+    List<ReviewActivity> countWrittenBetweenByNameKey(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select min(r.createdAt) from Review r")
+    Optional<LocalDateTime> findFirstCreatedAt();
+
+    // 음식 id 범위 내 음식별 첫 단식 실패 날짜 ((food_id, date) 인덱스 범위 조회, 코호트 집계용)
+    @Query("select new com.term.fastingdatecounter.domain.stats.dto.FoodDate(r.food.id, min(r.date)) " +
+            "from Review r where r.food.id between :fromId and :toId and r.fasted = false " +
+            "group by r.food.id")
+    List<FoodDate> findFirstFailureDatesByFoodIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 검색 결과 리뷰 요약 (음식 id 포함)
+    @Query("select new com.term.fastingdatecounter.domain.review.dto.ReviewSearchItem(" +
+            "r.id, r.food.id, r.date, r.title, substring(r.content, 1, " + ReviewSummaryResponse.CONTENT_PREVIEW_LENGTH + "), " +
+            "length(r.content), r.fasted) " +
+            "from Review r where r.id in :ids")
+    List<ReviewSearchItem> findSearchItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 리뷰 + 음식 fetch join, 요청한 음식의 리뷰이고 음식 작성자가 세션 유저인 경우에만 조회
+    @Query("select r from Review r join fetch r.food f " +
+            "where r.id = :reviewId and f.id = :foodId and f.user.id = :userId")
+    Optional<Review> findByIdAndFoodIdAndUserId(@Param("reviewId") Long reviewId,
+                                                @Param("foodId") Long foodId,
+                                                @Param("userId") Long userId);
+
+    // 리뷰 목록 첫 페이지 (날짜, 아이디 내림차순)
+    @Query("select new com.term.fastingdatecounter.domain.review.dto.ReviewSummaryResponse(" + SUMMARY_COLUMNS + ") " +
+            "from Review r where r.food.id = :foodId " +
+            "order by r.date desc, r.id desc")
+    Slice<ReviewSummaryResponse> findPageByFoodId(@Param("foodId") Long foodId, Pageable pageable);
+
+    // 커서(date, id) 이후의 리뷰 목록 페이지
+    @Query("select new com.term.fastingdatecounter.domain.review.dto.ReviewSummaryResponse(" + SUMMARY_COLUMNS + ") " +
+            "from Review r where r.food.id = :foodId " +
+            "and (r.date < :date or (r.date = :date and r.id < :id)) " +
+            "order by r.date desc, r.id desc")
+    Slice<ReviewSummaryResponse> findPageByFoodIdAfter(@Param("foodId") Long foodId,
+                                                       @Param("date") LocalDate date,
+                                                       @Param("id") Long id,
+                                                       Pageable pageable);
+
+    // 유저의 전체 리뷰 (음식, 날짜 순) - 커서로 읽으면서 바로 내보내기, 트랜잭션 안에서만 사용
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("select r from Review r where r.food.user.id = :userId order by r.food.id, r.date")
+    Stream<Review> streamByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,45 @@
+package com.term.fastingdatecounter.domain.review.repository;
+
+import com.term.fastingdatecounter.domain.review.domain.ReviewToken;
+import com.term.fastingdatecounter.domain.review.dto.ReviewSearchHit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ReviewTokenRepository extends JpaRepository<ReviewToken, ReviewToken.Key> {
+
+    List<ReviewToken> findByReviewId(Long reviewId);
+
+    @Modifying
+    @Query("delete from ReviewToken t where t.reviewId = :reviewId")
+    int deleteByReviewId(@Param("reviewId") Long reviewId);
+
+    // 유저의 리뷰 중 토큰을 포함한 리뷰 수, limit개까지만 셈 (검색어 중 가장 드문 토큰 선택용, 흔한 토큰도 비용이 limit으로 제한됨)
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM review_token " +
+            "WHERE user_id = :userId AND token = :token LIMIT :limit) t", nativeQuery = true)
+    long countByUserIdAndTokenUpTo(@Param("userId") Long userId,
+                                   @Param("token") String token,
+                                   @Param("limit") int limit);
+
+    // 토큰을 포함한 리뷰 id, 최근 리뷰부터 ((user_id, token, review_id) 인덱스 역순), 검색 후보
+    @Query("select t.reviewId from ReviewToken t where t.userId = :userId and t.token = :token order by t.reviewId desc")
+    List<Long> findReviewIdsByUserIdAndToken(@Param("userId") Long userId,
+                                             @Param("token") String token,
+                                             Pageable pageable);
+
+    // 후보 리뷰 중 검색어 토큰을 모두 포함한 리뷰 (리뷰 id + 토큰 pk 조회), 가중 빈도 합 순
+    @Query("select new com.term.fastingdatecounter.domain.review.dto.ReviewSearchHit(t.reviewId, sum(t.frequency)) " +
+            "from ReviewToken t where t.reviewId in :reviewIds and t.token in :tokens " +
+            "group by t.reviewId having count(t.token) = :tokenCount " +
+            "order by sum(t.frequency) desc, t.reviewId desc")
+    Slice<ReviewSearchHit> search(@Param("reviewIds") Collection<Long> reviewIds,
+                                  @Param("tokens") Collection<String> tokens,
+                                  @Param("tokenCount") long tokenCount,
+                                  Pageable pageable);
+}
@@ -0,0 +1,114 @@
+package com.term.fastingdatecounter.domain.review.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import com.term.fastingdatecounter.domain.review.domain.Review;
+import com.term.fastingdatecounter.domain.review.dto.ReviewExportFormat;
+import com.term.fastingdatecounter.domain.review.dto.ReviewExportRow;
+import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+@Service
+public class ReviewExportService {
+
+    // 스프레드시트가 수식으로 해석하는 시작 문자 (CSV injection)
+    private static final String CSV_FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final FoodRepository foodRepository;
+    private final ReviewRepository reviewRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(Long userId, ReviewExportFormat format, OutputStream outputStream) throws IOException {
+        // 음식 목록은 유저당 수가 적으므로 한 번에 조회, 리뷰가 없는 음식 구분에 사용
+        Map<Long, Food> foodMap = foodRepository.findByUserId(userId).stream()
+                .sorted(Comparator.comparing(Food::getId))
+                .collect(Collectors.toMap(Food::getId, food -> food, (a, b) -> a, LinkedHashMap::new));
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ReviewExportFormat.CSV) {
+            writeCsvLine(writer, ReviewExportRow.CSV_HEADER);
+        }
+
+        Set<Long> exportedFoodIds = new HashSet<>();
+
+        // 리뷰는 리스트로 모으지 않고 한 행씩 읽어서 바로 쓰고, 쓴 리뷰는 영속성 컨텍스트에서 분리
+        try (Stream<Review> reviews = reviewRepository.streamByUserId(userId)) {
+            Iterator<Review> iterator = reviews.iterator();
+            while (iterator.hasNext()) {
+                Review review = iterator.next();
+                Food food = foodMap.get(review.getFood().getId());
+                if (food != null) {
+                    writeRow(writer, format, new ReviewExportRow(food, review));
+                    exportedFoodIds.add(food.getId());
+                }
+                entityManager.detach(review);
+            }
+        }
+
+        // 리뷰가 없는 음식은 음식 정보만 기록
+        for (Food food : foodMap.values()) {
+            if (!exportedFoodIds.contains(food.getId())) {
+                writeRow(writer, format, new ReviewExportRow(food, null));
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeRow(Writer writer, ReviewExportFormat format, ReviewExportRow row) throws IOException {
+        if (format == ReviewExportFormat.CSV) {
+            writeCsvLine(writer, row.toCsvValues());
+            return;
+        }
+        writer.write(objectMapper.writeValueAsString(row));
+        writer.write('\n');
+    }
+
+    private void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        // 수식 시작 문자로 시작하는 텍스트(음식명, 제목, 내용)는 앞에 '를 붙여 문자열로만 표시되게 함
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && CSV_FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        // 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감싸고 내부 따옴표는 두 번 씀
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
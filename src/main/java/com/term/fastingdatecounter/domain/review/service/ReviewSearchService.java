@@ -0,0 +1,138 @@
+package com.term.fastingdatecounter.domain.review.service;
+
+import com.term.fastingdatecounter.domain.review.domain.Review;
+import com.term.fastingdatecounter.domain.review.domain.ReviewToken;
+import com.term.fastingdatecounter.domain.review.domain.ReviewTokenizer;
+import com.term.fastingdatecounter.domain.review.dto.ReviewSearchHit;
+import com.term.fastingdatecounter.domain.review.dto.ReviewSearchItem;
+import com.term.fastingdatecounter.domain.review.dto.ReviewSearchResponse;
+import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
+import com.term.fastingdatecounter.domain.review.repository.ReviewTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 리뷰 제목/내용 검색
+// 역색인은 DB 테이블(review_token)에 유지: 여러 pod가 같은 DB를 쓰므로 pod 메모리 색인은 다른 pod의 쓰기를 반영하지 못함
+// 검색은 검색어 중 가장 드문 토큰을 포함한 최근 리뷰 max-candidates개를 후보로 두고, 후보 안에서만 점수를 계산
+// (흔한 글자 하나로 검색해도 유저의 전체 리뷰를 집계/정렬하지 않음, 흔한 토큰만으로 된 검색어는 최근 리뷰에서만 찾음)
+@RequiredArgsConstructor
+@Service
+public class ReviewSearchService {
+
+    public static final int MAX_QUERY_TOKENS = 10;
+
+    private final ReviewTokenRepository reviewTokenRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Value("${review-search.max-candidates:1000}")
+    private int maxCandidates;
+
+    @Transactional
+    public void index(Review review) {
+        reviewTokenRepository.saveAll(toTokens(review));
+    }
+
+    @Transactional
+    public void indexAll(Collection<Review> reviews) {
+        List<ReviewToken> tokens = new ArrayList<>();
+        for (Review review : reviews) {
+            tokens.addAll(toTokens(review));
+        }
+        reviewTokenRepository.saveAll(tokens);
+    }
+
+    @Transactional
+    public void reindex(Review review) {
+        // 기존 토큰과 비교해서 없어진 토큰은 삭제, 빈도가 바뀐 토큰은 수정, 새 토큰만 추가
+        // (bulk delete 후 같은 키를 다시 insert하면 영속성 컨텍스트에 남은 이전 토큰과 충돌)
+        Map<String, ReviewToken> before = reviewTokenRepository.findByReviewId(review.getId()).stream()
+                .collect(Collectors.toMap(ReviewToken::getToken, Function.identity()));
+        List<ReviewToken> added = new ArrayList<>();
+        for (ReviewToken token : toTokens(review)) {
+            ReviewToken existing = before.remove(token.getToken());
+            if (existing == null) {
+                added.add(token);
+            } else if (existing.getFrequency() != token.getFrequency()) {
+                existing.updateFrequency(token.getFrequency());
+            }
+        }
+        reviewTokenRepository.deleteAll(before.values());
+        reviewTokenRepository.saveAll(added);
+    }
+
+    @Transactional
+    public void remove(Review review) {
+        reviewTokenRepository.deleteByReviewId(review.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public ReviewSearchResponse search(Long userId, String query, int page, int size) {
+        // 검색어 토큰이 없으면 빈 결과, 너무 긴 검색어는 앞쪽 토큰만 사용
+        Set<String> tokens = ReviewTokenizer.tokenizeQuery(query).keySet().stream()
+                .limit(MAX_QUERY_TOKENS)
+                .collect(Collectors.toSet());
+        if (tokens.isEmpty()) {
+            return new ReviewSearchResponse(Collections.emptyList(), false);
+        }
+
+        // 가장 드문 토큰으로 후보 리뷰를 제한
+        List<Long> candidates = reviewTokenRepository.findReviewIdsByUserIdAndToken(userId, rarestToken(userId, tokens),
+                PageRequest.of(0, maxCandidates));
+        if (candidates.isEmpty()) {
+            return new ReviewSearchResponse(Collections.emptyList(), false);
+        }
+
+        // 후보 중 토큰을 모두 포함한 리뷰 id를 점수 순으로 조회한 뒤, 해당 페이지의 리뷰 요약만 조회해서 점수 순으로 정렬
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), ReviewService.MAX_REVIEW_PAGE_SIZE));
+        Slice<ReviewSearchHit> hits = reviewTokenRepository.search(candidates, tokens, tokens.size(), pageable);
+        if (!hits.hasContent()) {
+            return new ReviewSearchResponse(Collections.emptyList(), false);
+        }
+        List<Long> reviewIds = hits.stream()
+                .map(ReviewSearchHit::getReviewId)
+                .collect(Collectors.toList());
+        Map<Long, ReviewSearchItem> items = reviewRepository.findSearchItemsByIdIn(reviewIds).stream()
+                .collect(Collectors.toMap(ReviewSearchItem::getId, Function.identity()));
+        List<ReviewSearchItem> reviewList = reviewIds.stream()
+                .map(items::get)
+                .collect(Collectors.toList());
+        return new ReviewSearchResponse(reviewList, hits.hasNext());
+    }
+
+    private String rarestToken(Long userId, Set<String> tokens) {
+        // 토큰이 하나면 세지 않음, 여러 개면 토큰별 리뷰 수를 max-candidates + 1개까지만 세서 비교
+        if (tokens.size() == 1) {
+            return tokens.iterator().next();
+        }
+        return tokens.stream()
+                .min(Comparator.comparingLong(token ->
+                        reviewTokenRepository.countByUserIdAndTokenUpTo(userId, token, maxCandidates + 1)))
+                .orElseThrow();
+    }
+
+    private List<ReviewToken> toTokens(Review review) {
+        Long userId = review.getFood().getUser().getId();
+        return ReviewTokenizer.tokenize(review.getTitle(), review.getContent()).entrySet().stream()
+                .map(entry -> ReviewToken.builder()
+                        .reviewId(review.getId())
+                        .token(entry.getKey())
+                        .userId(userId)
+                        .frequency(entry.getValue())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -3,31 +3,50 @@ package com.term.fastingdatecounter.domain.review.service;
 import com.term.fastingdatecounter.domain.food.domain.Food;
 import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
 import com.term.fastingdatecounter.domain.food.service.FoodService;
+import com.term.fastingdatecounter.domain.food.service.StreakService;
+import com.term.fastingdatecounter.domain.review.dto.ReviewCalendarResponse;
+import com.term.fastingdatecounter.domain.review.dto.ReviewCursor;
+import com.term.fastingdatecounter.domain.review.dto.ReviewDateStatus;
 import com.term.fastingdatecounter.domain.review.dto.ReviewRequest;
+import com.term.fastingdatecounter.domain.review.dto.ReviewSummaryResponse;
 import com.term.fastingdatecounter.domain.review.domain.Review;
 import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
+import com.term.fastingdatecounter.domain.stats.service.GlobalStatsService;
 import com.term.fastingdatecounter.domain.user.domain.User;
 import com.term.fastingdatecounter.domain.user.repository.UserRepository;
 import com.term.fastingdatecounter.global.exception.ErrorCode;
 import com.term.fastingdatecounter.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class ReviewService {
 
+    public static final int DEFAULT_REVIEW_PAGE_SIZE = 20;
+    public static final int MAX_REVIEW_PAGE_SIZE = 100;
+
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final FoodRepository foodRepository;
 
     private final FoodService foodService;
+    private final StreakService streakService;
+    private final ReviewSearchService reviewSearchService;
+    private final GlobalStatsService globalStatsService;
 
     @Transactional(readOnly = true)
     public Review findById(Long id){
@@ -36,61 +55,140 @@ public class ReviewService {
 
     @Transactional(readOnly = true)
     public List<Review> findByFoodId(Long userId, Long foodId) {
-        User user = findUserById(userId);
         Food food = findFoodById(foodId);
-        validateUserAuthority(user.getId(), food.getUser().getId());
+        validateUserAuthority(userId, food.getUser().getId());
         return reviewRepository.findByFoodIdOrderByDateDesc(food.getId());
     }
 
+    @Transactional(readOnly = true)
+    public Review findById(Long userId, Long foodId, Long reviewId) {
+        return findOwnedReview(userId, foodId, reviewId);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ReviewSummaryResponse> findByFoodId(Long userId, Long foodId, String cursor, int size) {
+        Food food = findFoodById(foodId);
+        validateUserAuthority(userId, food.getUser().getId());
+
+        // 페이지 크기는 1 ~ MAX_REVIEW_PAGE_SIZE 범위로 제한
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_REVIEW_PAGE_SIZE));
+        if (cursor == null || cursor.isBlank()) {
+            return reviewRepository.findPageByFoodId(food.getId(), pageable);
+        }
+        ReviewCursor after = ReviewCursor.decode(cursor);
+        return reviewRepository.findPageByFoodIdAfter(food.getId(), after.getDate(), after.getId(), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public ReviewCalendarResponse findCalendar(Long userId, Long foodId, LocalDate from, LocalDate to) {
+        Food food = findFoodById(foodId);
+        validateUserAuthority(userId, food.getUser().getId());
+
+        // 조회 기간은 시작 월부터 최대 12개월 (월 중간에 시작해도 응답의 월별 비트맵은 12개 이하)
+        if (to.isBefore(from)
+                || !YearMonth.from(to).isBefore(YearMonth.from(from).plusMonths(ReviewCalendarResponse.MAX_MONTHS))) {
+            throw new ServiceException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_CALENDAR_RANGE);
+        }
+        List<ReviewDateStatus> statuses = reviewRepository.findDateStatusesByFoodIdAndDateBetween(food.getId(), from, to);
+        return new ReviewCalendarResponse(from, to, statuses);
+    }
+
     @Transactional
     public Review save(Long userId, Long foodId, ReviewRequest reviewRequest){
-        // 유저, 음식 정보 불러오고, review 엔티티화
-        User user = findUserById(userId);
-        Food food = findFoodById(foodId);
+        // 세션 유저의 음식 불러오고(권한 확인 포함), review 엔티티화 (userId는 세션 유저의 id라 유저는 조회하지 않음)
+        // 음식 행을 잠가서 같은 날짜 동시 등록은 먼저 커밋된 리뷰의 유니크 제약조건 위반(R08)으로만 실패
+        Food food = findOwnedFoodForUpdate(userId, foodId);
         Review review = reviewRequest.toEntity(food);
 
-        // 유저 권한 확인 및 리뷰 등록일 유효성 체크
-        validateUserAuthority(user.getId(), food.getUser().getId());
+        // 리뷰 등록일 유효성 체크
         validateReviewDate(food, reviewRequest.getDate());
 
-        // 리뷰 등록 및 음식의 단식일수 업데이트
-        reviewRepository.save(review);
-        foodService.updateDayCount(food);
+        // 리뷰 등록 (같은 날짜 중복은 유니크 제약조건으로 검출) 및 음식의 단식일수, 리뷰 변경 버전, 연속 단식일 업데이트
+        try {
+            reviewRepository.saveAndFlush(review);
+        } catch (DataIntegrityViolationException e) {
+            throw toReviewDateConflict(e);
+        }
+        foodService.updateDayCount(food, fastedDelta(false, review.isFasted()));
+        streakService.addReview(food, review.getDate(), review.isFasted());
+        reviewSearchService.index(review);
+        globalStatsService.recordReview(userId);
         return review;
     }
 
+    @Transactional
+    public List<Review> importReviews(Long userId, Long foodId, List<ReviewRequest> reviewRequests) {
+        // 세션 유저의 음식 불러오기 (행 잠금, 권한 확인 포함)
+        Food food = findOwnedFoodForUpdate(userId, foodId);
+
+        // 배치 전체를 메모리에서 먼저 검증 (단식 시작일 이후인지, 배치 안에서 날짜가 겹치는지)
+        Set<LocalDate> dates = new HashSet<>();
+        for (ReviewRequest reviewRequest : reviewRequests) {
+            validateReviewDate(food, reviewRequest.getDate());
+            if (!dates.add(reviewRequest.getDate())) {
+                throw new ServiceException(HttpStatus.CONFLICT, ErrorCode.ALREADY_WRITTEN_REVIEW_DATE);
+            }
+        }
+        List<Review> reviews = reviewRequests.stream()
+                .map(reviewRequest -> reviewRequest.toEntity(food))
+                .collect(Collectors.toList());
+
+        // JDBC batch insert (기존 리뷰와의 날짜 중복은 유니크 제약조건으로 검출) 후 단식일수, 연속 단식일은 한 번만 재계산
+        try {
+            reviewRepository.saveAll(reviews);
+            reviewRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw toReviewDateConflict(e);
+        }
+        foodService.updateDayCount(food);
+        streakService.recompute(food);
+        reviewSearchService.indexAll(reviews);
+        globalStatsService.recordReview(userId);
+        return reviews;
+    }
+
     @Transactional
     public Review update(Long userId, Long foodId, Long reviewId, ReviewRequest reviewRequest){
-        // 유저, 음식, 리뷰 불러오기
-        User user = findUserById(userId);
-        Review review = findReviewById(reviewId);
-        Food food = findFoodById(foodId);
+        // 세션 유저의 음식 행 잠금 후 리뷰, 음식 불러오기 및 유저 권한 확인 (단일 쿼리)
+        lockOwnedFood(userId, foodId, reviewId);
+        Review review = findOwnedReview(userId, foodId, reviewId);
+        Food food = review.getFood();
 
-        // 유저 권한 확인 및 리뷰 등록일 유효성 체크
-        validateUserAuthority(food.getUser().getId(), review.getFood().getUser().getId());
-        validateUserAuthority(user.getId(), food.getUser().getId());
-        validateReviewDate(food, reviewId, reviewRequest.getDate());
+        // 리뷰 등록일 유효성 체크
+        validateReviewDate(food, reviewRequest.getDate());
 
-        // 리뷰 업데이트 및 음식의 단식일수 업데이트
+        // 리뷰 업데이트 (같은 날짜 중복은 유니크 제약조건으로 검출) 및 음식의 단식일수, 리뷰 변경 버전, 연속 단식일 업데이트
+        LocalDate beforeDate = review.getDate();
+        boolean wasFasted = review.isFasted();
+        boolean textChanged = !review.getTitle().equals(reviewRequest.getTitle())
+                || !review.getContent().equals(reviewRequest.getContent());
         review.updateReview(reviewRequest.getDate(), reviewRequest.getTitle(), reviewRequest.getContent(), reviewRequest.isFasted());
-        foodService.updateDayCount(food);
+        try {
+            reviewRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw toReviewDateConflict(e);
+        }
+        foodService.updateDayCount(food, fastedDelta(wasFasted, review.isFasted()));
+        streakService.changeReview(food, beforeDate, wasFasted, review.getDate(), review.isFasted());
+        // 제목, 내용이 바뀐 경우에만 검색 색인 갱신
+        if (textChanged) {
+            reviewSearchService.reindex(review);
+        }
         return review;
     }
 
     @Transactional
     public void delete(Long userId, Long foodId, Long reviewId){
-        // 유저, 음식, 리뷰 불러오기
-        User user = findUserById(userId);
-        Review review = findReviewById(reviewId);
-        Food food = findFoodById(foodId);
+        // 세션 유저의 음식 행 잠금 후 리뷰, 음식 불러오기 및 유저 권한 확인 (단일 쿼리)
+        lockOwnedFood(userId, foodId, reviewId);
+        Review review = findOwnedReview(userId, foodId, reviewId);
+        Food food = review.getFood();
 
-        // 유저 권한 확인
-        validateUserAuthority(food.getUser().getId(), review.getFood().getUser().getId());
-        validateUserAuthority(user.getId(), food.getUser().getId());
-
-        // 리뷰 업데이트 및 음식의 단식일수 업데이트
+        // 검색 색인, 리뷰 삭제 및 음식의 단식일수, 리뷰 변경 버전, 연속 단식일 업데이트
+        reviewSearchService.remove(review);
         reviewRepository.delete(review);
-        foodService.updateDayCount(food);
+        foodService.updateDayCount(food, fastedDelta(review.isFasted(), false));
+        streakService.removeReview(food, review.getDate(), review.isFasted());
     }
 
     public User findUserById(Long userId) {
@@ -105,12 +203,49 @@ public class ReviewService {
         return food;
     }
 
+    public Food findOwnedFoodForUpdate(Long userId, Long foodId) {
+        // 세션 유저의 음식만 잠금, 실패한 경우에만 원인 확인용 조회 (없는 음식이면 not found, 다른 유저의 음식이면 권한 없음)
+        return foodRepository.findByIdAndUserIdForUpdate(foodId, userId)
+                .orElseThrow(() -> {
+                    findFoodById(foodId);
+                    return new ServiceException(HttpStatus.FORBIDDEN, ErrorCode.ACCESS_DENIED);
+                });
+    }
+
     public Review findReviewById(Long reviewId) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ServiceException(HttpStatus.NOT_FOUND, ErrorCode.NOT_FOUND_REVIEW));
         return review;
     }
 
+    public Review findOwnedReview(Long userId, Long foodId, Long reviewId) {
+        // 리뷰 + 음식 + 작성자 확인을 한 번의 쿼리로 처리, 실패한 경우에만 원인 확인용 조회
+        return reviewRepository.findByIdAndFoodIdAndUserId(reviewId, foodId, userId)
+                .orElseThrow(() -> reviewAccessFailure(userId, foodId, reviewId));
+    }
+
+    private void lockOwnedFood(Long userId, Long foodId, Long reviewId) {
+        // 같은 음식의 리뷰 쓰기(단식일수, 연속 단식일 read-modify-write)는 음식 행 잠금으로 트랜잭션 단위로 순서대로 처리
+        // 잠금 이후 읽은 음식 상태가 최신이 되도록 리뷰 조회 전에 잠그고, 세션 유저의 음식이 아니면 잠그지 않고 원인별로 실패
+        if (foodRepository.findByIdAndUserIdForUpdate(foodId, userId).isEmpty()) {
+            throw reviewAccessFailure(userId, foodId, reviewId);
+        }
+    }
+
+    private ServiceException reviewAccessFailure(Long userId, Long foodId, Long reviewId) {
+        // 유저, 리뷰, 음식 순으로 존재 여부 확인 (없으면 각각의 not found error)
+        findUserById(userId);
+        findReviewById(reviewId);
+        findFoodById(foodId);
+        // 모두 존재하면 음식 작성자가 아니거나 다른 음식의 리뷰인 경우
+        return new ServiceException(HttpStatus.FORBIDDEN, ErrorCode.ACCESS_DENIED);
+    }
+
+    private long fastedDelta(boolean before, boolean after) {
+        // 단식 여부 변화에 따른 단식일수 증감값 (+1, -1, 0)
+        return (after ? 1L : 0L) - (before ? 1L : 0L);
+    }
+
     private void validateUserAuthority(Long userId, Long extractedId) {
         // 세션유저 정보 != 음식에 저장된 유저 정보일 경우 error
         if (!userId.equals(extractedId)) {
@@ -119,26 +254,21 @@ public class ReviewService {
     }
 
     public void validateReviewDate(Food food, LocalDate reviewDate) {
+        // 날짜 중복 여부는 조회하지 않음: insert/update 시 (food_id, date) 유니크 제약조건으로만 검출 (toReviewDateConflict)
+        // 여러 pod가 같은 DB를 쓰므로 pod 내부 메모리의 날짜 점유 정보는 다른 pod의 삭제/수정을 반영하지 못해 사용하지 않음
+
         // 음식 단식 시작일 리뷰 날짜가 이르면
         if (reviewDate.isBefore(food.getStartDate())) {
             throw new ServiceException(HttpStatus.BAD_REQUEST, ErrorCode.EARLIER_REVIEW_DATE);
         }
-        // 음식의 해당 날짜에 이미 다른 작성된 리뷰가 있으면
-        Optional<Review> review = reviewRepository.findByFoodIdAndDate(food.getId(), reviewDate);
-        if (review.isPresent()) {
-            throw new ServiceException(HttpStatus.CONFLICT, ErrorCode.ALREADY_WRITTEN_REVIEW_DATE);
-        }
     }
 
-    public void validateReviewDate(Food food, Long reviewId, LocalDate reviewDate){
-        // 음식 단식 시작일 리뷰 날짜가 이르면
-        if (reviewDate.isBefore(food.getStartDate())) {
-            throw new ServiceException(HttpStatus.BAD_REQUEST, ErrorCode.EARLIER_REVIEW_DATE);
-        }
-        // 음식의 해당 날짜에 이미 다른 작성된 리뷰가 있으면
-        Optional<Review> review = reviewRepository.findByFoodIdAndDate(food.getId(), reviewDate);
-        if (review.isPresent() && review.get().getId() != reviewId) {
-            throw new ServiceException(HttpStatus.CONFLICT, ErrorCode.ALREADY_WRITTEN_REVIEW_DATE);
+    private RuntimeException toReviewDateConflict(DataIntegrityViolationException exception) {
+        // 음식의 해당 날짜에 이미 다른 작성된 리뷰가 있으면 (food_id, date 유니크 제약조건 위반)
+        String message = exception.getMostSpecificCause().getMessage();
+        if (message != null && message.toUpperCase().contains(Review.FOOD_DATE_UNIQUE_KEY.toUpperCase())) {
+            return new ServiceException(HttpStatus.CONFLICT, ErrorCode.ALREADY_WRITTEN_REVIEW_DATE);
         }
+        return exception;
     }
 }
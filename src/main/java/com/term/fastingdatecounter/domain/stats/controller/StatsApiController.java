@@ -0,0 +1,69 @@
+package com.term.fastingdatecounter.domain.stats.controller;
+
+import com.term.fastingdatecounter.domain.stats.dto.CohortResponse;
+import com.term.fastingdatecounter.domain.stats.dto.DailyStatsResponse;
+import com.term.fastingdatecounter.domain.stats.dto.GlobalStatsResponse;
+import com.term.fastingdatecounter.domain.stats.service.CohortReportService;
+import com.term.fastingdatecounter.domain.stats.service.DailyStatsService;
+import com.term.fastingdatecounter.domain.stats.service.GlobalStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Tag(name = "통계(Stats) API")
+@RequiredArgsConstructor
+@RequestMapping("/api/stats")
+@RestController
+public class StatsApiController {
+
+    private final DailyStatsService dailyStatsService;
+    private final CohortReportService cohortReportService;
+    private final GlobalStatsService globalStatsService;
+
+    @Operation(summary = "일별 전체 통계 (리뷰 수, 단식 성공률, 신규 음식 수, 활동 유저 수)")
+    @GetMapping("/daily")
+    public ResponseEntity<List<DailyStatsResponse>> findDaily(
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ){
+        return ResponseEntity.ok(dailyStatsService.findDaily(from, to));
+    }
+
+    @Operation(summary = "일별 음식명별 통계")
+    @GetMapping("/daily/foods")
+    public ResponseEntity<List<DailyStatsResponse>> findDailyByName(
+            @RequestParam(name = "name") String name,
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ){
+        return ResponseEntity.ok(dailyStatsService.findDailyByName(name, from, to));
+    }
+
+    @Operation(summary = "시작월별 코호트 (단식 유지 주 수별 비율, 음식명 생략 시 전체)")
+    @GetMapping("/cohorts")
+    public ResponseEntity<List<CohortResponse>> findCohorts(
+            @RequestParam(name = "name", required = false) String name,
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ){
+        return ResponseEntity.ok(cohortReportService.findCohorts(name, from, to));
+    }
+
+    @Operation(summary = "전체 통계 패널 (오늘/이번 주 활동 유저 수, 최근 7일 많이 등록된 음식명)",
+            description = "근사 집계: 활동 유저 수는 HyperLogLog (표준 오차 약 0.81%), " +
+                    "음식명 등록 수는 count-min sketch (실제보다 작지 않고, 약 98% 확률로 초과분이 기간 전체 등록 수의 0.27% 이내). " +
+                    "pod별 스케치 저장 주기(1분)와 응답 캐시(1분)만큼 늦게 반영됨")
+    @GetMapping("/global")
+    public ResponseEntity<GlobalStatsResponse> findGlobal(){
+        return ResponseEntity.ok(globalStatsService.findGlobalStats(LocalDate.now()));
+    }
+}
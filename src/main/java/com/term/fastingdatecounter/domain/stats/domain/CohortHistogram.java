@@ -0,0 +1,68 @@
+package com.term.fastingdatecounter.domain.stats.domain;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 코호트 집계 중간 결과 (음식명 -> 시작월(epoch month) -> 유지 주 수별 음식 수)
+// 파티션마다 따로 채운 뒤 merge, 메모리는 (음식명, 시작월) 조합 수 x (MAX_WEEKS + 1)개의 long
+public class CohortHistogram {
+
+    private final Map<String, Map<Integer, long[]>> counts = new HashMap<>();
+
+    // 음식 하나 추가 (전체 집계에도 함께 합산)
+    public void add(String nameKey, LocalDate startDate, long lastedDays) {
+        int epochMonth = startDate.getYear() * 12 + startDate.getMonthValue() - 1;
+        int weeks = (int) Math.min(Math.max(lastedDays, 0L) / 7, CohortReport.MAX_WEEKS);
+        weekCounts(DailyStats.ALL_FOODS, epochMonth)[weeks]++;
+        if (!DailyStats.ALL_FOODS.equals(nameKey)) {
+            weekCounts(nameKey, epochMonth)[weeks]++;
+        }
+    }
+
+    // 단식 유지 일수: 첫 실패 리뷰 전날까지, 실패가 없으면 마지막 리뷰 날짜까지 (리뷰가 없으면 0)
+    public static long lastedDays(LocalDate startDate, LocalDate lastReviewDate, LocalDate firstFailureDate) {
+        LocalDate end = firstFailureDate != null ? firstFailureDate.minusDays(1) : lastReviewDate;
+        if (end == null) {
+            return 0L;
+        }
+        return Math.max(ChronoUnit.DAYS.between(startDate, end) + 1, 0L);
+    }
+
+    public CohortHistogram merge(CohortHistogram other) {
+        other.counts.forEach((nameKey, months) -> months.forEach((epochMonth, otherWeeks) -> {
+            long[] weeks = weekCounts(nameKey, epochMonth);
+            for (int i = 0; i < weeks.length; i++) {
+                weeks[i] += otherWeeks[i];
+            }
+        }));
+        return this;
+    }
+
+    // 음식 수가 0이 아닌 (시작월, 음식명, 주 수)만 리포트 행으로 변환
+    public List<CohortReport> toReports() {
+        List<CohortReport> reports = new ArrayList<>();
+        counts.forEach((nameKey, months) -> months.forEach((epochMonth, weeks) -> {
+            LocalDate cohortMonth = LocalDate.of(epochMonth / 12, epochMonth % 12 + 1, 1);
+            for (int week = 0; week < weeks.length; week++) {
+                if (weeks[week] > 0) {
+                    reports.add(CohortReport.builder()
+                            .cohortMonth(cohortMonth)
+                            .nameKey(nameKey)
+                            .weeks(week)
+                            .foodCount(weeks[week])
+                            .build());
+                }
+            }
+        }));
+        return reports;
+    }
+
+    private long[] weekCounts(String nameKey, int epochMonth) {
+        return counts.computeIfAbsent(nameKey, key -> new HashMap<>())
+                .computeIfAbsent(epochMonth, key -> new long[CohortReport.MAX_WEEKS + 1]);
+    }
+}
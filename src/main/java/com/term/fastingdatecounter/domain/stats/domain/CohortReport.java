@@ -0,0 +1,76 @@
+package com.term.fastingdatecounter.domain.stats.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// 코호트 리포트 (단식 시작월, 정규화한 음식명별로 단식을 유지한 주 수의 분포), CohortJob이 전체를 다시 생성
+// 음식명이 ALL_FOODS인 행은 전체 음식 기준
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@IdClass(CohortReport.Key.class)
+@Table(name = "cohort_report", indexes = @Index(name = "IDX_cohort_report_name_key_cohort_month", columnList = "name_key, cohort_month"))
+public class CohortReport implements Persistable<CohortReport.Key> {
+
+    // 유지 주 수 상한 (그 이상은 MAX_WEEKS에 합산)
+    public static final int MAX_WEEKS = 52;
+
+    // 단식 시작월 (1일)
+    @Id
+    @Column(name = "cohort_month")
+    private LocalDate cohortMonth;
+
+    @Id
+    @Column(name = "name_key", length = 50)
+    private String nameKey;
+
+    // 첫 단식 실패 전까지(실패가 없으면 마지막 리뷰까지) 유지한 주 수
+    @Id
+    @Column(name = "weeks")
+    private int weeks;
+
+    @Column(name = "food_count", nullable = false)
+    private long foodCount;
+
+    @Builder
+    public CohortReport(LocalDate cohortMonth, String nameKey, int weeks, long foodCount) {
+        this.cohortMonth = cohortMonth;
+        this.nameKey = nameKey;
+        this.weeks = weeks;
+        this.foodCount = foodCount;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(cohortMonth, nameKey, weeks);
+    }
+
+    @Override
+    public boolean isNew() {
+        // 전체 삭제 후 다시 추가만 하므로 항상 insert
+        return true;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate cohortMonth;
+        private String nameKey;
+        private int weeks;
+    }
+}
@@ -0,0 +1,148 @@
+package com.term.fastingdatecounter.domain.stats.domain;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// 빈도 추정 (count-min sketch, DEPTH x WIDTH int = 16KB) + 추정 빈도 상위 TOP_K개 후보 (min-heap)
+// 추정값은 실제 빈도보다 작지 않고, 확률 1 - e^-DEPTH (약 98.2%)로 실제 빈도 + (e / WIDTH) x 전체 건수(약 0.27%) 이하
+// 같은 기간의 pod별 스케치는 칸별 합으로 합칠 수 있고, 상위 후보는 합친 스케치로 다시 추정해서 고름
+public class CountMinSketch {
+
+    public static final int DEPTH = 4;
+    public static final int WIDTH = 1024;
+    public static final int TOP_K = 20;
+
+    private final int[][] counts;
+    private long total;
+    private final Map<String, Long> topCounts = new HashMap<>();
+    private final PriorityQueue<String> topHeap = new PriorityQueue<>(
+            (a, b) -> Long.compare(topCounts.get(a), topCounts.get(b)));
+
+    public CountMinSketch() {
+        this.counts = new int[DEPTH][WIDTH];
+    }
+
+    public void add(String item) {
+        long hash = SketchHash.of(item);
+        for (int row = 0; row < DEPTH; row++) {
+            counts[row][index(hash, row)]++;
+        }
+        total++;
+        offer(item, estimate(hash));
+    }
+
+    public long estimate(String item) {
+        return estimate(SketchHash.of(item));
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    // 상위 후보 (추정 빈도 내림차순)
+    public List<String> topItems() {
+        List<String> items = new ArrayList<>(topCounts.keySet());
+        items.sort((a, b) -> Long.compare(topCounts.get(b), topCounts.get(a)));
+        return items;
+    }
+
+    public CountMinSketch merge(CountMinSketch other) {
+        for (int row = 0; row < DEPTH; row++) {
+            for (int column = 0; column < WIDTH; column++) {
+                counts[row][column] += other.counts[row][column];
+            }
+        }
+        total += other.total;
+        // 두 스케치의 후보를 합친 스케치 기준으로 다시 추정
+        List<String> candidates = new ArrayList<>(topCounts.keySet());
+        candidates.addAll(other.topCounts.keySet());
+        topCounts.clear();
+        topHeap.clear();
+        for (String candidate : candidates) {
+            offer(candidate, estimate(candidate));
+        }
+        return this;
+    }
+
+    public byte[] toBytes() {
+        List<byte[]> names = new ArrayList<>();
+        int size = Integer.BYTES * DEPTH * WIDTH + Long.BYTES + Integer.BYTES;
+        for (String item : topCounts.keySet()) {
+            byte[] name = item.getBytes(StandardCharsets.UTF_8);
+            names.add(name);
+            size += Integer.BYTES + name.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (int[] row : counts) {
+            for (int count : row) {
+                buffer.putInt(count);
+            }
+        }
+        buffer.putLong(total);
+        buffer.putInt(names.size());
+        for (byte[] name : names) {
+            buffer.putInt(name.length);
+            buffer.put(name);
+        }
+        return buffer.array();
+    }
+
+    public static CountMinSketch fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        CountMinSketch sketch = new CountMinSketch();
+        for (int[] row : sketch.counts) {
+            for (int column = 0; column < WIDTH; column++) {
+                row[column] = buffer.getInt();
+            }
+        }
+        sketch.total = buffer.getLong();
+        int candidateCount = buffer.getInt();
+        for (int i = 0; i < candidateCount; i++) {
+            byte[] name = new byte[buffer.getInt()];
+            buffer.get(name);
+            String item = new String(name, StandardCharsets.UTF_8);
+            sketch.offer(item, sketch.estimate(item));
+        }
+        return sketch;
+    }
+
+    private long estimate(long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counts[row][index(hash, row)]);
+        }
+        return estimate;
+    }
+
+    private void offer(String item, long estimate) {
+        // 이미 후보면 빈도만 갱신, 아니면 후보가 TOP_K개 미만이거나 최소 후보보다 클 때만 교체
+        if (topCounts.containsKey(item)) {
+            topHeap.remove(item);
+            topCounts.put(item, estimate);
+            topHeap.add(item);
+            return;
+        }
+        if (topCounts.size() >= TOP_K) {
+            String min = topHeap.peek();
+            if (topCounts.get(min) >= estimate) {
+                return;
+            }
+            topHeap.poll();
+            topCounts.remove(min);
+        }
+        topCounts.put(item, estimate);
+        topHeap.add(item);
+    }
+
+    private int index(long hash, int row) {
+        // 해시 하나에서 행별 해시 유도 (Kirsch-Mitzenmacher: h1 + row x h2)
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return Math.floorMod(h1 + row * h2, WIDTH);
+    }
+}
@@ -0,0 +1,82 @@
+package com.term.fastingdatecounter.domain.stats.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// 일별 집계 (운영 지표), 날짜별 전체 한 행(name_key = ALL_FOODS) + 정규화한 음식명별 한 행
+// DailyStatsJob이 작성일(created_at) 기준으로 하루 단위 재계산해서 채움
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@IdClass(DailyStats.Key.class)
+@Table(name = "daily_stats", indexes = @Index(name = "IDX_daily_stats_name_key_stat_date", columnList = "name_key, stat_date"))
+public class DailyStats implements Persistable<DailyStats.Key> {
+
+    public static final String ALL_FOODS = "";
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Id
+    @Column(name = "name_key", length = 50)
+    private String nameKey;
+
+    // 그날 작성된 리뷰 수, 그중 단식 성공 리뷰 수
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "fasted_count", nullable = false)
+    private long fastedCount;
+
+    // 그날 등록된 음식 수
+    @Column(name = "new_food_count", nullable = false)
+    private long newFoodCount;
+
+    // 그날 리뷰를 작성한 유저 수
+    @Column(name = "active_user_count", nullable = false)
+    private long activeUserCount;
+
+    @Builder
+    public DailyStats(LocalDate statDate, String nameKey, long reviewCount, long fastedCount, long newFoodCount, long activeUserCount) {
+        this.statDate = statDate;
+        this.nameKey = nameKey;
+        this.reviewCount = reviewCount;
+        this.fastedCount = fastedCount;
+        this.newFoodCount = newFoodCount;
+        this.activeUserCount = activeUserCount;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(statDate, nameKey);
+    }
+
+    @Override
+    public boolean isNew() {
+        // 날짜 단위로 삭제 후 다시 추가만 하므로 항상 insert
+        return true;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate statDate;
+        private String nameKey;
+    }
+}
@@ -0,0 +1,67 @@
+package com.term.fastingdatecounter.domain.stats.domain;
+
+// 고유 개수 추정 (HyperLogLog, 레지스터 2^PRECISION개 = 16KB)
+// 표준 오차 1.04 / sqrt(2^PRECISION) = 약 0.81% (추정값의 약 99.7%가 실제 값의 ±2.4% 이내)
+// 같은 기간의 pod별 카운터는 레지스터별 최댓값으로 합칠 수 있음 (합친 결과는 전체를 한 카운터로 센 것과 동일)
+public class HyperLogLog {
+
+    public static final int PRECISION = 14;
+    public static final int REGISTER_COUNT = 1 << PRECISION;
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(new byte[REGISTER_COUNT]);
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes.length != REGISTER_COUNT) {
+            throw new IllegalArgumentException("invalid hyperloglog size: " + bytes.length);
+        }
+        return new HyperLogLog(bytes.clone());
+    }
+
+    public void add(long hash) {
+        // 상위 PRECISION비트로 레지스터 선택, 나머지 비트의 선행 0 개수 + 1을 최댓값으로 기록
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        if (registers[index] < rank) {
+            registers[index] = rank;
+        }
+    }
+
+    public long estimate() {
+        double sum = 0.0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha = 0.7213 / (1.0 + 1.079 / REGISTER_COUNT);
+        double estimate = alpha * REGISTER_COUNT * REGISTER_COUNT / sum;
+        // 작은 값은 linear counting으로 보정 (64비트 해시라 큰 값 보정은 필요 없음)
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public HyperLogLog merge(HyperLogLog other) {
+        for (int i = 0; i < registers.length; i++) {
+            if (registers[i] < other.registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        return this;
+    }
+
+    public byte[] toBytes() {
+        return registers.clone();
+    }
+}
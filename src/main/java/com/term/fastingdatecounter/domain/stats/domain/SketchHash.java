@@ -0,0 +1,32 @@
+package com.term.fastingdatecounter.domain.stats.domain;
+
+import java.nio.charset.StandardCharsets;
+
+// 스케치용 64비트 해시 (FNV-1a + MurmurHash3 fmix64 finalizer)
+public final class SketchHash {
+
+    private SketchHash() {
+    }
+
+    public static long of(long value) {
+        return fmix64(value);
+    }
+
+    public static long of(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return fmix64(hash);
+    }
+
+    private static long fmix64(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
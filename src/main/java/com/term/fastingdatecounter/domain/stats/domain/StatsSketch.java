@@ -0,0 +1,86 @@
+package com.term.fastingdatecounter.domain.stats.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 전체 통계용 근사 카운터 (HyperLogLog, count-min sketch)를 직렬화해서 저장
+// pod(owner)마다 기간별 누적 스케치를 한 행씩 덮어쓰고, 조회할 때 같은 기간의 모든 pod 행을 합침
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@IdClass(StatsSketch.Key.class)
+@Table(name = "stats_sketch")
+public class StatsSketch implements Persistable<StatsSketch.Key> {
+
+    public enum Kind {
+        DAILY_USERS,    // 날짜별 리뷰 작성 유저 (HyperLogLog)
+        WEEKLY_USERS,   // 주(월요일 시작)별 리뷰 작성 유저 (HyperLogLog)
+        TRENDING_FOODS  // 날짜별 등록 음식명 빈도 (CountMinSketch)
+    }
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", length = 20)
+    private Kind kind;
+
+    // 기간 시작일 (날짜별이면 그날, 주별이면 월요일)
+    @Id
+    @Column(name = "period_start")
+    private LocalDate periodStart;
+
+    @Id
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    @Lob
+    @Column(name = "data", nullable = false)
+    private byte[] data;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public StatsSketch(Kind kind, LocalDate periodStart, String owner, byte[] data, LocalDateTime updatedAt) {
+        this.kind = kind;
+        this.periodStart = periodStart;
+        this.owner = owner;
+        this.data = data;
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(kind, periodStart, owner);
+    }
+
+    @Override
+    public boolean isNew() {
+        // 기존 행은 update 쿼리로 덮어쓰고, 없을 때만 save하므로 항상 insert
+        return true;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Kind kind;
+        private LocalDate periodStart;
+        private String owner;
+    }
+}
@@ -0,0 +1,22 @@
+package com.term.fastingdatecounter.domain.stats.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 코호트 집계에 필요한 음식 컬럼만
+@Getter
+public class CohortFood {
+
+    private final Long id;
+    private final String nameKey;
+    private final LocalDate startDate;
+    private final LocalDate lastReviewDate;
+
+    public CohortFood(Long id, String nameKey, LocalDate startDate, LocalDate lastReviewDate) {
+        this.id = id;
+        this.nameKey = nameKey;
+        this.startDate = startDate;
+        this.lastReviewDate = lastReviewDate;
+    }
+}
@@ -0,0 +1,34 @@
+package com.term.fastingdatecounter.domain.stats.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.term.fastingdatecounter.domain.stats.domain.CohortReport;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class CohortResponse {
+
+    @JsonFormat(pattern = "yyyy-MM", shape = JsonFormat.Shape.STRING)
+    private final LocalDate cohortMonth;
+    private final long foodCount;
+    private final List<Double> retention; // [w] = w주 이상 유지한 음식 비율 (w = 0 ~ MAX_WEEKS)
+
+    // weekCounts[w] = 정확히 w주 유지한 음식 수
+    public CohortResponse(LocalDate cohortMonth, long[] weekCounts) {
+        long total = 0L;
+        for (long count : weekCounts) {
+            total += count;
+        }
+        this.cohortMonth = cohortMonth;
+        this.foodCount = total;
+        this.retention = new ArrayList<>(CohortReport.MAX_WEEKS + 1);
+        long remaining = total;
+        for (int week = 0; week <= CohortReport.MAX_WEEKS; week++) {
+            retention.add(total == 0 ? 0.0 : (double) remaining / total);
+            remaining -= weekCounts[week];
+        }
+    }
+}
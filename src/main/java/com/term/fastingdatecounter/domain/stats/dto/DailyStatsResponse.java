@@ -0,0 +1,30 @@
+package com.term.fastingdatecounter.domain.stats.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.term.fastingdatecounter.domain.stats.domain.DailyStats;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class DailyStatsResponse {
+
+    @JsonFormat(pattern = "yyyy-MM-dd", shape = JsonFormat.Shape.STRING)
+    private final LocalDate date;
+    private final String name; // 정규화한 음식명 (전체 집계면 null)
+    private final long reviewCount;
+    private final long fastedCount;
+    private final double successRate; // 리뷰가 없으면 0
+    private final long newFoodCount;
+    private final long activeUserCount;
+
+    public DailyStatsResponse(DailyStats stats) {
+        this.date = stats.getStatDate();
+        this.name = DailyStats.ALL_FOODS.equals(stats.getNameKey()) ? null : stats.getNameKey();
+        this.reviewCount = stats.getReviewCount();
+        this.fastedCount = stats.getFastedCount();
+        this.successRate = reviewCount == 0 ? 0.0 : (double) fastedCount / reviewCount;
+        this.newFoodCount = stats.getNewFoodCount();
+        this.activeUserCount = stats.getActiveUserCount();
+    }
+}
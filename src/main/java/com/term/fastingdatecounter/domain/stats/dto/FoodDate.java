@@ -0,0 +1,18 @@
+package com.term.fastingdatecounter.domain.stats.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 음식 id + 날짜 (음식별 첫 단식 실패일)
+@Getter
+public class FoodDate {
+
+    private final Long foodId;
+    private final LocalDate date;
+
+    public FoodDate(Long foodId, LocalDate date) {
+        this.foodId = foodId;
+        this.date = date;
+    }
+}
@@ -0,0 +1,44 @@
+package com.term.fastingdatecounter.domain.stats.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 근사 집계 (활동 유저 수는 표준 오차 약 0.81%, 음식명 빈도는 실제보다 작지 않고 대부분 전체 등록 수의 약 0.27% 이내로 큼)
+@Getter
+public class GlobalStatsResponse {
+
+    @JsonFormat(pattern = "yyyy-MM-dd", shape = JsonFormat.Shape.STRING)
+    private final LocalDate date;
+    private final long dailyActiveUsers; // 오늘 리뷰를 작성한 유저 수
+
+    @JsonFormat(pattern = "yyyy-MM-dd", shape = JsonFormat.Shape.STRING)
+    private final LocalDate weekStart;
+    private final long weeklyActiveUsers; // 이번 주(월요일부터) 리뷰를 작성한 유저 수
+
+    private final long newFoodCount; // 최근 TRENDING_DAYS일 동안 등록된 음식 수
+    private final List<Item> trendingFoods; // 최근 TRENDING_DAYS일 동안 많이 등록된 음식명 (정규화한 이름)
+
+    public GlobalStatsResponse(LocalDate date, long dailyActiveUsers, LocalDate weekStart, long weeklyActiveUsers,
+                               long newFoodCount, List<Item> trendingFoods) {
+        this.date = date;
+        this.dailyActiveUsers = dailyActiveUsers;
+        this.weekStart = weekStart;
+        this.weeklyActiveUsers = weeklyActiveUsers;
+        this.newFoodCount = newFoodCount;
+        this.trendingFoods = trendingFoods;
+    }
+
+    @Getter
+    public static class Item {
+        private final String name;
+        private final long count;
+
+        public Item(String name, long count) {
+            this.name = name;
+            this.count = count;
+        }
+    }
+}
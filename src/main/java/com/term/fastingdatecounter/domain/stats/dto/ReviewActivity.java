@@ -0,0 +1,27 @@
+package com.term.fastingdatecounter.domain.stats.dto;
+
+import com.term.fastingdatecounter.domain.stats.domain.DailyStats;
+import lombok.Getter;
+
+// 기간 내 작성된 리뷰 집계 (전체 또는 음식명별)
+@Getter
+public class ReviewActivity {
+
+    private final String nameKey;
+    private final long reviewCount;
+    private final long fastedCount;
+    private final long userCount;
+
+    // JPQL constructor expression 용 생성자 (음식명별)
+    public ReviewActivity(String nameKey, Long reviewCount, Long fastedCount, Long userCount) {
+        this.nameKey = nameKey;
+        this.reviewCount = reviewCount == null ? 0L : reviewCount;
+        this.fastedCount = fastedCount == null ? 0L : fastedCount; // 리뷰가 없으면 sum은 null
+        this.userCount = userCount == null ? 0L : userCount;
+    }
+
+    // JPQL constructor expression 용 생성자 (전체)
+    public ReviewActivity(Long reviewCount, Long fastedCount, Long userCount) {
+        this(DailyStats.ALL_FOODS, reviewCount, fastedCount, userCount);
+    }
+}
@@ -0,0 +1,19 @@
+package com.term.fastingdatecounter.domain.stats.repository;
+
+import com.term.fastingdatecounter.domain.stats.domain.CohortReport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface CohortReportRepository extends JpaRepository<CohortReport, CohortReport.Key> {
+
+    // 기간 내 시작월별 유지 주 수 분포 ((name_key, cohort_month) 인덱스 범위 조회)
+    @Query("select c from CohortReport c where c.nameKey = :nameKey and c.cohortMonth between :from and :to " +
+            "order by c.cohortMonth, c.weeks")
+    List<CohortReport> findByNameKeyAndCohortMonthBetween(@Param("nameKey") String nameKey,
+                                                          @Param("from") LocalDate from,
+                                                          @Param("to") LocalDate to);
+}
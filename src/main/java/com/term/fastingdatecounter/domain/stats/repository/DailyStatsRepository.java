@@ -0,0 +1,29 @@
+package com.term.fastingdatecounter.domain.stats.repository;
+
+import com.term.fastingdatecounter.domain.stats.domain.DailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface DailyStatsRepository extends JpaRepository<DailyStats, DailyStats.Key> {
+
+    @Modifying
+    @Query("delete from DailyStats s where s.statDate = :statDate")
+    int deleteByStatDate(@Param("statDate") LocalDate statDate);
+
+    // 집계가 끝난 마지막 날짜 (날짜마다 전체 집계 행은 항상 있음)
+    @Query("select max(s.statDate) from DailyStats s where s.nameKey = '" + DailyStats.ALL_FOODS + "'")
+    Optional<LocalDate> findLastStatDate();
+
+    // 기간 내 날짜별 집계 ((name_key, stat_date) 인덱스 범위 조회)
+    @Query("select s from DailyStats s where s.nameKey = :nameKey and s.statDate between :from and :to " +
+            "order by s.statDate")
+    List<DailyStats> findByNameKeyAndStatDateBetween(@Param("nameKey") String nameKey,
+                                                     @Param("from") LocalDate from,
+                                                     @Param("to") LocalDate to);
+}
@@ -0,0 +1,37 @@
+package com.term.fastingdatecounter.domain.stats.repository;
+
+import com.term.fastingdatecounter.domain.stats.domain.StatsSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StatsSketchRepository extends JpaRepository<StatsSketch, StatsSketch.Key> {
+
+    // 이 pod의 스케치 덮어쓰기 (0건이면 아직 저장한 적 없는 기간)
+    @Transactional
+    @Modifying
+    @Query("update StatsSketch s set s.data = :data, s.updatedAt = :updatedAt " +
+            "where s.kind = :kind and s.periodStart = :periodStart and s.owner = :owner")
+    int overwrite(@Param("kind") StatsSketch.Kind kind,
+                  @Param("periodStart") LocalDate periodStart,
+                  @Param("owner") String owner,
+                  @Param("data") byte[] data,
+                  @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 기간 내 모든 pod의 스케치 (PK (kind, period_start, owner) 범위 조회)
+    @Query("select s from StatsSketch s where s.kind = :kind and s.periodStart between :from and :to")
+    List<StatsSketch> findByKindAndPeriodStartBetween(@Param("kind") StatsSketch.Kind kind,
+                                                      @Param("from") LocalDate from,
+                                                      @Param("to") LocalDate to);
+
+    @Transactional
+    @Modifying
+    @Query("delete from StatsSketch s where s.periodStart < :periodStart")
+    int deleteByPeriodStartBefore(@Param("periodStart") LocalDate periodStart);
+}
@@ -0,0 +1,86 @@
+package com.term.fastingdatecounter.domain.stats.service;
+
+import com.term.fastingdatecounter.domain.stats.domain.CohortHistogram;
+import com.term.fastingdatecounter.global.scheduling.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// 코호트 리포트 생성 배치 (잠금을 얻은 pod 한 곳에서만 실행)
+// 음식 id 범위를 partition-size 이하가 될 때까지 나눠 ForkJoinPool에서 병렬로 집계한 뒤 합침
+// 동시에 메모리에 올라오는 행은 partition-size x parallelism개로 제한, 각 파티션은 DB 커넥션 하나를 사용
+@RequiredArgsConstructor
+@Component
+public class CohortJob {
+
+    public static final String LOCK_NAME = "cohortReport";
+
+    private final CohortReportService cohortReportService;
+    private final SchedulerLockService schedulerLockService;
+
+    @Value("${stats.cohort.parallelism:4}")
+    private int parallelism;
+
+    @Value("${stats.cohort.partition-size:10000}")
+    private long partitionSize;
+
+    @Value("${stats.cohort.lock-lease:PT1H}")
+    private Duration lockLease;
+
+    @Scheduled(cron = "${stats.cohort.cron:0 30 4 * * *}")
+    public void run() {
+        if (!schedulerLockService.tryLock(LOCK_NAME, lockLease)) {
+            return;
+        }
+        try {
+            generate();
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+        }
+    }
+
+    public int generate() {
+        CohortHistogram histogram = cohortReportService.findFoodIdRange()
+                .map(range -> aggregate(range[0], range[1]))
+                .orElseGet(CohortHistogram::new);
+        return cohortReportService.replaceReports(histogram);
+    }
+
+    private CohortHistogram aggregate(long minId, long maxId) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new PartitionTask(minId, maxId));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private class PartitionTask extends RecursiveTask<CohortHistogram> {
+
+        private final long fromId;
+        private final long toId;
+
+        private PartitionTask(long fromId, long toId) {
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        protected CohortHistogram compute() {
+            if (toId - fromId + 1 <= partitionSize) {
+                return cohortReportService.readPartition(fromId, toId);
+            }
+            long middle = fromId + (toId - fromId) / 2;
+            PartitionTask left = new PartitionTask(fromId, middle);
+            PartitionTask right = new PartitionTask(middle + 1, toId);
+            left.fork();
+            CohortHistogram rightHistogram = right.compute();
+            return left.join().merge(rightHistogram);
+        }
+    }
+}
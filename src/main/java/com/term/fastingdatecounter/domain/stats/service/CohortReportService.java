@@ -0,0 +1,104 @@
+package com.term.fastingdatecounter.domain.stats.service;
+
+import com.term.fastingdatecounter.domain.food.domain.FoodNameIndex;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
+import com.term.fastingdatecounter.domain.stats.domain.CohortHistogram;
+import com.term.fastingdatecounter.domain.stats.domain.CohortReport;
+import com.term.fastingdatecounter.domain.stats.domain.DailyStats;
+import com.term.fastingdatecounter.domain.stats.dto.CohortFood;
+import com.term.fastingdatecounter.domain.stats.dto.CohortResponse;
+import com.term.fastingdatecounter.domain.stats.dto.FoodDate;
+import com.term.fastingdatecounter.domain.stats.repository.CohortReportRepository;
+import com.term.fastingdatecounter.global.exception.ErrorCode;
+import com.term.fastingdatecounter.global.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 코호트 리포트 (조회는 cohort_report만 사용, 생성은 CohortJob이 음식 id 범위 파티션 단위로 readPartition 호출)
+@RequiredArgsConstructor
+@Service
+public class CohortReportService {
+
+    public static final int MAX_COHORT_MONTHS = 60;
+
+    private final CohortReportRepository cohortReportRepository;
+    private final FoodRepository foodRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Transactional(readOnly = true)
+    public List<CohortResponse> findCohorts(String name, LocalDate from, LocalDate to) {
+        LocalDate fromMonth = from.withDayOfMonth(1);
+        LocalDate toMonth = to.withDayOfMonth(1);
+        // 조회 기간은 시작월부터 최대 5년
+        if (toMonth.isBefore(fromMonth) || !toMonth.isBefore(fromMonth.plusMonths(MAX_COHORT_MONTHS))) {
+            throw new ServiceException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_COHORT_RANGE);
+        }
+        String nameKey = FoodNameIndex.normalize(name);
+        List<CohortReport> reports = cohortReportRepository.findByNameKeyAndCohortMonthBetween(
+                nameKey.isEmpty() ? DailyStats.ALL_FOODS : nameKey, fromMonth, toMonth);
+
+        // 시작월 순으로 정렬된 행을 월별 주 수 분포로 묶기
+        List<CohortResponse> cohorts = new ArrayList<>();
+        LocalDate month = null;
+        long[] weekCounts = null;
+        for (CohortReport report : reports) {
+            if (!report.getCohortMonth().equals(month)) {
+                if (month != null) {
+                    cohorts.add(new CohortResponse(month, weekCounts));
+                }
+                month = report.getCohortMonth();
+                weekCounts = new long[CohortReport.MAX_WEEKS + 1];
+            }
+            weekCounts[report.getWeeks()] += report.getFoodCount();
+        }
+        if (month != null) {
+            cohorts.add(new CohortResponse(month, weekCounts));
+        }
+        return cohorts;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<long[]> findFoodIdRange() {
+        Optional<Long> minId = foodRepository.findMinId();
+        Optional<Long> maxId = foodRepository.findMaxId();
+        if (minId.isEmpty() || maxId.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new long[]{minId.get(), maxId.get()});
+    }
+
+    // 음식 id 범위 하나를 집계 (음식 pk 범위 조회 1회 + 리뷰 (food_id, date) 인덱스 범위 집계 1회)
+    @Transactional(readOnly = true)
+    public CohortHistogram readPartition(long fromId, long toId) {
+        Map<Long, LocalDate> firstFailureDates = new HashMap<>();
+        for (FoodDate failure : reviewRepository.findFirstFailureDatesByFoodIdBetween(fromId, toId)) {
+            firstFailureDates.put(failure.getFoodId(), failure.getDate());
+        }
+        CohortHistogram histogram = new CohortHistogram();
+        for (CohortFood food : foodRepository.findCohortFoodsByIdBetween(fromId, toId)) {
+            long lastedDays = CohortHistogram.lastedDays(food.getStartDate(), food.getLastReviewDate(),
+                    firstFailureDates.get(food.getId()));
+            histogram.add(food.getNameKey(), food.getStartDate(), lastedDays);
+        }
+        return histogram;
+    }
+
+    // 리포트 전체 교체 (한 트랜잭션, 조회 중인 요청은 이전 리포트 또는 새 리포트만 봄)
+    @Transactional
+    public int replaceReports(CohortHistogram histogram) {
+        List<CohortReport> reports = histogram.toReports();
+        cohortReportRepository.deleteAllInBatch();
+        cohortReportRepository.saveAll(reports);
+        return reports.size();
+    }
+}
@@ -0,0 +1,60 @@
+package com.term.fastingdatecounter.domain.stats.service;
+
+import com.term.fastingdatecounter.global.scheduling.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+// 일별 집계 micro-batch (잠금을 얻은 pod 한 곳에서만 실행)
+// 실행마다 마지막 집계일부터 오늘까지 하루씩 다시 계산: 처음 실행하거나 오래 멈췄던 경우에는
+// 가장 오래된 작성일부터 max-days-per-run일씩 나눠서 채우고(backfill), 따라잡은 뒤에는 어제와 오늘만 다시 계산
+@RequiredArgsConstructor
+@Component
+public class DailyStatsJob {
+
+    public static final String LOCK_NAME = "dailyStats";
+
+    private final DailyStatsService dailyStatsService;
+    private final SchedulerLockService schedulerLockService;
+
+    @Value("${stats.daily.max-days-per-run:92}")
+    private int maxDaysPerRun;
+
+    @Value("${stats.daily.lock-lease:PT30M}")
+    private Duration lockLease;
+
+    @Scheduled(initialDelayString = "${stats.daily.interval:PT10M}", fixedDelayString = "${stats.daily.interval:PT10M}")
+    public void run() {
+        if (!schedulerLockService.tryLock(LOCK_NAME, lockLease)) {
+            return;
+        }
+        try {
+            rollupUntil(LocalDate.now());
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME);
+        }
+    }
+
+    public void rollupUntil(LocalDate today) {
+        // 마지막 집계일은 집계 후에 들어온 쓰기가 있을 수 있으므로 다시 계산, 자정 직후의 늦은 쓰기를 위해 어제도 다시 계산
+        LocalDate yesterday = today.minusDays(1);
+        LocalDate from = dailyStatsService.findLastStatDate()
+                .or(dailyStatsService::findFirstActivityDate)
+                .orElse(yesterday);
+        if (from.isAfter(yesterday)) {
+            from = yesterday;
+        }
+        LocalDate to = from.plusDays(maxDaysPerRun - 1L);
+        if (to.isAfter(today)) {
+            to = today;
+        }
+        // 하루 단위 트랜잭션 (실패해도 이전 날짜까지의 결과는 유지)
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            dailyStatsService.rollup(date);
+        }
+    }
+}
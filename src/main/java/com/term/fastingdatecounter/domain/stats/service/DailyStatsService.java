@@ -0,0 +1,118 @@
+package com.term.fastingdatecounter.domain.stats.service;
+
+import com.term.fastingdatecounter.domain.food.domain.FoodNameIndex;
+import com.term.fastingdatecounter.domain.food.dto.FoodNameCount;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
+import com.term.fastingdatecounter.domain.stats.domain.DailyStats;
+import com.term.fastingdatecounter.domain.stats.dto.DailyStatsResponse;
+import com.term.fastingdatecounter.domain.stats.dto.ReviewActivity;
+import com.term.fastingdatecounter.domain.stats.repository.DailyStatsRepository;
+import com.term.fastingdatecounter.global.exception.ErrorCode;
+import com.term.fastingdatecounter.global.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+// 일별 운영 지표 (조회는 daily_stats만 사용, review/food 테이블은 DailyStatsJob의 하루 단위 재계산에서만 조회)
+@RequiredArgsConstructor
+@Service
+public class DailyStatsService {
+
+    private final DailyStatsRepository dailyStatsRepository;
+    private final ReviewRepository reviewRepository;
+    private final FoodRepository foodRepository;
+
+    @Transactional(readOnly = true)
+    public List<DailyStatsResponse> findDaily(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return toResponses(dailyStatsRepository.findByNameKeyAndStatDateBetween(DailyStats.ALL_FOODS, from, to));
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyStatsResponse> findDailyByName(String name, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        String nameKey = FoodNameIndex.normalize(name);
+        if (nameKey.isEmpty()) {
+            return findDaily(from, to);
+        }
+        return toResponses(dailyStatsRepository.findByNameKeyAndStatDateBetween(nameKey, from, to));
+    }
+
+    // 하루치 집계를 작성일 기준으로 다시 계산 (이전 행은 삭제 후 추가, 여러 번 실행해도 같은 결과)
+    @Transactional
+    public void rollup(LocalDate date) {
+        LocalDateTime from = date.atStartOfDay();
+        LocalDateTime to = date.plusDays(1).atStartOfDay();
+        dailyStatsRepository.deleteByStatDate(date);
+
+        // 전체 집계 행은 활동이 없는 날에도 추가 (집계 진행 위치로 사용)
+        List<DailyStats> rows = new ArrayList<>();
+        rows.add(toDailyStats(date, reviewRepository.countWrittenBetween(from, to), foodRepository.countCreatedBetween(from, to)));
+
+        Map<String, ReviewActivity> activities = reviewRepository.countWrittenBetweenByNameKey(from, to).stream()
+                .collect(Collectors.toMap(ReviewActivity::getNameKey, activity -> activity));
+        Map<String, Long> newFoodCounts = new HashMap<>();
+        for (FoodNameCount nameCount : foodRepository.countCreatedBetweenByNameKey(from, to)) {
+            newFoodCounts.put(nameCount.getName(), nameCount.getCount());
+        }
+        TreeSet<String> nameKeys = new TreeSet<>(activities.keySet());
+        nameKeys.addAll(newFoodCounts.keySet());
+        nameKeys.remove(DailyStats.ALL_FOODS);
+        for (String nameKey : nameKeys) {
+            ReviewActivity activity = activities.getOrDefault(nameKey, new ReviewActivity(nameKey, 0L, 0L, 0L));
+            rows.add(toDailyStats(date, activity, newFoodCounts.getOrDefault(nameKey, 0L)));
+        }
+        dailyStatsRepository.saveAll(rows);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> findLastStatDate() {
+        return dailyStatsRepository.findLastStatDate();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> findFirstActivityDate() {
+        // 가장 먼저 작성된 리뷰 또는 음식의 날짜 (min(created_at) 인덱스 조회)
+        Optional<LocalDateTime> firstReview = reviewRepository.findFirstCreatedAt();
+        Optional<LocalDateTime> firstFood = foodRepository.findFirstCreatedAt();
+        return firstReview.map(review -> firstFood.filter(food -> food.isBefore(review)).orElse(review))
+                .or(() -> firstFood)
+                .map(LocalDateTime::toLocalDate);
+    }
+
+    private DailyStats toDailyStats(LocalDate date, ReviewActivity activity, long newFoodCount) {
+        return DailyStats.builder()
+                .statDate(date)
+                .nameKey(activity.getNameKey())
+                .reviewCount(activity.getReviewCount())
+                .fastedCount(activity.getFastedCount())
+                .newFoodCount(newFoodCount)
+                .activeUserCount(activity.getUserCount())
+                .build();
+    }
+
+    private List<DailyStatsResponse> toResponses(List<DailyStats> stats) {
+        return stats.stream()
+                .map(DailyStatsResponse::new)
+                .collect(Collectors.toList());
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        // 조회 기간은 시작일부터 최대 1년
+        if (to.isBefore(from) || to.isAfter(from.plusYears(1))) {
+            throw new ServiceException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_STATS_RANGE);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.term.fastingdatecounter.domain.stats.service;
+
+import com.term.fastingdatecounter.domain.food.domain.FoodNameIndex;
+import com.term.fastingdatecounter.domain.stats.domain.CountMinSketch;
+import com.term.fastingdatecounter.domain.stats.domain.HyperLogLog;
+import com.term.fastingdatecounter.domain.stats.domain.SketchHash;
+import com.term.fastingdatecounter.domain.stats.domain.StatsSketch;
+import com.term.fastingdatecounter.domain.stats.dto.GlobalStatsResponse;
+import com.term.fastingdatecounter.domain.stats.repository.StatsSketchRepository;
+import com.term.fastingdatecounter.global.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// 전체 통계 패널용 근사 카운터 (COUNT(DISTINCT) 조회 없이 활동 유저 수, 많이 등록된 음식명 집계)
+// pod마다 메모리의 스케치에 기록하고 flush-interval마다 pod별 행으로 덮어써서 저장, 조회는 모든 pod 행을 합친 결과
+// (HyperLogLog는 레지스터별 최댓값, count-min sketch는 칸별 합으로 합쳐지므로 pod별로 따로 세도 전체를 한 번에 센 것과 같음)
+// 저장 전에 pod가 비정상 종료되면 마지막 저장 이후 기록은 빠짐
+@RequiredArgsConstructor
+@Service
+public class GlobalStatsService {
+
+    public static final int TRENDING_DAYS = 7;
+
+    private static final String OWNER = System.getenv().getOrDefault("HOSTNAME", "local") + "/" + UUID.randomUUID();
+
+    private final StatsSketchRepository statsSketchRepository;
+
+    @Value("${stats.sketch.retention-days:35}")
+    private int retentionDays;
+
+    // 이 pod가 기록 중인 스케치와 마지막 저장 이후 바뀐 스케치 (lock으로 보호)
+    private final Object lock = new Object();
+    private final Map<LocalDate, HyperLogLog> dailyUsers = new HashMap<>();
+    private final Map<LocalDate, HyperLogLog> weeklyUsers = new HashMap<>();
+    private final Map<LocalDate, CountMinSketch> trendingFoods = new HashMap<>();
+    private final Set<StatsSketch.Key> dirty = new LinkedHashSet<>();
+
+    @Cacheable(cacheNames = CacheConfig.GLOBAL_STATS, key = "#today")
+    @Transactional(readOnly = true)
+    public GlobalStatsResponse findGlobalStats(LocalDate today) {
+        LocalDate weekStart = weekStart(today);
+        HyperLogLog daily = mergeUsers(StatsSketch.Kind.DAILY_USERS, today);
+        HyperLogLog weekly = mergeUsers(StatsSketch.Kind.WEEKLY_USERS, weekStart);
+
+        CountMinSketch trending = new CountMinSketch();
+        for (StatsSketch sketch : statsSketchRepository.findByKindAndPeriodStartBetween(
+                StatsSketch.Kind.TRENDING_FOODS, today.minusDays(TRENDING_DAYS - 1L), today)) {
+            trending.merge(CountMinSketch.fromBytes(sketch.getData()));
+        }
+        List<GlobalStatsResponse.Item> items = new ArrayList<>();
+        for (String name : trending.topItems()) {
+            items.add(new GlobalStatsResponse.Item(name, trending.estimate(name)));
+        }
+        return new GlobalStatsResponse(today, daily.estimate(), weekStart, weekly.estimate(), trending.getTotal(), items);
+    }
+
+    // 리뷰 작성 유저 기록 (커밋 후)
+    public void recordReview(Long userId) {
+        afterCommit(() -> {
+            LocalDate today = LocalDate.now();
+            long hash = SketchHash.of(userId);
+            synchronized (lock) {
+                dailyUsers.computeIfAbsent(today, date -> new HyperLogLog()).add(hash);
+                weeklyUsers.computeIfAbsent(weekStart(today), date -> new HyperLogLog()).add(hash);
+                dirty.add(new StatsSketch.Key(StatsSketch.Kind.DAILY_USERS, today, OWNER));
+                dirty.add(new StatsSketch.Key(StatsSketch.Kind.WEEKLY_USERS, weekStart(today), OWNER));
+            }
+        });
+    }
+
+    // 등록된 음식명 기록 (커밋 후, 정규화한 이름 기준)
+    public void recordFood(String name) {
+        String nameKey = FoodNameIndex.normalize(name);
+        if (nameKey.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            LocalDate today = LocalDate.now();
+            synchronized (lock) {
+                trendingFoods.computeIfAbsent(today, date -> new CountMinSketch()).add(nameKey);
+                dirty.add(new StatsSketch.Key(StatsSketch.Kind.TRENDING_FOODS, today, OWNER));
+            }
+        });
+    }
+
+    @Scheduled(initialDelayString = "${stats.sketch.flush-interval:PT1M}", fixedDelayString = "${stats.sketch.flush-interval:PT1M}")
+    @PreDestroy
+    public void flush() {
+        // 바뀐 스케치를 잠금 안에서 직렬화해 두고, 저장은 잠금 밖에서 (기록이 DB 쓰기를 기다리지 않도록)
+        LocalDate today = LocalDate.now();
+        Map<StatsSketch.Key, byte[]> snapshots = new LinkedHashMap<>();
+        synchronized (lock) {
+            for (StatsSketch.Key key : dirty) {
+                snapshots.put(key, serialize(key.getKind(), key.getPeriodStart()));
+            }
+            dirty.clear();
+            // 지난 기간은 저장 후 더 기록되지 않으므로 메모리에서 제거
+            dailyUsers.keySet().removeIf(date -> date.isBefore(today));
+            weeklyUsers.keySet().removeIf(date -> date.isBefore(weekStart(today)));
+            trendingFoods.keySet().removeIf(date -> date.isBefore(today));
+        }
+
+        // 이 pod의 행은 이 pod만 쓰므로 update 후 0건이면 insert
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<StatsSketch.Key, byte[]> snapshot : snapshots.entrySet()) {
+            StatsSketch.Key key = snapshot.getKey();
+            if (statsSketchRepository.overwrite(key.getKind(), key.getPeriodStart(), OWNER, snapshot.getValue(), now) == 0) {
+                statsSketchRepository.save(new StatsSketch(key.getKind(), key.getPeriodStart(), OWNER, snapshot.getValue(), now));
+            }
+        }
+        statsSketchRepository.deleteByPeriodStartBefore(today.minusDays(retentionDays));
+    }
+
+    private HyperLogLog mergeUsers(StatsSketch.Kind kind, LocalDate periodStart) {
+        HyperLogLog merged = new HyperLogLog();
+        for (StatsSketch sketch : statsSketchRepository.findByKindAndPeriodStartBetween(kind, periodStart, periodStart)) {
+            merged.merge(HyperLogLog.fromBytes(sketch.getData()));
+        }
+        return merged;
+    }
+
+    private byte[] serialize(StatsSketch.Kind kind, LocalDate periodStart) {
+        switch (kind) {
+            case DAILY_USERS:
+                return dailyUsers.get(periodStart).toBytes();
+            case WEEKLY_USERS:
+                return weeklyUsers.get(periodStart).toBytes();
+            default:
+                return trendingFoods.get(periodStart).toBytes();
+        }
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(DayOfWeek.MONDAY);
+    }
+
+    private void afterCommit(Runnable update) {
+        // 롤백된 쓰기가 집계되지 않도록 트랜잭션 커밋 후 반영
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+}
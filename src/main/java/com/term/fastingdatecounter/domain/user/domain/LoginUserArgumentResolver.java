@@ -1,8 +1,13 @@
 package com.term.fastingdatecounter.domain.user.domain;
 
 import com.term.fastingdatecounter.domain.user.dto.SessionUser;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import com.term.fastingdatecounter.global.exception.ErrorCode;
+import com.term.fastingdatecounter.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -10,12 +15,22 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import javax.servlet.http.HttpSession;
+import java.time.Duration;
 
 @RequiredArgsConstructor
 @Component
 public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
 
+    // 세션 유저가 DB에 있는지 확인한 기록 (확인한 유저 id, 확인 시각 epoch millis), 로그인 시 CustomOAuth2UserService가 남김
+    public static final String VERIFIED_USER_ATTRIBUTE = "verifiedUserId";
+    public static final String VERIFIED_AT_ATTRIBUTE = "verifiedAt";
+
     private final HttpSession httpSession;
+    private final UserRepository userRepository;
+
+    // 확인 후 이 시간이 지나면 다시 확인 (삭제된 계정의 세션은 최대 이 시간까지 유효)
+    @Value("${session.verify-interval:PT5M}")
+    private Duration verifyInterval;
 
     // 컨트롤러 메서드의 특정 파라미터를 지원하는지 판단
     @Override
@@ -34,6 +49,28 @@ public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver
             WebDataBinderFactory binderFactory
     ) throws Exception {
         // 세션에서 객체 가져옴
-        return httpSession.getAttribute("user");
+        SessionUser user = (SessionUser) httpSession.getAttribute("user");
+        if (user != null) {
+            verify(user);
+        }
+        return user;
+    }
+
+    // 유저 행 확인은 세션당 verify-interval에 한 번 (pk 존재 확인), 이후 서비스는 유저를 조회하지 않고 세션 유저의 id를 그대로 사용
+    // 확인 시각을 갱신할 때만 세션 속성을 씀 (요청마다 쓰지 않음)
+    private void verify(SessionUser user) {
+        long now = System.currentTimeMillis();
+        Object verifiedAt = httpSession.getAttribute(VERIFIED_AT_ATTRIBUTE);
+        if (user.getId().equals(httpSession.getAttribute(VERIFIED_USER_ATTRIBUTE))
+                && verifiedAt instanceof Long && (Long) verifiedAt + verifyInterval.toMillis() > now) {
+            return;
+        }
+        if (!userRepository.existsById(user.getId())) {
+            // 삭제된 계정이면 세션을 끊고 다시 로그인하도록
+            httpSession.invalidate();
+            throw new ServiceException(HttpStatus.UNAUTHORIZED, ErrorCode.NOT_FOUND_USER);
+        }
+        httpSession.setAttribute(VERIFIED_USER_ATTRIBUTE, user.getId());
+        httpSession.setAttribute(VERIFIED_AT_ATTRIBUTE, now);
     }
 }
@@ -16,8 +16,12 @@ public class SessionUser implements Serializable {
     private String name;
 
     public SessionUser(User user) {
-        this.id = user.getId();
-        this.email = user.getEmail();
-        this.name = user.getName();
+        this(user.getId(), user.getEmail(), user.getName());
+    }
+
+    public SessionUser(Long id, String email, String name) {
+        this.id = id;
+        this.email = email;
+        this.name = name;
     }
 }
@@ -2,10 +2,25 @@ package com.term.fastingdatecounter.domain.user.repository;
 
 import com.term.fastingdatecounter.domain.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // 로그인 시 조회, UK_user_email 인덱스 사용
+    // 2차/query 캐시 미사용: pod별 캐시는 다른 pod의 이름 변경, 계정 삭제를 반영하지 못함
     Optional<User> findByEmail(String email);
+
+    // 로그인 시 이름이 바뀐 경우에만 갱신 (같으면 0건, 행을 쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query("update User u set u.name = :name, u.updatedAt = :updatedAt where u.email = :email and u.name <> :name")
+    int updateNameIfChanged(@Param("email") String email,
+                            @Param("name") String name,
+                            @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -2,9 +2,11 @@ package com.term.fastingdatecounter.domain.user.service;
 
 import com.term.fastingdatecounter.domain.user.dto.OAuthAttributes;
 import com.term.fastingdatecounter.domain.user.dto.SessionUser;
+import com.term.fastingdatecounter.domain.user.domain.LoginUserArgumentResolver;
 import com.term.fastingdatecounter.domain.user.domain.User;
 import com.term.fastingdatecounter.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
@@ -15,7 +17,10 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
 import javax.servlet.http.HttpSession;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
 
 
 @RequiredArgsConstructor
@@ -36,13 +41,33 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 
         User user = saveOrUpdate(attributes);
         httpSession.setAttribute("user", new SessionUser(user));
+        httpSession.setAttribute(LoginUserArgumentResolver.VERIFIED_USER_ATTRIBUTE, user.getId()); // 로그인하면서 조회했으므로 verify-interval 동안 다시 확인하지 않음
+        httpSession.setAttribute(LoginUserArgumentResolver.VERIFIED_AT_ATTRIBUTE, System.currentTimeMillis());
         return new DefaultOAuth2User(Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")), attributes.getAttributes(), attributes.getNameAttributeKey());
     }
 
-    private User saveOrUpdate(OAuthAttributes attributes) {
-        User user = userRepository.findByEmail(attributes.getEmail())
-                .map(entity -> entity.update(attributes.getName())) // 기존 정보가 존재하면 update
-                .orElse(attributes.toEntity());
-        return userRepository.save(user);
+    // 기존 유저는 조건부 update 한 번 (이름이 같으면 0건, 행을 쓰지 않음), 처음 가입이면 insert 한 번
+    User saveOrUpdate(OAuthAttributes attributes) {
+        Optional<User> found = userRepository.findByEmail(attributes.getEmail());
+        if (found.isPresent()) {
+            return updateName(found.get(), attributes);
+        }
+        try {
+            return userRepository.saveAndFlush(attributes.toEntity());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 유저가 다른 pod에서 동시에 처음 로그인한 경우 (UK_user_email 중복), 먼저 저장된 행을 사용
+            User user = userRepository.findByEmail(attributes.getEmail()).orElseThrow(() -> e);
+            return updateName(user, attributes);
+        }
+    }
+
+    // 이름 비교는 DB에서 (조회한 엔티티의 이름은 그 사이 다른 pod의 로그인이 바꿨을 수 있음)
+    // 1건이면 이름을 바꾼 것, 0건이면 행의 이름이 이미 같은 것이므로 어느 쪽이든 엔티티를 로그인 이름으로 맞춤
+    User updateName(User user, OAuthAttributes attributes) {
+        int updated = userRepository.updateNameIfChanged(attributes.getEmail(), attributes.getName(), LocalDateTime.now());
+        if (updated == 0 && Objects.equals(user.getName(), attributes.getName())) {
+            return user;
+        }
+        return user.update(attributes.getName());
     }
 }
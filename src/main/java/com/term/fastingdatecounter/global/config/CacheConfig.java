@@ -0,0 +1,56 @@
+package com.term.fastingdatecounter.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    // 유저별 음식 목록 응답 (key: user id)
+    // pod별 로컬 캐시라 다른 pod에서의 쓰기로는 무효화되지 않음: TTL(기본 30초)만큼 이전 목록이 보일 수 있음을 허용
+    public static final String FOOD_LIST = "foodList";
+
+    // 음식별 리뷰 통계 (key: food id + 리뷰 변경 버전 + 시작일, 버전이 바뀌면 새 키로 조회되고 이전 값은 TTL로 제거)
+    public static final String FOOD_STATS = "foodStats";
+
+    // 전체 통계 패널 (key: 날짜, 스케치 저장 주기 정도로만 유지)
+    public static final String GLOBAL_STATS = "globalStats";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.food-list.maximum-size:10000}") long maximumSize,
+            @Value("${cache.food-list.expire-after-write:30s}") Duration foodListExpireAfterWrite,
+            @Value("${cache.food-stats.expire-after-write:10m}") Duration foodStatsExpireAfterWrite,
+            @Value("${cache.global-stats.expire-after-write:1m}") Duration globalStatsExpireAfterWrite
+    ) {
+        // 크기 + TTL 기준 제거, hit/miss/eviction 통계 기록 (actuator cache.* metric으로 노출)
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(FOOD_STATS);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(foodStatsExpireAfterWrite)
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(FOOD_LIST, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(foodListExpireAfterWrite)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(GLOBAL_STATS, Caffeine.newBuilder()
+                .maximumSize(10)
+                .expireAfterWrite(globalStatsExpireAfterWrite)
+                .recordStats()
+                .build());
+
+        // 캐시 저장/무효화는 트랜잭션 커밋 이후에 반영 (커밋 전 이전 값으로 다시 채워지는 것 방지)
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
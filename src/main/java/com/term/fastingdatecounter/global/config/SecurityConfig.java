@@ -5,12 +5,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
 
 @RequiredArgsConstructor
 @EnableWebSecurity
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final CustomOAuth2UserService customOAuth2UserService;
+    private final AuthorizationRequestRepository<OAuth2AuthorizationRequest> authorizationRequestRepository;
 
     @Override
     protected void configure(HttpSecurity http) throws Exception {
@@ -28,6 +31,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                         .deleteCookies("JSESSIONID") // 쿠키도 삭제
                 .and()
                     .oauth2Login() // 로그인 기능에 대한 진입점
+                        .authorizationEndpoint() // 로그인 중 인가 요청 보관 위치 (세션 또는 서명한 쿠키, 세션 설정에 따름)
+                            .authorizationRequestRepository(authorizationRequestRepository)
+                            .and()
                         .userInfoEndpoint() // 로그인 성공 이후 사용자 정보를 가져올 때 설정
                             .userService(customOAuth2UserService) // 로그인 성공 시 조치를 진행할 서비스 구현체
                             .and()
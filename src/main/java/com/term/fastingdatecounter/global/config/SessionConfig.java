@@ -0,0 +1,70 @@
+package com.term.fastingdatecounter.global.config;
+
+import com.term.fastingdatecounter.global.session.CompactSessionSerializer;
+import com.term.fastingdatecounter.global.session.NearCacheSessionRepository;
+import com.term.fastingdatecounter.global.session.SessionAccessTimeWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.client.web.HttpSessionOAuth2AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.jdbc.config.annotation.web.http.EnableJdbcHttpSession;
+
+import java.time.Duration;
+
+// JDBC 세션 저장소 + pod 메모리 near-cache (SessionRepositoryFilter는 @Primary인 near-cache를 사용)
+// 세션 저장소를 직접 구성하므로 spring.session.jdbc.* 자동 설정과 세션 테이블 자동 생성은 적용되지 않음 (테이블은 schema.sql)
+// stateless-session 프로필에서는 StatelessSessionConfig를 대신 사용
+@Profile("!" + StatelessSessionConfig.PROFILE)
+@EnableJdbcHttpSession
+@Configuration
+public class SessionConfig {
+
+    @Bean
+    public CompactSessionSerializer compactSessionSerializer() {
+        return new CompactSessionSerializer();
+    }
+
+    // 세션 속성 직렬화 (JDBC 세션 저장소가 이 이름의 ConversionService를 사용)
+    @Bean
+    public ConversionService springSessionConversionService(CompactSessionSerializer compactSessionSerializer) {
+        return compactSessionSerializer.conversionService();
+    }
+
+    @Bean
+    public SessionAccessTimeWriter sessionAccessTimeWriter(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${session.access-time.staleness:PT1M}") Duration staleness
+    ) {
+        return new SessionAccessTimeWriter(jdbcTemplate, meterRegistry, staleness);
+    }
+
+    @Primary
+    @Bean
+    public NearCacheSessionRepository nearCacheSessionRepository(
+            JdbcIndexedSessionRepository sessionRepository,
+            JdbcTemplate jdbcTemplate,
+            CompactSessionSerializer compactSessionSerializer,
+            SessionAccessTimeWriter sessionAccessTimeWriter,
+            MeterRegistry meterRegistry,
+            @Value("${session.near-cache.maximum-size:2000}") long maximumSize,
+            @Value("${session.near-cache.validate-interval:PT5S}") Duration validateInterval
+    ) {
+        return new NearCacheSessionRepository(sessionRepository, jdbcTemplate, compactSessionSerializer,
+                sessionAccessTimeWriter, meterRegistry, maximumSize, validateInterval);
+    }
+
+    // OAuth2 로그인 중의 인가 요청은 세션에 보관
+    @Bean
+    public AuthorizationRequestRepository<OAuth2AuthorizationRequest> authorizationRequestRepository() {
+        return new HttpSessionOAuth2AuthorizationRequestRepository();
+    }
+}
@@ -0,0 +1,49 @@
+package com.term.fastingdatecounter.global.config;
+
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import com.term.fastingdatecounter.global.session.SessionTokenSigner;
+import com.term.fastingdatecounter.global.session.SignedCookieAuthorizationRequestRepository;
+import com.term.fastingdatecounter.global.session.SignedCookieSessionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+import java.time.Duration;
+
+// stateless-session 프로필: 서버 세션 저장소 대신 서명한 쿠키 (SessionConfig 대신 사용)
+// session.token.secret은 32바이트 이상 필수, 키를 바꿀 때는 이전 키를 previous-secret으로 두면 발급된 쿠키가 만료될 때까지 유효
+@Profile(StatelessSessionConfig.PROFILE)
+@EnableSpringHttpSession
+@Configuration
+public class StatelessSessionConfig {
+
+    public static final String PROFILE = "stateless-session";
+
+    @Bean
+    public SessionTokenSigner sessionTokenSigner(
+            @Value("${session.token.secret}") String secret,
+            @Value("${session.token.previous-secret:}") String previousSecret
+    ) {
+        return new SessionTokenSigner(secret, previousSecret);
+    }
+
+    @Bean
+    public SignedCookieSessionRepository signedCookieSessionRepository(
+            SessionTokenSigner sessionTokenSigner,
+            UserRepository userRepository,
+            @Value("${session.token.time-to-live:PT30M}") Duration timeToLive,
+            @Value("${session.token.rotate-after:PT5M}") Duration rotateAfter
+    ) {
+        return new SignedCookieSessionRepository(sessionTokenSigner, userRepository, timeToLive, rotateAfter);
+    }
+
+    @Bean
+    public SignedCookieAuthorizationRequestRepository authorizationRequestRepository(
+            SessionTokenSigner sessionTokenSigner,
+            @Value("${session.token.authorization-request-time-to-live:PT5M}") Duration timeToLive
+    ) {
+        return new SignedCookieAuthorizationRequestRepository(sessionTokenSigner, timeToLive);
+    }
+}
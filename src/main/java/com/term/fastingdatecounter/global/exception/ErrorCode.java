@@ -22,6 +22,7 @@ public enum ErrorCode {
     NOT_FOUND_FOOD("F03", "음식 정보를 찾을 수 없습니다."),
     FUTURE_FOOD_START_DATE("F04", "단식 시작일은 현재까지만 선택할 수 있습니다."),
     TOO_LATE_FOOD_START_DATE("F05", "단식 시작일은 리뷰보다 앞선 날짜만 가능합니다."),
+    INVALID_LEADERBOARD_TYPE("F06", "지원하지 않는 순위 기준입니다."),
 
 
     FUTURE_REVIEW_DATE("R01", "미래 날짜는 리뷰를 남길 수 없습니다."),
@@ -32,7 +33,16 @@ public enum ErrorCode {
     EMPTY_REVIEW_FASTED("R06", "단식 여부를 선택해주세요."),
     NOT_FOUND_REVIEW("R07", "리뷰 정보를 찾을 수 없습니다."),
     ALREADY_WRITTEN_REVIEW_DATE("R08", "해당 날짜에 이미 작성된 리뷰가 있습니다."),
-    EARLIER_REVIEW_DATE("R09", "단식 시작일 이후의 리뷰만 남길 수 있습니다.")
+    EARLIER_REVIEW_DATE("R09", "단식 시작일 이후의 리뷰만 남길 수 있습니다."),
+    INVALID_REVIEW_CURSOR("R10", "잘못된 리뷰 페이지 정보입니다."),
+    INVALID_EXPORT_FORMAT("R11", "지원하지 않는 내보내기 형식입니다."),
+    EMPTY_REVIEW_IMPORT("R12", "가져올 리뷰를 작성해주세요."),
+    TOO_MANY_REVIEW_IMPORT("R13", "리뷰는 한 번에 1000개까지 가져올 수 있습니다."),
+    INVALID_CALENDAR_RANGE("R14", "달력 조회 기간은 시작 월부터 12개월 이내여야 합니다."),
+
+
+    INVALID_STATS_RANGE("S01", "통계 조회 기간은 시작일부터 1년 이내여야 합니다."),
+    INVALID_COHORT_RANGE("S02", "코호트 조회 기간은 시작월부터 5년 이내여야 합니다.")
     ;
 
     private final String code;
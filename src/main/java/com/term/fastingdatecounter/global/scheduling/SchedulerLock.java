@@ -0,0 +1,47 @@
+package com.term.fastingdatecounter.global.scheduling;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+// 여러 pod 중 한 곳에서만 배치 작업을 실행하기 위한 DB 잠금 (작업 이름별 한 행, locked_until까지 점유)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(name = "scheduler_lock")
+public class SchedulerLock implements Persistable<String> {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_by", length = 100, nullable = false)
+    private String lockedBy;
+
+    public SchedulerLock(String name, LocalDateTime lockedUntil, String lockedBy) {
+        this.name = name;
+        this.lockedUntil = lockedUntil;
+        this.lockedBy = lockedBy;
+    }
+
+    @Override
+    public String getId() {
+        return name;
+    }
+
+    @Override
+    public boolean isNew() {
+        // 처음 잠글 때만 insert, 이후에는 SchedulerLockRepository의 update 쿼리로만 갱신
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+package com.term.fastingdatecounter.global.scheduling;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 잠금이 만료된 경우에만 점유 (0건이면 다른 pod가 실행 중)
+    @Transactional
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :lockedUntil, l.lockedBy = :lockedBy " +
+            "where l.name = :name and l.lockedUntil <= :now")
+    int acquire(@Param("name") String name,
+                @Param("lockedUntil") LocalDateTime lockedUntil,
+                @Param("lockedBy") String lockedBy,
+                @Param("now") LocalDateTime now);
+
+    // 자신이 점유한 잠금만 해제
+    @Transactional
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :now where l.name = :name and l.lockedBy = :lockedBy")
+    int release(@Param("name") String name, @Param("lockedBy") String lockedBy, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,42 @@
+package com.term.fastingdatecounter.global.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// @Scheduled 작업은 모든 pod에서 실행되므로, 작업 시작 시 잠금을 얻은 pod만 실행
+// 잠금을 가진 pod가 죽어도 lease가 지나면 다른 pod가 다시 얻을 수 있음
+@RequiredArgsConstructor
+@Service
+public class SchedulerLockService {
+
+    // pod 이름 (k8s HOSTNAME) + 프로세스별 id
+    private static final String OWNER = System.getenv().getOrDefault("HOSTNAME", "local") + "/" + UUID.randomUUID();
+
+    private final SchedulerLockRepository schedulerLockRepository;
+
+    public boolean tryLock(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        if (schedulerLockRepository.acquire(name, now.plus(lease), OWNER, now) == 1) {
+            return true;
+        }
+        if (schedulerLockRepository.existsById(name)) {
+            return false;
+        }
+        // 처음 실행하는 작업이면 잠금 행 생성 (동시에 생성한 경우 pk 중복으로 한 pod만 성공)
+        try {
+            schedulerLockRepository.saveAndFlush(new SchedulerLock(name, now.plus(lease), OWNER));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    public void unlock(String name) {
+        schedulerLockRepository.release(name, OWNER, LocalDateTime.now());
+    }
+}
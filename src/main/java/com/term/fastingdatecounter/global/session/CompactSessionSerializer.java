@@ -0,0 +1,251 @@
+package com.term.fastingdatecounter.global.session;
+
+import com.term.fastingdatecounter.domain.user.dto.SessionUser;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.util.SerializationUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// JDBC 세션 속성 직렬화 (springSessionConversionService)
+// 자주 쓰는 속성은 필드만 담는 압축 형식 (첫 바이트 FORMAT), 그 밖의 값은 기존처럼 Java 직렬화 (첫 바이트 0xAC)
+// - SessionUser: id, 이메일, 이름
+// - Long: 세션 버전 (NearCacheSessionRepository.VERSION_ATTRIBUTE)
+// - SecurityContext(OAuth2 로그인): 등록 id, 권한, 유저 속성(String/Boolean/Integer/Long 값만), details는 Java 직렬화로 중첩
+// 읽을 때 첫 바이트로 형식을 구분하므로 이미 Java 직렬화로 저장된 세션도 그대로 읽힘
+public class CompactSessionSerializer {
+
+    private static final byte FORMAT = (byte) 0xC5;
+
+    private static final byte SESSION_USER = 1;
+    private static final byte LONG = 2;
+    private static final byte OAUTH2_SECURITY_CONTEXT = 3;
+
+    private static final byte STRING_VALUE = 1;
+    private static final byte BOOLEAN_VALUE = 2;
+    private static final byte INTEGER_VALUE = 3;
+    private static final byte LONG_VALUE = 4;
+
+    public ConversionService conversionService() {
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, this::serialize);
+        conversionService.addConverter(byte[].class, Object.class, this::deserialize);
+        return conversionService;
+    }
+
+    public byte[] serialize(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            if (value instanceof SessionUser) {
+                SessionUser user = (SessionUser) value;
+                out.writeByte(FORMAT);
+                out.writeByte(SESSION_USER);
+                writeNullableLong(out, user.getId());
+                writeNullableString(out, user.getEmail());
+                writeNullableString(out, user.getName());
+            } else if (value instanceof Long) {
+                out.writeByte(FORMAT);
+                out.writeByte(LONG);
+                out.writeLong((Long) value);
+            } else if (isCompactSecurityContext(value)) {
+                out.writeByte(FORMAT);
+                out.writeByte(OAUTH2_SECURITY_CONTEXT);
+                writeSecurityContext(out, (SecurityContext) value);
+            } else {
+                return SerializationUtils.serialize(value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public Object deserialize(byte[] bytes) {
+        if (bytes.length == 0 || bytes[0] != FORMAT) {
+            return SerializationUtils.deserialize(bytes);
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            byte type = in.readByte();
+            switch (type) {
+                case SESSION_USER:
+                    return new SessionUser(readNullableLong(in), readNullableString(in), readNullableString(in));
+                case LONG:
+                    return in.readLong();
+                case OAUTH2_SECURITY_CONTEXT:
+                    return readSecurityContext(in);
+                default:
+                    throw new IllegalArgumentException("unknown session attribute type: " + type);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 압축 형식으로 되돌렸을 때 같은 객체가 되는 경우만 (나머지는 Java 직렬화)
+    private static boolean isCompactSecurityContext(Object value) {
+        if (value == null || value.getClass() != SecurityContextImpl.class) {
+            return false;
+        }
+        Authentication authentication = ((SecurityContext) value).getAuthentication();
+        if (authentication == null || authentication.getClass() != OAuth2AuthenticationToken.class || !authentication.isAuthenticated()) {
+            return false;
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal == null || principal.getClass() != DefaultOAuth2User.class) {
+            return false;
+        }
+        DefaultOAuth2User user = (DefaultOAuth2User) principal;
+        if (!isSimpleAuthorities(authentication.getAuthorities()) || !isSimpleAuthorities(user.getAuthorities())) {
+            return false;
+        }
+        for (Map.Entry<String, Object> attribute : user.getAttributes().entrySet()) {
+            Object attributeValue = attribute.getValue();
+            if (!(attributeValue instanceof String || attributeValue instanceof Boolean
+                    || attributeValue instanceof Integer || attributeValue instanceof Long)) {
+                return false;
+            }
+        }
+        return nameAttributeKey(user) != null;
+    }
+
+    private static boolean isSimpleAuthorities(Collection<? extends GrantedAuthority> authorities) {
+        for (GrantedAuthority authority : authorities) {
+            if (authority.getClass() != SimpleGrantedAuthority.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // getName()과 같은 값을 가진 첫 속성 (값이 같은 속성은 어느 것을 골라도 getName() 결과가 같음)
+    private static String nameAttributeKey(DefaultOAuth2User user) {
+        for (Map.Entry<String, Object> attribute : user.getAttributes().entrySet()) {
+            if (attribute.getValue().toString().equals(user.getName())) {
+                return attribute.getKey();
+            }
+        }
+        return null;
+    }
+
+    private static void writeSecurityContext(DataOutputStream out, SecurityContext context) throws IOException {
+        OAuth2AuthenticationToken authentication = (OAuth2AuthenticationToken) context.getAuthentication();
+        DefaultOAuth2User user = (DefaultOAuth2User) authentication.getPrincipal();
+        out.writeUTF(authentication.getAuthorizedClientRegistrationId());
+        writeAuthorities(out, authentication.getAuthorities());
+        writeAuthorities(out, user.getAuthorities());
+        out.writeUTF(nameAttributeKey(user));
+        out.writeShort(user.getAttributes().size());
+        for (Map.Entry<String, Object> attribute : user.getAttributes().entrySet()) {
+            out.writeUTF(attribute.getKey());
+            Object value = attribute.getValue();
+            if (value instanceof String) {
+                out.writeByte(STRING_VALUE);
+                out.writeUTF((String) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte(BOOLEAN_VALUE);
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(INTEGER_VALUE);
+                out.writeInt((Integer) value);
+            } else {
+                out.writeByte(LONG_VALUE);
+                out.writeLong((Long) value);
+            }
+        }
+        byte[] details = authentication.getDetails() == null ? new byte[0] : SerializationUtils.serialize(authentication.getDetails());
+        out.writeInt(details.length);
+        out.write(details);
+    }
+
+    private static SecurityContext readSecurityContext(DataInputStream in) throws IOException {
+        String registrationId = in.readUTF();
+        List<GrantedAuthority> authorities = readAuthorities(in);
+        List<GrantedAuthority> userAuthorities = readAuthorities(in);
+        String nameAttributeKey = in.readUTF();
+        int attributeCount = in.readShort();
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < attributeCount; i++) {
+            String key = in.readUTF();
+            byte valueType = in.readByte();
+            switch (valueType) {
+                case STRING_VALUE:
+                    attributes.put(key, in.readUTF());
+                    break;
+                case BOOLEAN_VALUE:
+                    attributes.put(key, in.readBoolean());
+                    break;
+                case INTEGER_VALUE:
+                    attributes.put(key, in.readInt());
+                    break;
+                default:
+                    attributes.put(key, in.readLong());
+            }
+        }
+        byte[] details = new byte[in.readInt()];
+        in.readFully(details);
+
+        DefaultOAuth2User user = new DefaultOAuth2User(userAuthorities, attributes, nameAttributeKey);
+        OAuth2AuthenticationToken authentication = new OAuth2AuthenticationToken(user, authorities, registrationId);
+        if (details.length > 0) {
+            authentication.setDetails(SerializationUtils.deserialize(details));
+        }
+        return new SecurityContextImpl(authentication);
+    }
+
+    private static void writeAuthorities(DataOutputStream out, Collection<? extends GrantedAuthority> authorities) throws IOException {
+        out.writeShort(authorities.size());
+        for (GrantedAuthority authority : authorities) {
+            out.writeUTF(authority.getAuthority());
+        }
+    }
+
+    private static List<GrantedAuthority> readAuthorities(DataInputStream in) throws IOException {
+        int count = in.readShort();
+        Set<GrantedAuthority> authorities = new LinkedHashSet<>(count);
+        for (int i = 0; i < count; i++) {
+            authorities.add(new SimpleGrantedAuthority(in.readUTF()));
+        }
+        return new ArrayList<>(authorities);
+    }
+
+    private static void writeNullableLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readNullableLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,314 @@
+package com.term.fastingdatecounter.global.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+// JDBC 세션 저장소 앞의 pod 메모리 near-cache
+// - 최근 validate-interval 안에 확인한 세션은 DB 조회 없이 메모리의 사본으로 응답 (hit)
+// - 그 이후에는 세션 행 + 버전 속성 한 행만 조회해서 버전이 같으면 계속 사용 (validated), 다르거나 없으면 전체 조회 (miss)
+// - 속성이 바뀌면 저장 시 버전 속성(VERSION_ATTRIBUTE)을 새 값으로 바꿔서 다른 pod의 사본이 다음 확인 때 무효화되도록 함
+// - 속성/만료 시간/id가 바뀌지 않은 요청은 마지막 접근 시각만 바뀌므로 SessionAccessTimeWriter로 모아서 갱신
+// 다른 pod에서 로그아웃/속성 변경한 결과는 최대 validate-interval 늦게 반영됨 (이 pod에서의 변경은 바로 반영)
+// 세션 속성 객체는 요청 사이에 공유되므로 변경하지 않는 값으로 다뤄야 함 (변경은 setAttribute로)
+public class NearCacheSessionRepository implements SessionRepository<NearCacheSessionRepository.NearCacheSession> {
+
+    public static final String VERSION_ATTRIBUTE = "sessionVersion";
+
+    private static final String VERSION_QUERY = "SELECT S.EXPIRY_TIME, A.ATTRIBUTE_BYTES FROM SPRING_SESSION S " +
+            "LEFT JOIN SPRING_SESSION_ATTRIBUTES A ON A.SESSION_PRIMARY_ID = S.PRIMARY_ID AND A.ATTRIBUTE_NAME = ? " +
+            "WHERE S.SESSION_ID = ?";
+
+    private final SessionRepository<? extends Session> delegate;
+    private final JdbcTemplate jdbcTemplate;
+    private final CompactSessionSerializer serializer;
+    private final SessionAccessTimeWriter accessTimeWriter;
+    private final Duration validateInterval;
+    private final Cache<String, Entry> cache;
+
+    private final Counter hits;
+    private final Counter validations;
+    private final Counter misses;
+
+    public NearCacheSessionRepository(SessionRepository<? extends Session> delegate, JdbcTemplate jdbcTemplate,
+                                      CompactSessionSerializer serializer, SessionAccessTimeWriter accessTimeWriter,
+                                      MeterRegistry meterRegistry, long maximumSize, Duration validateInterval) {
+        this.delegate = delegate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.serializer = serializer;
+        this.accessTimeWriter = accessTimeWriter;
+        this.validateInterval = validateInterval;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofSeconds(MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS))
+                .build();
+
+        // hit 비율 = hit / (hit + validated + miss), DB 조회는 validated(가벼운 조회 1회)와 miss(전체 조회)만
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.validations = lookupCounter(meterRegistry, "validated");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        Gauge.builder("session.near-cache.size", cache, Cache::estimatedSize)
+                .description("Sessions held in the near-cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public NearCacheSession createSession() {
+        return new NearCacheSession(delegate.createSession(), true);
+    }
+
+    @Override
+    public NearCacheSession findById(String id) {
+        Instant now = Instant.now();
+        Entry entry = cache.getIfPresent(id);
+        if (entry != null && !entry.snapshot.isExpired()) {
+            if (entry.validatedAt.plus(validateInterval).isAfter(now)) {
+                hits.increment();
+                return new NearCacheSession(entry);
+            }
+            Entry validated = validate(entry, now);
+            if (validated != null) {
+                validations.increment();
+                cache.put(id, validated);
+                return new NearCacheSession(validated);
+            }
+        }
+
+        // 사본이 없거나 확인에 실패하면 전체 조회 (만료된 세션은 delegate가 삭제하고 null 반환)
+        misses.increment();
+        cache.invalidate(id);
+        Session session = delegate.findById(id);
+        if (session == null) {
+            return null;
+        }
+        cache.put(id, new Entry(session, now, session.getLastAccessedTime()));
+        return new NearCacheSession(session, false);
+    }
+
+    @Override
+    public void save(NearCacheSession session) {
+        Instant now = Instant.now();
+        if (session.delegateSession == null || !session.changed()) {
+            // 접근 시각만 바뀐 세션: 모아서 갱신 (쓰기 대기열에 넣었으면 사본의 DB 접근 시각도 앞당겨서 중복으로 넣지 않음)
+            if (accessTimeWriter.touch(session.getId(), session.getLastAccessedTime(), session.persistedAccessTime,
+                    session.getMaxInactiveInterval())) {
+                cache.asMap().computeIfPresent(session.getId(), (id, entry) -> entry.touched(session.getLastAccessedTime()));
+            }
+            return;
+        }
+        if (session.attributesChanged) {
+            session.delegateSession.setAttribute(VERSION_ATTRIBUTE, ThreadLocalRandom.current().nextLong());
+        }
+        // 다른 변경과 함께 저장하는 경우는 접근 시각도 같은 쿼리로 기록
+        session.delegateSession.setLastAccessedTime(session.getLastAccessedTime());
+        saveDelegate(session.delegateSession);
+        accessTimeWriter.forget(session.getId());
+        if (!session.originalId.equals(session.getId())) {
+            cache.invalidate(session.originalId);
+            accessTimeWriter.forget(session.originalId);
+        }
+        cache.put(session.getId(), new Entry(session.delegateSession, now, session.getLastAccessedTime()));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        cache.invalidate(id);
+        accessTimeWriter.forget(id);
+        delegate.deleteById(id);
+    }
+
+    private Entry validate(Entry entry, Instant now) {
+        // 세션이 삭제됐거나, DB 기준으로 만료됐거나, 버전이 바뀌었으면 null
+        List<Entry> validated = jdbcTemplate.query(VERSION_QUERY, (rs, rowNum) -> {
+            Instant expiryTime = Instant.ofEpochMilli(rs.getLong(1));
+            byte[] versionBytes = rs.getBytes(2);
+            Object version = versionBytes == null ? null : serializer.deserialize(versionBytes);
+            if (!expiryTime.isAfter(now) || !Objects.equals(version, entry.version)) {
+                return null;
+            }
+            // 다른 pod가 갱신한 접근 시각 반영
+            Instant persistedAccessTime = expiryTime.minus(entry.snapshot.getMaxInactiveInterval());
+            return entry.revalidated(now, persistedAccessTime);
+        }, VERSION_ATTRIBUTE, entry.snapshot.getId());
+        return validated.isEmpty() ? null : validated.get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void saveDelegate(Session session) {
+        ((SessionRepository<Session>) delegate).save(session);
+    }
+
+    private Session loadDelegate(String id) {
+        return delegate.findById(id);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("session.near-cache.lookups")
+                .description("Session lookups by near-cache result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // 캐시 항목 (변경하지 않고 새 항목으로 교체)
+    private static final class Entry {
+        private final MapSession snapshot;
+        private final Object version;
+        private final Instant validatedAt;
+        private final Instant persistedAccessTime; // DB에 기록된 마지막 접근 시각
+
+        private Entry(Session session, Instant validatedAt, Instant persistedAccessTime) {
+            this(new MapSession(session), session.getAttribute(VERSION_ATTRIBUTE), validatedAt, persistedAccessTime);
+        }
+
+        private Entry(MapSession snapshot, Object version, Instant validatedAt, Instant persistedAccessTime) {
+            this.snapshot = snapshot;
+            this.version = version;
+            this.validatedAt = validatedAt;
+            this.persistedAccessTime = persistedAccessTime;
+        }
+
+        private Entry revalidated(Instant validatedAt, Instant persistedAccessTime) {
+            MapSession refreshed = new MapSession(snapshot);
+            if (persistedAccessTime.isAfter(refreshed.getLastAccessedTime())) {
+                refreshed.setLastAccessedTime(persistedAccessTime);
+            }
+            return new Entry(refreshed, version, validatedAt,
+                    persistedAccessTime.isAfter(this.persistedAccessTime) ? persistedAccessTime : this.persistedAccessTime);
+        }
+
+        private Entry touched(Instant lastAccessedTime) {
+            MapSession refreshed = new MapSession(snapshot);
+            refreshed.setLastAccessedTime(lastAccessedTime);
+            return new Entry(refreshed, version, validatedAt, lastAccessedTime);
+        }
+    }
+
+    // 요청별 세션: 메모리 사본(cached)으로 시작하고, 속성/만료 시간/id를 바꿀 때만 DB에서 실제 세션을 불러와 위임
+    // 마지막 접근 시각은 저장할 때까지 이 객체에만 두고 위임하지 않음 (접근 시각만으로 세션 행 전체를 다시 쓰지 않도록)
+    public final class NearCacheSession implements Session {
+
+        private final String originalId;
+        private final boolean created;
+        private final Instant persistedAccessTime; // 불러올 때의 DB 접근 시각
+        private MapSession cached;
+        private Session delegateSession;
+        private Instant lastAccessedTime;
+        private boolean attributesChanged;
+        private boolean maxInactiveIntervalChanged;
+
+        private NearCacheSession(Session delegateSession, boolean created) {
+            this.originalId = delegateSession.getId();
+            this.created = created;
+            this.persistedAccessTime = delegateSession.getLastAccessedTime();
+            this.delegateSession = delegateSession;
+            this.lastAccessedTime = delegateSession.getLastAccessedTime();
+        }
+
+        private NearCacheSession(Entry entry) {
+            this.originalId = entry.snapshot.getId();
+            this.created = false;
+            this.persistedAccessTime = entry.persistedAccessTime;
+            this.cached = new MapSession(entry.snapshot);
+            this.lastAccessedTime = entry.snapshot.getLastAccessedTime();
+        }
+
+        @Override
+        public String getId() {
+            return current().getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return writable().changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return current().getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return current().getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            writable().setAttribute(attributeName, attributeValue);
+            attributesChanged = true;
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            writable().removeAttribute(attributeName);
+            attributesChanged = true;
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return current().getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            this.lastAccessedTime = lastAccessedTime;
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return lastAccessedTime;
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            writable().setMaxInactiveInterval(interval);
+            maxInactiveIntervalChanged = true;
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return current().getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            Duration maxInactiveInterval = getMaxInactiveInterval();
+            return !maxInactiveInterval.isNegative()
+                    && Instant.now().minus(maxInactiveInterval).isAfter(lastAccessedTime);
+        }
+
+        // 접근 시각 외의 변경 (새 세션, 속성, 만료 시간, id)
+        private boolean changed() {
+            return created || attributesChanged || maxInactiveIntervalChanged || !originalId.equals(getId());
+        }
+
+        private Session current() {
+            return delegateSession != null ? delegateSession : cached;
+        }
+
+        private Session writable() {
+            // 메모리 사본이면 DB에서 실제 세션을 불러온 뒤 위임 (그사이 삭제된 세션이면 사본만 바뀌고 저장되지 않음)
+            if (delegateSession == null) {
+                Session loaded = loadDelegate(cached.getId());
+                if (loaded == null) {
+                    return cached;
+                }
+                delegateSession = loaded;
+            }
+            return delegateSession;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.term.fastingdatecounter.global.session;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 세션 마지막 접근 시각 쓰기 모으기
+// 요청마다 쓰지 않고, DB의 접근 시각보다 staleness 이상 지난 경우만 대기열에 넣어 flush-interval마다 여러 세션을 batch update
+// 같은 세션의 여러 요청은 가장 늦은 시각 하나로 합쳐지고, 다른 pod가 더 늦은 시각을 이미 썼으면 덮어쓰지 않음
+// DB 기준 만료 시각은 실제보다 최대 staleness + flush-interval만큼 이를 수 있음 (비활성 만료 30분 대비 작게 유지)
+public class SessionAccessTimeWriter {
+
+    private static final String TOUCH_QUERY = "UPDATE SPRING_SESSION SET LAST_ACCESS_TIME = ?, EXPIRY_TIME = ? " +
+            "WHERE SESSION_ID = ? AND LAST_ACCESS_TIME < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration staleness;
+    private final Map<String, Touch> pending = new ConcurrentHashMap<>();
+
+    private final Counter coalesced;
+    private final Counter written;
+
+    public SessionAccessTimeWriter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, Duration staleness) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.staleness = staleness;
+        // 요청별 접근 시각 갱신 중 DB에 쓴 비율 = written / (written + coalesced)
+        this.coalesced = updateCounter(meterRegistry, "coalesced");
+        this.written = updateCounter(meterRegistry, "written");
+    }
+
+    // 쓰기 대기열에 넣었으면 true (persistedAccessTime: 이 pod가 알고 있는 DB의 접근 시각)
+    public boolean touch(String sessionId, Instant lastAccessedTime, Instant persistedAccessTime, Duration maxInactiveInterval) {
+        if (lastAccessedTime.isBefore(persistedAccessTime.plus(staleness))) {
+            coalesced.increment();
+            return false;
+        }
+        pending.merge(sessionId, new Touch(lastAccessedTime, maxInactiveInterval),
+                (before, after) -> before.lastAccessedTime.isAfter(after.lastAccessedTime) ? before : after);
+        return true;
+    }
+
+    public void forget(String sessionId) {
+        pending.remove(sessionId);
+    }
+
+    @Scheduled(fixedDelayString = "${session.access-time.flush-interval:PT10S}")
+    @PreDestroy
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Object[]> batch = new ArrayList<>(pending.size());
+        for (String sessionId : new ArrayList<>(pending.keySet())) {
+            Touch touch = pending.remove(sessionId);
+            if (touch == null) {
+                continue;
+            }
+            long lastAccessTime = touch.lastAccessedTime.toEpochMilli();
+            long expiryTime = touch.lastAccessedTime.plus(touch.maxInactiveInterval).toEpochMilli();
+            batch.add(new Object[]{lastAccessTime, expiryTime, sessionId, lastAccessTime});
+        }
+        jdbcTemplate.batchUpdate(TOUCH_QUERY, batch);
+        written.increment(batch.size());
+    }
+
+    private static Counter updateCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("session.access-time.updates")
+                .description("Session last-access-time updates by write result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class Touch {
+        private final Instant lastAccessedTime;
+        private final Duration maxInactiveInterval;
+
+        private Touch(Instant lastAccessedTime, Duration maxInactiveInterval) {
+            this.lastAccessedTime = lastAccessedTime;
+            this.maxInactiveInterval = maxInactiveInterval;
+        }
+    }
+}
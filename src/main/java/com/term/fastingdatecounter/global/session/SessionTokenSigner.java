@@ -0,0 +1,75 @@
+package com.term.fastingdatecounter.global.session;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+// 쿠키 값 서명 (HMAC-SHA256): base64url(payload) + "." + base64url(서명)
+// 서명은 현재 키로만 하고, 검증은 이전 키까지 허용해서 키를 바꿔도 발급된 쿠키가 만료될 때까지 유효
+public class SessionTokenSigner {
+
+    public static final int MIN_SECRET_LENGTH = 32;
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final List<SecretKeySpec> keys = new ArrayList<>();
+
+    public SessionTokenSigner(String secret, String previousSecret) {
+        keys.add(toKey(secret));
+        if (previousSecret != null && !previousSecret.isEmpty()) {
+            keys.add(toKey(previousSecret));
+        }
+    }
+
+    public String sign(byte[] payload) {
+        String encodedPayload = ENCODER.encodeToString(payload);
+        return encodedPayload + "." + ENCODER.encodeToString(mac(keys.get(0), encodedPayload));
+    }
+
+    // 서명이 맞으면 payload, 형식이 잘못됐거나 서명이 다르면 null
+    public byte[] verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        int separator = token.lastIndexOf('.');
+        if (separator <= 0) {
+            return null;
+        }
+        String encodedPayload = token.substring(0, separator);
+        try {
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+            for (SecretKeySpec key : keys) {
+                if (MessageDigest.isEqual(mac(key, encodedPayload), signature)) {
+                    return DECODER.decode(encodedPayload);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return null;
+    }
+
+    private static SecretKeySpec toKey(String secret) {
+        if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_LENGTH) {
+            throw new IllegalArgumentException("session token secret must be at least " + MIN_SECRET_LENGTH + " bytes");
+        }
+        return new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    private static byte[] mac(SecretKeySpec key, String encodedPayload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
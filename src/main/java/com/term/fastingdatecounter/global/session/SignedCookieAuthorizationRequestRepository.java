@@ -0,0 +1,97 @@
+package com.term.fastingdatecounter.global.session;
+
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.util.SerializationUtils;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+
+// OAuth2 로그인 중(인가 요청 ~ 콜백)의 인가 요청을 서명한 쿠키에 보관 (stateless-session 프로필, 서버 세션 대신)
+// 서명이 맞는 쿠키만 역직렬화하고, time-to-live가 지나면 무시
+public class SignedCookieAuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    public static final String COOKIE_NAME = "OAUTH2_AUTHORIZATION_REQUEST";
+
+    private static final byte AUTHORIZATION_REQUEST_TOKEN = 2;
+
+    private final SessionTokenSigner signer;
+    private final Duration timeToLive;
+
+    public SignedCookieAuthorizationRequestRepository(SessionTokenSigner signer, Duration timeToLive) {
+        this.signer = signer;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        Cookie cookie = findCookie(request);
+        if (cookie == null) {
+            return null;
+        }
+        byte[] payload = signer.verify(cookie.getValue());
+        if (payload == null || payload.length <= 1 + Long.BYTES || payload[0] != AUTHORIZATION_REQUEST_TOKEN) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(payload, 1, payload.length - 1);
+        if (Instant.ofEpochSecond(buffer.getLong()).isBefore(Instant.now())) {
+            return null;
+        }
+        byte[] serialized = new byte[buffer.remaining()];
+        buffer.get(serialized);
+        Object authorizationRequest = SerializationUtils.deserialize(serialized);
+        return authorizationRequest instanceof OAuth2AuthorizationRequest ? (OAuth2AuthorizationRequest) authorizationRequest : null;
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request, HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            response.addCookie(cookie(request, "", 0));
+            return;
+        }
+        byte[] serialized = SerializationUtils.serialize(authorizationRequest);
+        ByteBuffer payload = ByteBuffer.allocate(1 + Long.BYTES + serialized.length);
+        payload.put(AUTHORIZATION_REQUEST_TOKEN);
+        payload.putLong(Instant.now().plus(timeToLive).getEpochSecond());
+        payload.put(serialized);
+        response.addCookie(cookie(request, signer.sign(payload.array()), (int) timeToLive.getSeconds()));
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request) {
+        return loadAuthorizationRequest(request);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request, HttpServletResponse response) {
+        OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+        response.addCookie(cookie(request, "", 0));
+        return authorizationRequest;
+    }
+
+    private static Cookie findCookie(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return null;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return cookie;
+            }
+        }
+        return null;
+    }
+
+    private static Cookie cookie(HttpServletRequest request, String value, int maxAge) {
+        Cookie cookie = new Cookie(COOKIE_NAME, value);
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setSecure(request.isSecure());
+        cookie.setMaxAge(maxAge);
+        return cookie;
+    }
+}
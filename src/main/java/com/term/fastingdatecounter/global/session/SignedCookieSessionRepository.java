@@ -0,0 +1,193 @@
+package com.term.fastingdatecounter.global.session;
+
+import com.term.fastingdatecounter.domain.user.domain.LoginUserArgumentResolver;
+import com.term.fastingdatecounter.domain.user.dto.SessionUser;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.MapSession;
+import org.springframework.session.SessionRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+// 서버에 세션을 저장하지 않는 세션 저장소 (stateless-session 프로필)
+// 세션 id 자체가 서명한 토큰 (유저 id, 이메일, 이름, OAuth2 등록 id, 발급/만료 시각)이고, 세션 쿠키에 그대로 담김
+// - 조회: 서명과 만료만 확인해서 "user"(SessionUser)와 인증 정보(SecurityContext)를 다시 만듦 (DB 조회 없음)
+//   발급 후 rotate-after 이내의 토큰만 확인된 유저로 취급하고, 그보다 오래된 토큰은 LoginUserArgumentResolver가 유저 행을 다시 확인
+// - 저장: 로그인 유저가 바뀌었거나 토큰이 rotate-after보다 오래됐으면 새 토큰을 발급 (세션 id가 바뀌어서 쿠키가 다시 설정됨)
+//   새 토큰은 이번 요청에서 확인된 유저에게만 발급 (확인되지 않았으면 유저 행을 조회하고, 삭제된 계정이면 발급하지 않고 세션 종료)
+//   요청이 있는 동안은 계속 연장되고, time-to-live 동안 요청이 없으면 만료 (JDBC 세션의 비활성 만료와 같은 방식)
+// - 그 밖의 세션 속성은 저장되지 않음 (OAuth2 로그인 중의 인가 요청은 SignedCookieAuthorizationRequestRepository가 쿠키로 보관)
+// - 로그아웃하면 쿠키는 지워지지만, 이미 복사된 토큰은 만료 전까지 유효 (서버에서 개별 토큰을 무효화할 수 없음, 삭제된 계정은 rotate-after 이후 거부)
+public class SignedCookieSessionRepository implements SessionRepository<MapSession> {
+
+    public static final String USER_ATTRIBUTE = "user";
+
+    private static final byte SESSION_TOKEN = 1;
+    private static final Set<GrantedAuthority> AUTHORITIES = Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final SessionTokenSigner signer;
+    private final UserRepository userRepository;
+    private final Duration timeToLive;
+    private final Duration rotateAfter;
+
+    public SignedCookieSessionRepository(SessionTokenSigner signer, UserRepository userRepository, Duration timeToLive, Duration rotateAfter) {
+        this.signer = signer;
+        this.userRepository = userRepository;
+        this.timeToLive = timeToLive;
+        this.rotateAfter = rotateAfter;
+    }
+
+    @Override
+    public MapSession createSession() {
+        MapSession session = new MapSession();
+        session.setMaxInactiveInterval(timeToLive);
+        return session;
+    }
+
+    @Override
+    public MapSession findById(String id) {
+        Token token = decode(id);
+        Instant now = Instant.now();
+        if (token == null || !token.expiresAt.isAfter(now)) {
+            return null;
+        }
+        MapSession session = new MapSession(id);
+        session.setCreationTime(token.issuedAt);
+        session.setLastAccessedTime(token.issuedAt);
+        session.setMaxInactiveInterval(timeToLive);
+        session.setAttribute(USER_ATTRIBUTE, token.user);
+        // 토큰은 유저를 확인한 뒤에만 서명하므로, 발급 후 rotate-after 이내면 확인된 유저로 취급 (삭제된 계정도 이 동안은 유효)
+        if (token.issuedAt.plus(rotateAfter).isAfter(now)) {
+            session.setAttribute(LoginUserArgumentResolver.VERIFIED_USER_ATTRIBUTE, token.user.getId());
+            session.setAttribute(LoginUserArgumentResolver.VERIFIED_AT_ATTRIBUTE, token.issuedAt.toEpochMilli());
+        }
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, securityContext(token));
+        return session;
+    }
+
+    @Override
+    public void save(MapSession session) {
+        SessionUser user = session.getAttribute(USER_ATTRIBUTE);
+        if (user == null) {
+            // 로그인 전 세션은 저장할 것이 없으므로 토큰이 아닌 임의의 id로 (다음 요청에서 세션 없음)
+            if (decode(session.getId()) != null) {
+                session.setId(UUID.randomUUID().toString());
+            }
+            return;
+        }
+        Instant now = Instant.now();
+        Token current = decode(session.getId());
+        String registrationId = registrationId(session);
+        if (current != null && current.sameIdentity(user, registrationId) && current.issuedAt.plus(rotateAfter).isAfter(now)) {
+            return;
+        }
+        if (!verified(session, user)) {
+            // 삭제된 계정이면 새 토큰을 발급하지 않음 (다음 요청에서 세션 없음)
+            session.setId(UUID.randomUUID().toString());
+            return;
+        }
+        session.setId(encode(new Token(user, registrationId, now, now.plus(timeToLive))));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        // 서버에 저장한 세션이 없음 (쿠키는 SessionRepositoryFilter가 만료시킴)
+    }
+
+    private boolean verified(MapSession session, SessionUser user) {
+        // 이번 요청에서 로그인했거나 LoginUserArgumentResolver가 확인했으면 다시 조회하지 않음
+        if (user.getId().equals(session.getAttribute(LoginUserArgumentResolver.VERIFIED_USER_ATTRIBUTE))) {
+            return true;
+        }
+        return userRepository.existsById(user.getId());
+    }
+
+    private SecurityContext securityContext(Token token) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("id", token.user.getId());
+        attributes.put("email", token.user.getEmail());
+        attributes.put("name", token.user.getName());
+        DefaultOAuth2User principal = new DefaultOAuth2User(AUTHORITIES, attributes, "email");
+        return new SecurityContextImpl(new OAuth2AuthenticationToken(principal, AUTHORITIES, token.registrationId));
+    }
+
+    private static String registrationId(MapSession session) {
+        SecurityContext context = session.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+        if (context != null && context.getAuthentication() instanceof OAuth2AuthenticationToken) {
+            return ((OAuth2AuthenticationToken) context.getAuthentication()).getAuthorizedClientRegistrationId();
+        }
+        return "";
+    }
+
+    private String encode(Token token) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(SESSION_TOKEN);
+            out.writeLong(token.user.getId());
+            out.writeUTF(Objects.toString(token.user.getEmail(), ""));
+            out.writeUTF(Objects.toString(token.user.getName(), ""));
+            out.writeUTF(token.registrationId);
+            out.writeLong(token.issuedAt.toEpochMilli());
+            out.writeLong(token.expiresAt.toEpochMilli());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return signer.sign(bytes.toByteArray());
+    }
+
+    private Token decode(String id) {
+        byte[] payload = signer.verify(id);
+        if (payload == null || payload.length == 0 || payload[0] != SESSION_TOKEN) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload, 1, payload.length - 1))) {
+            SessionUser user = new SessionUser(in.readLong(), in.readUTF(), in.readUTF());
+            String registrationId = in.readUTF();
+            Instant issuedAt = Instant.ofEpochMilli(in.readLong());
+            Instant expiresAt = Instant.ofEpochMilli(in.readLong());
+            return new Token(user, registrationId, issuedAt, expiresAt);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static final class Token {
+        private final SessionUser user;
+        private final String registrationId;
+        private final Instant issuedAt;
+        private final Instant expiresAt;
+
+        private Token(SessionUser user, String registrationId, Instant issuedAt, Instant expiresAt) {
+            this.user = user;
+            this.registrationId = registrationId;
+            this.issuedAt = issuedAt;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean sameIdentity(SessionUser other, String otherRegistrationId) {
+            return Objects.equals(user.getId(), other.getId())
+                    && user.getEmail().equals(Objects.toString(other.getEmail(), ""))
+                    && user.getName().equals(Objects.toString(other.getName(), ""))
+                    && registrationId.equals(otherRegistrationId);
+        }
+    }
+}
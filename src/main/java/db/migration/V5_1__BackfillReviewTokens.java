@@ -0,0 +1,48 @@
+package db.migration;
+
+import com.term.fastingdatecounter.domain.review.domain.ReviewTokenizer;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 검색 역색인(review_token) 도입 이전에 작성된 리뷰 색인 (ReviewSearchService.index 와 같은 토큰)
+// 리뷰 id 순으로 CHUNK_SIZE 개씩 읽고, 토큰은 batch insert (이미 색인된 리뷰는 건너뜀)
+public class V5_1__BackfillReviewTokens extends BaseJavaMigration {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String SELECT_QUERY = "SELECT r.id, r.title, r.content, f.user_id " +
+            "FROM review r JOIN food f ON f.id = r.food_id " +
+            "WHERE r.id > ? AND NOT EXISTS (SELECT 1 FROM review_token t WHERE t.review_id = r.id) " +
+            "ORDER BY r.id LIMIT " + CHUNK_SIZE;
+
+    private static final String INSERT_QUERY = "INSERT INTO review_token (review_id, token, user_id, frequency) " +
+            "VALUES (?, ?, ?, ?)";
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> tokens = new ArrayList<>();
+            List<Long> reviewIds = jdbcTemplate.query(SELECT_QUERY, (rs, rowNum) -> {
+                long reviewId = rs.getLong("id");
+                long userId = rs.getLong("user_id");
+                ReviewTokenizer.tokenize(rs.getString("title"), rs.getString("content"))
+                        .forEach((token, frequency) -> tokens.add(new Object[]{reviewId, token, userId, frequency}));
+                return reviewId;
+            }, afterId);
+            if (!tokens.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_QUERY, tokens);
+            }
+            if (reviewIds.size() < CHUNK_SIZE) {
+                return;
+            }
+            afterId = reviewIds.get(reviewIds.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package db.migration;
+
+import com.term.fastingdatecounter.domain.food.domain.FoodNameIndex;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 정규화한 음식명(name_key) 도입 이전에 등록된 음식 채움 (Food 엔티티와 같은 FoodNameIndex.normalize 사용)
+// 음식 id 순으로 CHUNK_SIZE 개씩 읽고 batch update (이미 채워진 음식은 건너뜀)
+public class V6_1__BackfillFoodNameKey extends BaseJavaMigration {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String SELECT_QUERY = "SELECT id, name FROM food " +
+            "WHERE id > ? AND name_key IS NULL ORDER BY id LIMIT " + CHUNK_SIZE;
+
+    private static final String UPDATE_QUERY = "UPDATE food SET name_key = ? WHERE id = ?";
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> nameKeys = new ArrayList<>();
+            List<Long> foodIds = jdbcTemplate.query(SELECT_QUERY, (rs, rowNum) -> {
+                long foodId = rs.getLong("id");
+                nameKeys.add(new Object[]{FoodNameIndex.normalize(rs.getString("name")), foodId});
+                return foodId;
+            }, afterId);
+            if (!nameKeys.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_QUERY, nameKeys);
+            }
+            if (foodIds.size() < CHUNK_SIZE) {
+                return;
+            }
+            afterId = foodIds.get(foodIds.size() - 1);
+        }
+    }
+}
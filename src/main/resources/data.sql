@@ -2,13 +2,13 @@ insert into user (email, name, created_at, updated_at) values ('heeouo@kookmin.a
 insert into user (email, name, created_at, updated_at) values ('heeouo@konkuk.ac.kr', '첩자', now(), now());
 insert into user (email, name, created_at, updated_at) values ('jasonyoo950909@gmail.com', '유경원', now(), now());
 
-insert into food (user_id, name, start_date, day_count, created_at, updated_at) values (1, '커피', '2021-11-22', 3, now(), now());
-insert into food (user_id, name, start_date, created_at, updated_at) values (1, '토샷추', '2021-11-24', now(), now());
-insert into food (user_id, name, start_date, created_at, updated_at) values (1, '초콜릿', '2021-11-20', now(), now());
-insert into food (user_id, name, start_date, created_at, updated_at) values (1, '탄산음료', '2021-11-25', now(), now());
+insert into food (user_id, name, name_key, start_date, day_count, current_streak, longest_streak, last_review_date, created_at, updated_at) values (1, '커피', '커피', '2021-11-22', 3, 0, 2, '2021-11-26', now(), now());
+insert into food (user_id, name, name_key, start_date, created_at, updated_at) values (1, '토샷추', '토샷추', '2021-11-24', now(), now());
+insert into food (user_id, name, name_key, start_date, created_at, updated_at) values (1, '초콜릿', '초콜릿', '2021-11-20', now(), now());
+insert into food (user_id, name, name_key, start_date, created_at, updated_at) values (1, '탄산음료', '탄산음료', '2021-11-25', now(), now());
 
-insert into review (food_id, date, title, content, fasted, created_at, updated_at) values (1, '2021-11-22', '1일차', '이정도는 만만하지', 1, now(), now());
-insert into review (food_id, date, title, content, fasted, created_at, updated_at) values (1, '2021-11-23', '2일차', '죽겠어요', 1, now(), now());
-insert into review (food_id, date, title, content, fasted, created_at, updated_at) values (1, '2021-11-24', '3일차', '과제 마감 N개', 0, now(), now());
-insert into review (food_id, date, title, content, fasted, created_at, updated_at) values (1, '2021-11-25', '4일차', '카페인 디톡스', 1, now(), now());
-insert into review (food_id, date, title, content, fasted, created_at, updated_at) values (1, '2021-11-26', '5일차', '커피 없이는 코드가 안 나와요...', 0, now(), now());
+insert into review (id, food_id, date, title, content, fasted, created_at, updated_at) values (1, 1, '2021-11-22', '1일차', '이정도는 만만하지', 1, now(), now());
+insert into review (id, food_id, date, title, content, fasted, created_at, updated_at) values (2, 1, '2021-11-23', '2일차', '죽겠어요', 1, now(), now());
+insert into review (id, food_id, date, title, content, fasted, created_at, updated_at) values (3, 1, '2021-11-24', '3일차', '과제 마감 N개', 0, now(), now());
+insert into review (id, food_id, date, title, content, fasted, created_at, updated_at) values (4, 1, '2021-11-25', '4일차', '카페인 디톡스', 1, now(), now());
+insert into review (id, food_id, date, title, content, fasted, created_at, updated_at) values (5, 1, '2021-11-26', '5일차', '커피 없이는 코드가 안 나와요...', 0, now(), now());
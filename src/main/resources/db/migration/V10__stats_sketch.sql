@@ -0,0 +1,9 @@
+-- 전체 통계용 근사 카운터 (pod(owner)별 기간 누적 스케치, 조회 시 합침)
+CREATE TABLE `stats_sketch` (
+    `kind`	varchar(20)	NOT NULL,
+    `period_start`	date	NOT NULL,
+    `owner`	varchar(100)	NOT NULL,
+    `data`	blob	NOT NULL,
+    `updated_at`	timestamp	NOT NULL,
+    PRIMARY KEY (`kind`, `period_start`, `owner`)
+);
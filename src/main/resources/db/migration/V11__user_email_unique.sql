@@ -0,0 +1,25 @@
+-- 같은 email로 중복 가입된 유저 정리 (가장 먼저 가입한 유저 하나만 남김)
+-- 중복이 있었으면 세션을 모두 비움 (삭제되는 유저의 로그인 세션이 남지 않도록, 다시 로그인하면 남은 유저로 연결됨)
+DELETE FROM `SPRING_SESSION`
+WHERE EXISTS (SELECT 1 FROM (SELECT `email` FROM `user` GROUP BY `email` HAVING COUNT(*) > 1) `duplicated`);
+
+-- 중복 유저의 음식, 검색 색인을 남길 유저로 옮김
+UPDATE `food` f
+    JOIN `user` u ON u.`id` = f.`user_id`
+    JOIN (SELECT `email`, MIN(`id`) AS `keep_id` FROM `user` GROUP BY `email`) k ON k.`email` = u.`email`
+SET f.`user_id` = k.`keep_id`
+WHERE f.`user_id` <> k.`keep_id`;
+
+UPDATE `review_token` t
+    JOIN `user` u ON u.`id` = t.`user_id`
+    JOIN (SELECT `email`, MIN(`id`) AS `keep_id` FROM `user` GROUP BY `email`) k ON k.`email` = u.`email`
+SET t.`user_id` = k.`keep_id`
+WHERE t.`user_id` <> k.`keep_id`;
+
+DELETE u FROM `user` u
+    JOIN (SELECT `email`, MIN(`id`) AS `keep_id` FROM `user` GROUP BY `email`) k ON k.`email` = u.`email`
+WHERE u.`id` <> k.`keep_id`;
+
+-- 로그인 시 email 조회 (전체 스캔 방지), 같은 유저의 중복 가입 방지
+ALTER TABLE `user` ADD CONSTRAINT `UK_user_email`
+    UNIQUE (`email`);
@@ -0,0 +1,62 @@
+-- 마이그레이션 도입 이전의 배포 스키마 (기존 DB는 이 버전으로 baseline 처리되어 실행되지 않음)
+
+CREATE TABLE `user` (
+    `id`	bigint	PRIMARY KEY AUTO_INCREMENT,
+    `email`	varchar(30)	NOT NULL,
+    `name`	varchar(20)	NOT NULL,
+    `created_at`	datetime	NOT NULL,
+    `updated_at`	datetime	NOT NULL
+);
+
+CREATE TABLE `food` (
+    `id`	bigint	PRIMARY KEY AUTO_INCREMENT,
+    `user_id`	bigint	NOT NULL,
+    `name`	varchar(50)	NOT NULL,
+    `start_date`	date	NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    `day_count`	bigint	NOT NULL	DEFAULT 0,
+    `created_at`	datetime	NOT NULL,
+    `updated_at`	datetime	NOT NULL
+);
+
+CREATE TABLE `review` (
+    `id`	bigint	PRIMARY KEY AUTO_INCREMENT,
+    `food_id`	bigint	NOT NULL,
+    `date`	date	NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    `title`	varchar(100)	NOT NULL,
+    `content`	varchar(500)	NOT NULL,
+    `fasted`	boolean	NOT NULL	DEFAULT 1,
+    `created_at`	datetime	NOT NULL,
+    `updated_at`	datetime	NOT NULL
+);
+
+ALTER TABLE `food` ADD CONSTRAINT `FK_user_TO_food_1`
+    FOREIGN KEY (`user_id`)
+    REFERENCES `user` (`id`);
+
+ALTER TABLE `review` ADD CONSTRAINT `FK_food_TO_review_1`
+    FOREIGN KEY (`food_id`)
+    REFERENCES `food` (`id`);
+
+-- Spring Session JDBC 테이블 (spring-session-jdbc schema-mysql.sql)
+CREATE TABLE `SPRING_SESSION` (
+    `PRIMARY_ID`	char(36)	NOT NULL,
+    `SESSION_ID`	char(36)	NOT NULL,
+    `CREATION_TIME`	bigint	NOT NULL,
+    `LAST_ACCESS_TIME`	bigint	NOT NULL,
+    `MAX_INACTIVE_INTERVAL`	int	NOT NULL,
+    `EXPIRY_TIME`	bigint	NOT NULL,
+    `PRINCIPAL_NAME`	varchar(100),
+    PRIMARY KEY (`PRIMARY_ID`)
+) ENGINE=InnoDB ROW_FORMAT=DYNAMIC;
+
+CREATE UNIQUE INDEX `SPRING_SESSION_IX1` ON `SPRING_SESSION` (`SESSION_ID`);
+CREATE INDEX `SPRING_SESSION_IX2` ON `SPRING_SESSION` (`EXPIRY_TIME`);
+CREATE INDEX `SPRING_SESSION_IX3` ON `SPRING_SESSION` (`PRINCIPAL_NAME`);
+
+CREATE TABLE `SPRING_SESSION_ATTRIBUTES` (
+    `SESSION_PRIMARY_ID`	char(36)	NOT NULL,
+    `ATTRIBUTE_NAME`	varchar(200)	NOT NULL,
+    `ATTRIBUTE_BYTES`	blob	NOT NULL,
+    PRIMARY KEY (`SESSION_PRIMARY_ID`, `ATTRIBUTE_NAME`),
+    FOREIGN KEY (`SESSION_PRIMARY_ID`) REFERENCES `SPRING_SESSION` (`PRIMARY_ID`) ON DELETE CASCADE
+) ENGINE=InnoDB ROW_FORMAT=DYNAMIC;
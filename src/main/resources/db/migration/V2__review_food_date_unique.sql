@@ -0,0 +1,5 @@
+-- 같은 음식의 같은 날짜 리뷰 중복 방지, 리뷰 목록 keyset 페이지네이션 (food_id, date desc, id desc) 도 이 인덱스를 사용
+-- 기존 중복이 있으면 실패하므로 먼저 확인:
+--   SELECT food_id, date, COUNT(*) FROM review GROUP BY food_id, date HAVING COUNT(*) > 1;
+ALTER TABLE `review` ADD CONSTRAINT `UK_review_food_id_date`
+    UNIQUE (`food_id`, `date`);
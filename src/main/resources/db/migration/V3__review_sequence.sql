@@ -0,0 +1,10 @@
+-- 리뷰 id 시퀀스 (JDBC batch insert용, allocationSize = 50, MariaDB 10.3+)
+-- Hibernate pooled optimizer는 시퀀스 값 이전 50개 id를 사용하므로, 기존 최대 id + 100부터 시작해 겹치지 않게 함
+SET @review_seq_start = (SELECT COALESCE(MAX(`id`), 0) + 100 FROM `review`);
+SET @create_review_seq = CONCAT('CREATE SEQUENCE `review_seq` START WITH ', @review_seq_start, ' INCREMENT BY 50');
+PREPARE create_review_seq FROM @create_review_seq;
+EXECUTE create_review_seq;
+DEALLOCATE PREPARE create_review_seq;
+
+-- id는 시퀀스로만 채번
+ALTER TABLE `review` MODIFY `id` bigint NOT NULL;
@@ -0,0 +1,40 @@
+-- 음식의 연속 단식일 (현재 / 최장) 과 가장 최근 리뷰 날짜
+ALTER TABLE `food`
+    ADD COLUMN `current_streak`	bigint	NOT NULL	DEFAULT 0,
+    ADD COLUMN `longest_streak`	bigint	NOT NULL	DEFAULT 0,
+    ADD COLUMN `last_review_date`	date	NULL;
+
+-- 기존 리뷰로 채움 (StreakService.recompute 와 같은 기준)
+-- 단식 성공 날짜에서 (날짜 - 순번)이 같은 날짜들이 하나의 연속 구간
+UPDATE `food` f
+JOIN (
+    SELECT `food_id`, MAX(`date`) AS `last_review_date`
+    FROM `review`
+    GROUP BY `food_id`
+) last_review ON last_review.`food_id` = f.`id`
+SET f.`last_review_date` = last_review.`last_review_date`;
+
+UPDATE `food` f
+JOIN (
+    SELECT runs.`food_id`,
+           MAX(runs.`run_length`) AS `longest_streak`,
+           MAX(CASE WHEN runs.`run_end` = food_last.`last_review_date` THEN runs.`run_length` ELSE 0 END) AS `current_streak`
+    FROM (
+        SELECT `food_id`, COUNT(*) AS `run_length`, MAX(`date`) AS `run_end`
+        FROM (
+            SELECT `food_id`, `date`,
+                   DATEDIFF(`date`, '2000-01-01') - ROW_NUMBER() OVER (PARTITION BY `food_id` ORDER BY `date`) AS `run_key`
+            FROM `review`
+            WHERE `fasted` = 1
+        ) fasted_dates
+        GROUP BY `food_id`, `run_key`
+    ) runs
+    JOIN (
+        SELECT `food_id`, MAX(`date`) AS `last_review_date`
+        FROM `review`
+        GROUP BY `food_id`
+    ) food_last ON food_last.`food_id` = runs.`food_id`
+    GROUP BY runs.`food_id`
+) streak ON streak.`food_id` = f.`id`
+SET f.`current_streak` = streak.`current_streak`,
+    f.`longest_streak` = streak.`longest_streak`;
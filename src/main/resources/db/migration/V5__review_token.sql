@@ -0,0 +1,15 @@
+-- 리뷰 검색 역색인 (유저의 토큰으로 리뷰 조회), 기존 리뷰는 V5_1 (Java) 에서 색인
+CREATE TABLE `review_token` (
+    `review_id`	bigint	NOT NULL,
+    `token`	varchar(30)	NOT NULL,
+    `user_id`	bigint	NOT NULL,
+    `frequency`	int	NOT NULL,
+    PRIMARY KEY (`review_id`, `token`)
+);
+
+ALTER TABLE `review_token` ADD CONSTRAINT `FK_review_TO_review_token_1`
+    FOREIGN KEY (`review_id`)
+    REFERENCES `review` (`id`);
+
+-- 토큰별 리뷰 id 순 (검색 후보를 최근 리뷰부터 인덱스 순서대로 읽음)
+CREATE INDEX `IDX_review_token_user_id_token` ON `review_token` (`user_id`, `token`, `review_id`);
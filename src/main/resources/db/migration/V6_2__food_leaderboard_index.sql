@@ -0,0 +1,8 @@
+ALTER TABLE `food` MODIFY `name_key` varchar(50) NOT NULL;
+
+-- 순위표 (단식일수, 연속 단식일 순 top N / 내 순위), 전체 및 음식명별
+-- 조회는 (기준 DESC, id DESC) 한 방향으로 정렬해 인덱스를 역방향으로 읽음 (MariaDB 10.8 미만은 인덱스의 DESC를 무시)
+CREATE INDEX `IDX_food_day_count` ON `food` (`day_count`, `id`);
+CREATE INDEX `IDX_food_current_streak` ON `food` (`current_streak`, `id`);
+CREATE INDEX `IDX_food_name_key_day_count` ON `food` (`name_key`, `day_count`, `id`);
+CREATE INDEX `IDX_food_name_key_current_streak` ON `food` (`name_key`, `current_streak`, `id`);
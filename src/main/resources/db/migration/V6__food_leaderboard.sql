@@ -0,0 +1,3 @@
+-- 정규화한 음식명 (FoodNameIndex.normalize), 음식명별 순위표/통계 기준
+-- 기존 음식은 V6_1 (Java) 에서 앱과 같은 정규화로 채우고, V6_2 에서 NOT NULL 및 인덱스 추가
+ALTER TABLE `food` ADD COLUMN `name_key` varchar(50) NULL AFTER `name`;
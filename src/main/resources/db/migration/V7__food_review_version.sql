@@ -0,0 +1,2 @@
+-- 음식별 리뷰 변경 버전 (리뷰 등록/수정/삭제 시 증가, 리뷰 통계 캐시 키)
+ALTER TABLE `food` ADD COLUMN `review_version` bigint NOT NULL DEFAULT 0 AFTER `day_count`;
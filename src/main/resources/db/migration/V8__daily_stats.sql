@@ -0,0 +1,23 @@
+-- 일별 집계 (작성일 기준 재계산)
+CREATE INDEX `IDX_review_created_at` ON `review` (`created_at`);
+CREATE INDEX `IDX_food_created_at` ON `food` (`created_at`);
+
+-- 일별 운영 지표 (name_key = '' 는 전체)
+CREATE TABLE `daily_stats` (
+    `stat_date`	date	NOT NULL,
+    `name_key`	varchar(50)	NOT NULL,
+    `review_count`	bigint	NOT NULL,
+    `fasted_count`	bigint	NOT NULL,
+    `new_food_count`	bigint	NOT NULL,
+    `active_user_count`	bigint	NOT NULL,
+    PRIMARY KEY (`stat_date`, `name_key`)
+);
+
+CREATE INDEX `IDX_daily_stats_name_key_stat_date` ON `daily_stats` (`name_key`, `stat_date`);
+
+-- 배치 작업 잠금 (여러 pod 중 한 곳에서만 실행)
+CREATE TABLE `scheduler_lock` (
+    `name`	varchar(50)	PRIMARY KEY,
+    `locked_until`	datetime	NOT NULL,
+    `locked_by`	varchar(100)	NOT NULL
+);
@@ -0,0 +1,10 @@
+-- 코호트 리포트 (단식 시작월, 음식명별 유지 주 수 분포, name_key = '' 는 전체)
+CREATE TABLE `cohort_report` (
+    `cohort_month`	date	NOT NULL,
+    `name_key`	varchar(50)	NOT NULL,
+    `weeks`	int	NOT NULL,
+    `food_count`	bigint	NOT NULL,
+    PRIMARY KEY (`cohort_month`, `name_key`, `weeks`)
+);
+
+CREATE INDEX `IDX_cohort_report_name_key_cohort_month` ON `cohort_report` (`name_key`, `cohort_month`);
@@ -1,7 +1,21 @@
+-- 내장 H2(dev/test) 전용 스키마, 배포 DB(MariaDB)는 db/migration 의 버전별 마이그레이션으로만 변경
+-- 스키마를 바꿀 때는 새 마이그레이션을 추가하고 이 파일도 마이그레이션 결과와 같게 맞춤
+DROP TABLE IF EXISTS `stats_sketch`;
+DROP TABLE IF EXISTS `SPRING_SESSION_ATTRIBUTES`;
+DROP TABLE IF EXISTS `SPRING_SESSION`;
+DROP TABLE IF EXISTS `cohort_report`;
+DROP TABLE IF EXISTS `daily_stats`;
+DROP TABLE IF EXISTS `scheduler_lock`;
+DROP TABLE IF EXISTS `review_token`;
 DROP TABLE IF EXISTS `review`;
+DROP SEQUENCE IF EXISTS `review_seq`;
+
+-- 리뷰 id 시퀀스 (JDBC batch insert용, allocationSize = 50)
+-- data.sql의 리뷰(id 1 ~ 5)와 겹치지 않도록 100부터 시작
+CREATE SEQUENCE `review_seq` START WITH 100 INCREMENT BY 50;
 
 CREATE TABLE `review` (
-    `id`	bigint	PRIMARY KEY AUTO_INCREMENT,
+    `id`	bigint	PRIMARY KEY,
     `food_id`	bigint	NOT NULL,
     `date`	date	NOT NULL DEFAULT CURRENT_TIMESTAMP,
     `title`	varchar(100)	NOT NULL,
@@ -17,8 +31,13 @@ CREATE TABLE `food` (
     `id`	bigint	PRIMARY KEY AUTO_INCREMENT,
     `user_id`	bigint	NOT NULL,
     `name`	varchar(50)	NOT NULL,
+    `name_key`	varchar(50)	NOT NULL,
     `start_date`	date	NOT NULL DEFAULT CURRENT_TIMESTAMP,
     `day_count`	bigint	NOT NULL	DEFAULT 0,
+    `review_version`	bigint	NOT NULL	DEFAULT 0,
+    `current_streak`	bigint	NOT NULL	DEFAULT 0,
+    `longest_streak`	bigint	NOT NULL	DEFAULT 0,
+    `last_review_date`	date	NULL,
     `created_at`	datetime	NOT NULL,
     `updated_at`	datetime	NOT NULL
 );
@@ -42,3 +61,101 @@ ALTER TABLE `review` ADD CONSTRAINT `FK_food_TO_review_1`
     FOREIGN KEY (`food_id`)
     REFERENCES `food` (`id`);
 
+-- 로그인 시 email 조회 (전체 스캔 방지), 같은 유저의 중복 가입 방지
+ALTER TABLE `user` ADD CONSTRAINT `UK_user_email`
+    UNIQUE (`email`);
+
+-- 리뷰 목록 keyset 페이지네이션 (food_id, date desc, id desc) 도 이 인덱스를 사용
+ALTER TABLE `review` ADD CONSTRAINT `UK_review_food_id_date`
+    UNIQUE (`food_id`, `date`);
+
+-- 리뷰 검색 역색인 (유저의 토큰으로 리뷰 조회)
+CREATE TABLE `review_token` (
+    `review_id`	bigint	NOT NULL,
+    `token`	varchar(30)	NOT NULL,
+    `user_id`	bigint	NOT NULL,
+    `frequency`	int	NOT NULL,
+    PRIMARY KEY (`review_id`, `token`)
+);
+
+ALTER TABLE `review_token` ADD CONSTRAINT `FK_review_TO_review_token_1`
+    FOREIGN KEY (`review_id`)
+    REFERENCES `review` (`id`);
+
+CREATE INDEX `IDX_review_token_user_id_token` ON `review_token` (`user_id`, `token`, `review_id`);
+
+-- 순위표 (단식일수, 연속 단식일 순 top N / 내 순위), 전체 및 음식명별
+-- 조회는 (기준 DESC, id DESC) 한 방향으로 정렬해 인덱스를 역방향으로 읽음 (MariaDB 10.8 미만은 인덱스의 DESC를 무시)
+CREATE INDEX `IDX_food_day_count` ON `food` (`day_count`, `id`);
+CREATE INDEX `IDX_food_current_streak` ON `food` (`current_streak`, `id`);
+CREATE INDEX `IDX_food_name_key_day_count` ON `food` (`name_key`, `day_count`, `id`);
+CREATE INDEX `IDX_food_name_key_current_streak` ON `food` (`name_key`, `current_streak`, `id`);
+
+-- 일별 집계 (작성일 기준 재계산)
+CREATE INDEX `IDX_review_created_at` ON `review` (`created_at`);
+CREATE INDEX `IDX_food_created_at` ON `food` (`created_at`);
+
+-- 일별 운영 지표 (name_key = '' 는 전체)
+CREATE TABLE `daily_stats` (
+    `stat_date`	date	NOT NULL,
+    `name_key`	varchar(50)	NOT NULL,
+    `review_count`	bigint	NOT NULL,
+    `fasted_count`	bigint	NOT NULL,
+    `new_food_count`	bigint	NOT NULL,
+    `active_user_count`	bigint	NOT NULL,
+    PRIMARY KEY (`stat_date`, `name_key`)
+);
+
+CREATE INDEX `IDX_daily_stats_name_key_stat_date` ON `daily_stats` (`name_key`, `stat_date`);
+
+-- 배치 작업 잠금 (여러 pod 중 한 곳에서만 실행)
+CREATE TABLE `scheduler_lock` (
+    `name`	varchar(50)	PRIMARY KEY,
+    `locked_until`	datetime	NOT NULL,
+    `locked_by`	varchar(100)	NOT NULL
+);
+
+-- 코호트 리포트 (단식 시작월, 음식명별 유지 주 수 분포, name_key = '' 는 전체)
+CREATE TABLE `cohort_report` (
+    `cohort_month`	date	NOT NULL,
+    `name_key`	varchar(50)	NOT NULL,
+    `weeks`	int	NOT NULL,
+    `food_count`	bigint	NOT NULL,
+    PRIMARY KEY (`cohort_month`, `name_key`, `weeks`)
+);
+
+CREATE INDEX `IDX_cohort_report_name_key_cohort_month` ON `cohort_report` (`name_key`, `cohort_month`);
+
+-- 전체 통계용 근사 카운터 (pod(owner)별 기간 누적 스케치, 조회 시 합침)
+CREATE TABLE `stats_sketch` (
+    `kind`	varchar(20)	NOT NULL,
+    `period_start`	date	NOT NULL,
+    `owner`	varchar(100)	NOT NULL,
+    `data`	blob	NOT NULL,
+    `updated_at`	timestamp	NOT NULL,
+    PRIMARY KEY (`kind`, `period_start`, `owner`)
+);
+
+-- Spring Session JDBC 테이블 (SessionConfig에서 세션 저장소를 직접 구성하므로 자동 생성되지 않음)
+CREATE TABLE `SPRING_SESSION` (
+    `PRIMARY_ID`	char(36)	NOT NULL,
+    `SESSION_ID`	char(36)	NOT NULL,
+    `CREATION_TIME`	bigint	NOT NULL,
+    `LAST_ACCESS_TIME`	bigint	NOT NULL,
+    `MAX_INACTIVE_INTERVAL`	int	NOT NULL,
+    `EXPIRY_TIME`	bigint	NOT NULL,
+    `PRINCIPAL_NAME`	varchar(100),
+    PRIMARY KEY (`PRIMARY_ID`)
+);
+
+CREATE UNIQUE INDEX `SPRING_SESSION_IX1` ON `SPRING_SESSION` (`SESSION_ID`);
+CREATE INDEX `SPRING_SESSION_IX2` ON `SPRING_SESSION` (`EXPIRY_TIME`);
+CREATE INDEX `SPRING_SESSION_IX3` ON `SPRING_SESSION` (`PRINCIPAL_NAME`);
+
+CREATE TABLE `SPRING_SESSION_ATTRIBUTES` (
+    `SESSION_PRIMARY_ID`	char(36)	NOT NULL,
+    `ATTRIBUTE_NAME`	varchar(200)	NOT NULL,
+    `ATTRIBUTE_BYTES`	longvarbinary	NOT NULL,
+    PRIMARY KEY (`SESSION_PRIMARY_ID`, `ATTRIBUTE_NAME`),
+    FOREIGN KEY (`SESSION_PRIMARY_ID`) REFERENCES `SPRING_SESSION` (`PRIMARY_ID`) ON DELETE CASCADE
+);
@@ -31,6 +31,47 @@ const main = {
         for (let i=0; i<deleteReviewButtons.length; i++) {
             deleteReviewButtons[i].addEventListener('click', this.deleteReview);
         }
+
+        let moreReviewButtons = document.getElementsByClassName("btn-review-more");
+        for (let i=0; i<moreReviewButtons.length; i++) {
+            moreReviewButtons[i].addEventListener('click', this.loadReviews);
+        }
+
+        let foodNameInputs = document.getElementsByClassName("food-name-suggest");
+        for (let i=0; i<foodNameInputs.length; i++) {
+            foodNameInputs[i].addEventListener('input', this.suggestFoodNames);
+        }
+
+        if (document.getElementById("review-list")) {
+            this.loadReviews();
+        }
+    },
+
+    nextReviewCursor : null,
+
+    suggestFoodNames : function () {
+        const prefix = $('#name').val().trim();
+        const nameList = $('#food-names');
+        if (!prefix) {
+            nameList.empty();
+            return;
+        }
+
+        $.ajax({
+            type: 'GET',
+            url: '/api/food/names',
+            dataType: 'json',
+            data: { prefix: prefix },
+            success: function(data) {
+                nameList.empty();
+                data.names.forEach(function (name) {
+                    nameList.append($('<option>').val(name));
+                });
+            },
+            error: function (error) {
+                console.log(error);
+            }
+        });
     },
 
     saveFood : function () {
@@ -149,6 +190,72 @@ const main = {
         });
 
     },
+    loadReviews : function () {
+        const foodId = Number($(".food").attr("id"));
+        const params = { size: 20 };
+        if (main.nextReviewCursor) {
+            params.cursor = main.nextReviewCursor;
+        }
+
+        $.ajax({
+            type: 'GET',
+            url: '/api/food/' + foodId + '/reviews',
+            dataType: 'json',
+            data: params,
+            success: function(response) {
+                response.reviewList.forEach(function (review) {
+                    $('#review-list').append(main.renderReview(foodId, review));
+                });
+                main.nextReviewCursor = response.nextCursor;
+                $('#review-more').toggleClass('d-none', !response.nextCursor);
+            },
+            error: function(error) {
+                console.log(error);
+                alert(error.responseJSON.message);
+            }
+        });
+    },
+    renderReview : function (foodId, review) {
+        const item = $('<div class="p-5 m-0">' +
+            '<div class="row lead">' +
+                '<div class="col-3 text-start h4"><span class="review-date"></span> <span class="review-fasted"></span></div>' +
+                '<div class="col-7 text-start"><span class="review-title ml-3 h4"></span></div>' +
+                '<div class="col-2 h3">' +
+                    '<span><a type="button" class="review-edit ms-4 text-black" style="text-decoration: none" title="edit">✏️</a></span>' +
+                    '<span class="btn-review-delete ms-4" style="text-decoration: none; cursor: pointer;" title="delete">🗑</span>' +
+                '</div>' +
+            '</div>' +
+            '<div class="row lead"><div class="review-content col-12 text-start"></div></div>' +
+        '</div>');
+
+        // 사용자 입력은 text()로 넣어 escape
+        item.find('.review-date').text(review.date);
+        item.find('.review-fasted').text(review.fasted ? '🙂' : '☹️');
+        item.find('.review-title').text(review.title);
+        item.find('.review-content').text(review.content);
+        if (review.contentTruncated) {
+            // 목록에는 잘린 내용만 오므로, 전체 내용은 필요할 때 조회
+            const more = $('<span class="ms-2 text-secondary" style="cursor: pointer;">…더 보기</span>');
+            more.on('click', function () {
+                $.ajax({
+                    type: 'GET',
+                    url: '/api/food/' + foodId + '/reviews/' + review.id,
+                    dataType: 'json',
+                    success: function(response) {
+                        item.find('.review-content').text(response.content);
+                    },
+                    error: function(error) {
+                        console.log(error);
+                        alert(error.responseJSON.message);
+                    }
+                });
+            });
+            item.find('.review-content').append(more);
+        }
+        item.find('.review-edit').attr('href', '/food/' + foodId + '/reviews/update/' + review.id);
+        item.find('.btn-review-delete').attr('id', review.id).on('click', main.deleteReview);
+        return item.add('<hr class="m-0">');
+    },
     deleteReview : function () {
         const foodId = Number($(".food").attr("id"));
         const reviewId = Number($(this).attr('id'));
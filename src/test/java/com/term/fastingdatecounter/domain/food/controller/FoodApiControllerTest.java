@@ -5,9 +5,13 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.term.fastingdatecounter.domain.food.domain.Food;
 import com.term.fastingdatecounter.domain.food.dto.FoodRequest;
 import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import com.term.fastingdatecounter.domain.user.domain.LoginUserArgumentResolver;
 import com.term.fastingdatecounter.domain.user.domain.User;
 import com.term.fastingdatecounter.domain.user.dto.SessionUser;
 import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,14 +24,20 @@ import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.oauth2Login;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -55,6 +65,12 @@ class FoodApiControllerTest {
     @Autowired
     private FoodRepository foodRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private User user;
 
     @BeforeEach
@@ -68,6 +84,8 @@ class FoodApiControllerTest {
                 .build());
         session = new MockHttpSession();
         session.setAttribute("user", new SessionUser(user));
+        session.setAttribute(LoginUserArgumentResolver.VERIFIED_USER_ATTRIBUTE, user.getId()); // 로그인 시 확인된 세션
+        session.setAttribute(LoginUserArgumentResolver.VERIFIED_AT_ATTRIBUTE, System.currentTimeMillis());
     }
 
     @AfterEach
@@ -76,6 +94,42 @@ class FoodApiControllerTest {
         userRepository.deleteAll();
     }
 
+    private Statistics startCountingStatements() {
+        // 테스트 데이터가 영속성 컨텍스트에 남아 요청의 조회를 가리지 않도록 비운 뒤 카운트 시작
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private long userLookups(Statistics statistics) {
+        // 유저 행 조회 수 (DB 로드 + 지연 로딩 + 존재 확인 쿼리)
+        EntityStatistics userStatistics = statistics.getEntityStatistics(User.class.getName());
+        long existsQueries = Arrays.stream(statistics.getQueries())
+                .filter(query -> query.contains("from User "))
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionCount())
+                .sum();
+        return userStatistics.getLoadCount() + userStatistics.getFetchCount() + existsQueries;
+    }
+
+    private ResultActions performWithLogin(MockHttpServletRequestBuilder request) throws Exception {
+        return mvc.perform(request
+                .session(session)
+                .with(oauth2Login()
+                        .attributes(attributes -> {
+                            attributes.put("id", user.getId());
+                            attributes.put("name", user.getName());
+                            attributes.put("email", user.getEmail());
+                        })));
+    }
+
+    private String toJson(FoodRequest request) throws Exception {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .writeValueAsString(request);
+    }
+
     private FoodRequest createFoodRequest() {
         return FoodRequest.builder()
                 .name("food")
@@ -248,6 +302,91 @@ class FoodApiControllerTest {
         result.andExpect(status().isNoContent());
     }
 
+    @Test
+    @DisplayName("음식 API - 확인된 세션은 목록/통계/등록/수정/삭제에서 유저를 조회하지 않음")
+    void foodEndpointsWithoutUserLookup() throws Exception {
+        // given
+        Food saveFood = foodRepository.save(createFoodRequest().toEntity(user));
+        String foodUrl = PREFIX_URI + "/" + saveFood.getId();
+        Statistics statistics = startCountingStatements();
+
+        // when
+        performWithLogin(get(PREFIX_URI)).andExpect(status().isOk());
+        performWithLogin(get(foodUrl + "/stats")).andExpect(status().isOk());
+        performWithLogin(post(PREFIX_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(createFoodRequest())))
+                .andExpect(status().isCreated());
+        performWithLogin(put(foodUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(createFoodRequest("update food", LocalDate.now()))))
+                .andExpect(status().isOk());
+        performWithLogin(delete(foodUrl)).andExpect(status().isNoContent());
+
+        // then
+        assertThat(userLookups(statistics)).isZero();
+    }
+
+    @Test
+    @DisplayName("세션 유저 확인 - 확인 기록이 없는 세션은 첫 요청에서만 유저 조회")
+    void verifySessionUserOnce() throws Exception {
+        // given
+        //// 확인 기록 없이 유저만 있는 세션 (배포 전에 로그인한 세션)
+        session.removeAttribute(LoginUserArgumentResolver.VERIFIED_USER_ATTRIBUTE);
+        session.removeAttribute(LoginUserArgumentResolver.VERIFIED_AT_ATTRIBUTE);
+        Statistics statistics = startCountingStatements();
+
+        // when
+        performWithLogin(get(PREFIX_URI)).andExpect(status().isOk());
+        long firstLookups = userLookups(statistics);
+        entityManager.clear();
+        performWithLogin(get(PREFIX_URI)).andExpect(status().isOk());
+        performWithLogin(get(PREFIX_URI)).andExpect(status().isOk());
+
+        // then
+        assertThat(firstLookups).isEqualTo(1);
+        assertThat(userLookups(statistics)).isEqualTo(1);
+        assertThat(session.getAttribute(LoginUserArgumentResolver.VERIFIED_USER_ATTRIBUTE)).isEqualTo(user.getId());
+        assertThat(session.getAttribute(LoginUserArgumentResolver.VERIFIED_AT_ATTRIBUTE)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("세션 유저 확인 - 로그인 후 삭제된 계정은 verify-interval이 지나면 다시 확인해서 세션 종료")
+    void verifySessionUserAgainAfterInterval() throws Exception {
+        // given
+        //// 로그인한 세션으로 요청한 뒤 계정 삭제
+        performWithLogin(get(PREFIX_URI)).andExpect(status().isOk());
+        userRepository.delete(user);
+        entityManager.flush();
+        //// 확인 주기(5분) 이내에는 다시 확인하지 않음
+        performWithLogin(get(PREFIX_URI)).andExpect(status().isOk());
+        session.setAttribute(LoginUserArgumentResolver.VERIFIED_AT_ATTRIBUTE,
+                System.currentTimeMillis() - Duration.ofMinutes(6).toMillis());
+
+        // when
+        ResultActions result = performWithLogin(get(PREFIX_URI));
+
+        // then
+        result.andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("G04"));
+        assertThat(session.isInvalid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("세션 유저 확인 - 실패(삭제된 계정, 세션 종료)")
+    void verifySessionUserFailedWhenUserIsDeleted() throws Exception {
+        // given
+        session.setAttribute("user", new SessionUser(987654321L, "deleted@test.com", "deleted"));
+
+        // when
+        ResultActions result = performWithLogin(get(PREFIX_URI));
+
+        // then
+        result.andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("G04"));
+        assertThat(session.isInvalid()).isTrue();
+    }
+
 //    @Test
 //    @DisplayName("음식 삭제 - 실패(로그인 X)")
 //    void deleteFoodFailedWhenUserIsUnAuthenticated() throws Exception {
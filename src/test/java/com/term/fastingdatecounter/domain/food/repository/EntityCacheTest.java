@@ -0,0 +1,119 @@
+package com.term.fastingdatecounter.domain.food.repository;
+
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.food.service.FoodService;
+import com.term.fastingdatecounter.domain.user.domain.User;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EntityCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    @Autowired
+    private FoodService foodService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private User user;
+    private Food food;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.save(User.builder()
+                .name("cached")
+                .email("cached@test.com")
+                .build());
+        food = foodRepository.save(Food.builder()
+                .user(user)
+                .name("food")
+                .startDate(LocalDate.of(2021, 12, 1))
+                .build());
+    }
+
+    @AfterEach
+    void cleanAll() {
+        foodRepository.delete(food);
+        userRepository.delete(user);
+    }
+
+    private User findUser() {
+        return transaction.execute(status -> userRepository.findById(user.getId()).get());
+    }
+
+    private Food findFood() {
+        return transaction.execute(status -> foodRepository.findById(food.getId()).get());
+    }
+
+    @Test
+    @DisplayName("유저는 2차/query 캐시 미사용 - 다른 pod에서 바뀐 행을 바로 조회")
+    void userNotCached() {
+        // given
+        findUser();
+        transaction.execute(status -> userRepository.findByEmail(user.getEmail()));
+
+        // when
+        //// 다른 pod의 변경 (이 pod의 Hibernate를 거치지 않는 UPDATE)
+        jdbcTemplate.update("UPDATE `user` SET name = ? WHERE id = ?", "renamed", user.getId());
+        statistics.clear();
+        User byId = findUser();
+        User byEmail = transaction.execute(status -> userRepository.findByEmail(user.getEmail()).get());
+
+        // then
+        assertThat(byId.getName()).isEqualTo("renamed");
+        assertThat(byEmail.getName()).isEqualTo("renamed");
+        assertThat(entityManagerFactory.getCache().contains(User.class, user.getId())).isFalse();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("음식은 2차 캐시 미사용 - 단식일수 갱신 후에도 매번 DB에서 조회")
+    void foodNotCached() {
+        // given
+        findFood();
+
+        // when
+        transaction.executeWithoutResult(status -> foodService.updateDayCount(findFood(), 1L));
+        statistics.clear();
+        Food updated = findFood();
+
+        // then
+        assertThat(entityManagerFactory.getCache().contains(Food.class, food.getId())).isFalse();
+        assertThat(updated.getDayCount()).isEqualTo(1L);
+        assertThat(statistics.getSecondLevelCachePutCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
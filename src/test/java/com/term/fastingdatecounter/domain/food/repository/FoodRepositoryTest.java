@@ -7,6 +7,7 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.time.LocalDate;
@@ -28,6 +29,9 @@ class FoodRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private User user;
 
     @AfterEach
@@ -139,4 +143,22 @@ class FoodRepositoryTest {
         // then
         assertThat(findResult).contains(saveResult);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("단식일수 증감 - 음수가 되는 경우 반영하지 않음")
+    void addDayCount() {
+        // given
+        Food saveResult = foodRepository.save(createFood());
+        entityManager.flush();
+
+        // when
+        int increased = foodRepository.addDayCount(saveResult.getId(), 1L);
+        int decreased = foodRepository.addDayCount(saveResult.getId(), -2L);
+        entityManager.clear();
+
+        // then
+        assertThat(increased).isEqualTo(1);
+        assertThat(decreased).isZero();
+        assertThat(foodRepository.findById(saveResult.getId()).get().getDayCount()).isEqualTo(1L);
+    }
+}
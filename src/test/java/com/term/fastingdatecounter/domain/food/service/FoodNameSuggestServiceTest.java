@@ -0,0 +1,137 @@
+package com.term.fastingdatecounter.domain.food.service;
+
+import com.term.fastingdatecounter.domain.food.domain.FoodNameIndex;
+import com.term.fastingdatecounter.domain.food.dto.FoodNameCount;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(SpringExtension.class)
+@WebAppConfiguration
+@AutoConfigureMockMvc
+class FoodNameSuggestServiceTest {
+
+    @InjectMocks
+    private FoodNameSuggestService foodNameSuggestService;
+
+    @Mock
+    private FoodRepository foodRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(foodNameSuggestService, "maxSize", 20000);
+    }
+
+    @DisplayName("음식명 자동완성 - 등록 수 순, 정규화된 prefix")
+    @Test
+    void suggest() {
+        // given
+        given(foodRepository.countByName(any(Pageable.class))).willReturn(List.of(
+                new FoodNameCount("커피", 30L),
+                new FoodNameCount("커피우유", 12L),
+                new FoodNameCount("콜라", 20L),
+                new FoodNameCount("Coke Zero", 5L)
+        ));
+        foodNameSuggestService.refresh();
+
+        // when
+        List<String> coffee = foodNameSuggestService.suggest("커", 10);
+        List<String> k = foodNameSuggestService.suggest("  COKE  z", 10);
+        List<String> none = foodNameSuggestService.suggest("라면", 10);
+
+        // then
+        assertThat(coffee).containsExactly("커피", "커피우유");
+        assertThat(k).containsExactly("Coke Zero");
+        assertThat(none).isEmpty();
+        //// 조회는 DB를 사용하지 않음 (색인 생성 시 1회)
+        then(foodRepository).should(times(1)).countByName(any(Pageable.class));
+    }
+
+    @DisplayName("음식명 자동완성 - 최대 개수, 같은 등록 수는 이름 순")
+    @Test
+    void suggestLimit() {
+        // given
+        List<FoodNameCount> nameCounts = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            nameCounts.add(new FoodNameCount(String.format("과자%02d", i), 1L));
+        }
+        given(foodRepository.countByName(any(Pageable.class))).willReturn(nameCounts);
+        foodNameSuggestService.refresh();
+
+        // when
+        List<String> three = foodNameSuggestService.suggest("과자", 3);
+        List<String> max = foodNameSuggestService.suggest("과", 100);
+
+        // then
+        assertThat(three).containsExactly("과자00", "과자01", "과자02");
+        assertThat(max).hasSize(10);
+    }
+
+    @DisplayName("음식명 자동완성 - 한 번에 만든 색인은 하나씩 등록한 색인과 같은 결과")
+    @Test
+    void refreshMatchesIncrementalAdd() {
+        // given
+        //// prefix를 공유하는 이름들 (등록 수가 겹치는 이름 포함)
+        List<FoodNameCount> nameCounts = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            nameCounts.add(new FoodNameCount("과자" + Integer.toString(i, 3), (long) (i * 7 % 13 + 1)));
+        }
+        given(foodRepository.countByName(any(Pageable.class))).willReturn(nameCounts);
+        FoodNameIndex incremental = new FoodNameIndex();
+        nameCounts.forEach(nameCount -> incremental.add(nameCount.getName(), nameCount.getCount()));
+
+        // when
+        foodNameSuggestService.refresh();
+
+        // then
+        for (String prefix : List.of("과", "과자", "과자1", "과자12", "과자2", "과자210", "과자2101")) {
+            assertThat(foodNameSuggestService.suggest(prefix, FoodNameIndex.MAX_SUGGESTIONS))
+                    .isEqualTo(incremental.suggest(prefix, FoodNameIndex.MAX_SUGGESTIONS));
+        }
+        assertThat(foodNameSuggestService.suggest("과", 10)).hasSize(10);
+    }
+
+    @DisplayName("음식명 자동완성 - 등록/이름 변경/삭제 반영")
+    @Test
+    void addRenameRemove() {
+        // given
+        given(foodRepository.countByName(any(Pageable.class))).willReturn(List.of(
+                new FoodNameCount("커피", 2L),
+                new FoodNameCount("커피우유", 1L)
+        ));
+        foodNameSuggestService.refresh();
+
+        // when
+        foodNameSuggestService.add("커피우유");
+        foodNameSuggestService.add("커피우유");
+        List<String> afterAdd = foodNameSuggestService.suggest("커피", 10);
+
+        foodNameSuggestService.rename("커피", "카페인");
+        foodNameSuggestService.remove("커피");
+        List<String> afterRemove = foodNameSuggestService.suggest("커피", 10);
+        List<String> renamed = foodNameSuggestService.suggest("카", 10);
+
+        // then
+        assertThat(afterAdd).containsExactly("커피우유", "커피");
+        assertThat(afterRemove).containsExactly("커피우유");
+        assertThat(renamed).containsExactly("카페인");
+    }
+}
@@ -0,0 +1,178 @@
+package com.term.fastingdatecounter.domain.food.service;
+
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.food.dto.FoodRequest;
+import com.term.fastingdatecounter.domain.food.dto.FoodResponse;
+import com.term.fastingdatecounter.domain.food.dto.FoodStatsResponse;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import com.term.fastingdatecounter.domain.review.domain.Review;
+import com.term.fastingdatecounter.domain.review.dto.ReviewRequest;
+import com.term.fastingdatecounter.domain.review.service.ReviewService;
+import com.term.fastingdatecounter.domain.user.domain.User;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import com.term.fastingdatecounter.global.config.CacheConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class FoodServiceCacheTest {
+
+    @Autowired
+    private FoodService foodService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private User user;
+    private Food food;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("cache")
+                .email("cache@test.com")
+                .build());
+        food = foodRepository.save(Food.builder()
+                .user(user)
+                .name("food")
+                .startDate(LocalDate.of(2021, 12, 1))
+                .build());
+        foodListCache().clear();
+    }
+
+    @AfterEach
+    void cleanAll() {
+        foodRepository.deleteAll(foodRepository.findByUserId(user.getId()));
+        userRepository.delete(user);
+        foodListCache().clear();
+    }
+
+    private Cache foodListCache() {
+        return cacheManager.getCache(CacheConfig.FOOD_LIST);
+    }
+
+    private FoodRequest createFoodRequest(String name) {
+        return FoodRequest.builder()
+                .name(name)
+                .startDate(LocalDate.of(2021, 12, 1))
+                .build();
+    }
+
+    @Test
+    @DisplayName("음식 목록 캐시 - 두 번째 조회부터 캐시 사용")
+    void findByUserIdCached() {
+        // when
+        List<FoodResponse> first = foodService.findByUserId(user.getId());
+        List<FoodResponse> second = foodService.findByUserId(user.getId());
+
+        // then
+        assertThat(foodListCache().get(user.getId())).isNotNull();
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("음식 목록 캐시 - 엔티티가 아닌 수정 불가능한 응답 DTO 목록을 캐시")
+    void findByUserIdCachesImmutableResponses() {
+        // when
+        List<FoodResponse> cached = foodService.findByUserId(user.getId());
+
+        // then
+        assertThat(foodListCache().get(user.getId()).get()).isSameAs(cached);
+        assertThat(cached).extracting(FoodResponse::getId).containsExactly(food.getId());
+        assertThatThrownBy(() -> cached.add(cached.get(0)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("음식 목록 캐시 - 음식 등록/수정/삭제 시 무효화")
+    void evictedByFoodWrites() {
+        // given
+        foodService.findByUserId(user.getId());
+
+        // when : 등록
+        Food saved = foodService.save(user.getId(), createFoodRequest("saved"));
+
+        // then
+        assertThat(foodListCache().get(user.getId())).isNull();
+        assertThat(foodService.findByUserId(user.getId())).hasSize(2);
+
+        // when : 수정
+        foodService.update(user.getId(), saved.getId(), createFoodRequest("updated"));
+
+        // then
+        assertThat(foodListCache().get(user.getId())).isNull();
+        assertThat(foodService.findByUserId(user.getId()))
+                .extracting(FoodResponse::getName)
+                .contains("updated");
+
+        // when : 삭제
+        foodService.delete(user.getId(), saved.getId());
+
+        // then
+        assertThat(foodListCache().get(user.getId())).isNull();
+        assertThat(foodService.findByUserId(user.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("음식 목록 캐시 - 단식일수 갱신 시 무효화")
+    void evictedByDayCountUpdate() {
+        // given
+        foodService.findByUserId(user.getId());
+
+        // when
+        foodService.updateDayCount(food, 1L);
+
+        // then
+        assertThat(foodListCache().get(user.getId())).isNull();
+        assertThat(foodService.findByUserId(user.getId()))
+                .extracting(FoodResponse::getDayCount)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("음식 통계 캐시 - 같은 리뷰 변경 버전이면 캐시 사용, 리뷰 등록/삭제 후 다시 집계")
+    void findStatsCachedByReviewVersion() {
+        // given
+        FoodStatsResponse first = foodService.findStats(user.getId(), food.getId());
+
+        // when
+        FoodStatsResponse second = foodService.findStats(user.getId(), food.getId());
+        Review review = reviewService.save(user.getId(), food.getId(), ReviewRequest.builder()
+                .date(food.getStartDate())
+                .title("review title")
+                .content("review content")
+                .fasted(true)
+                .build());
+        FoodStatsResponse afterSave = foodService.findStats(user.getId(), food.getId());
+        reviewService.delete(user.getId(), food.getId(), review.getId());
+        FoodStatsResponse afterDelete = foodService.findStats(user.getId(), food.getId());
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getReviewCount()).isZero();
+        assertThat(afterSave.getReviewCount()).isEqualTo(1L);
+        assertThat(afterDelete).isNotSameAs(first);
+        assertThat(afterDelete.getReviewCount()).isZero();
+    }
+}
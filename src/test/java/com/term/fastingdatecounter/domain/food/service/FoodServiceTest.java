@@ -2,11 +2,13 @@ package com.term.fastingdatecounter.domain.food.service;
 
 import com.term.fastingdatecounter.domain.food.domain.Food;
 import com.term.fastingdatecounter.domain.food.dto.FoodRequest;
+import com.term.fastingdatecounter.domain.food.dto.FoodResponse;
 import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
 import com.term.fastingdatecounter.domain.review.domain.Review;
 import com.term.fastingdatecounter.domain.review.dto.ReviewRequest;
 import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
 import com.term.fastingdatecounter.domain.review.service.ReviewService;
+import com.term.fastingdatecounter.domain.stats.service.GlobalStatsService;
 import com.term.fastingdatecounter.domain.user.domain.User;
 import com.term.fastingdatecounter.domain.user.repository.UserRepository;
 import com.term.fastingdatecounter.global.exception.ServiceException;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.web.WebAppConfiguration;
@@ -31,6 +34,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(SpringExtension.class)
@@ -50,6 +54,15 @@ class FoodServiceTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private FoodNameSuggestService foodNameSuggestService;
+
+    @Mock
+    private FoodStatsService foodStatsService;
+
+    @Mock
+    private GlobalStatsService globalStatsService;
+
     private User user;
 
     @BeforeEach
@@ -112,26 +125,25 @@ class FoodServiceTest {
         given(foodRepository.findByUserId(user.getId())).willReturn(foodList);
 
         // when : 음식 목록 조회
-        List<Food> foundFoodList = foodService.findByUserId(user.getId());
+        List<FoodResponse> foundFoodList = foodService.findByUserId(user.getId());
 
         // then
         assertThat(foundFoodList).hasSize(3);
     }
 
-    @DisplayName("음식 목록 조회 - 실패(존재하지 않는 유저)")
+    @DisplayName("음식 목록 조회 - 유저 조회 없이 세션 유저 id로 조회")
     @Test
-    void findByUserIdFailedWhenNotExistuser() {
+    void findByUserIdWithoutUserLookup() {
         // given
-        //// 유저 찾을 수 없음
-        given(userRepository.findById(user.getId())).willReturn(Optional.empty());
+        given(foodRepository.findByUserId(user.getId())).willReturn(new ArrayList<>());
 
         // when
+        List<FoodResponse> foundFoodList = foodService.findByUserId(user.getId());
+
         // then
-        //// 발생한 에러가 G04(NOT_FOUND_USER)와 매치
-        assertThatThrownBy(() -> foodService.findByUserId(user.getId()))
-                .isInstanceOf(ServiceException.class)
-                .extracting(e -> ((ServiceException) e).getCode())
-                .isEqualTo("G04");
+        //// 유저 확인은 LoginUserArgumentResolver가 세션당 한 번만 함
+        assertThat(foundFoodList).isEmpty();
+        then(userRepository).should(never()).findById(anyLong());
     }
 
     @DisplayName("음식 조회 - 성공")
@@ -178,8 +190,8 @@ class FoodServiceTest {
         //// 테스트 음식 데이터
         FoodRequest foodRequest = createFoodRequest();
 
-        //// 존재하는 유저
-        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+        //// 존재하는 유저 (조회 없이 참조만 사용)
+        given(userRepository.getById(user.getId())).willReturn(user);
 
         // when
         Food result = foodService.save(user.getId(), foodRequest);
@@ -196,9 +208,10 @@ class FoodServiceTest {
     @Test
     void saveFailedWhenNotExistUser() {
         // given
-        //// 존재하지 않는 유저 가정
-        given(userRepository.findById(user.getId()))
-                .willReturn(Optional.empty());
+        //// 존재하지 않는 유저 가정 (삭제된 유저 -> user_id 외래키 위반)
+        given(userRepository.getById(user.getId())).willReturn(user);
+        given(foodRepository.save(any(Food.class))).willThrow(new DataIntegrityViolationException(
+                "Referential integrity constraint violation: \"" + Food.USER_FOREIGN_KEY.toUpperCase() + ": PUBLIC.FOOD FOREIGN KEY(USER_ID)\""));
         FoodRequest foodRequest = createFoodRequest();
 
         // when
@@ -237,27 +250,22 @@ class FoodServiceTest {
         );
     }
 
-    @DisplayName("음식 수정 - 실패(존재하지 않는 유저)")
+    @DisplayName("음식 수정 - 유저 조회 없이 음식 작성자와 세션 유저 id로 권한 확인")
     @Test
-    void updateFailedWhenNotExistUser() {
+    void updateWithoutUserLookup() {
         //// 테스트 음식 데이터
         Long foodId = 1L;
         FoodRequest foodRequest = createFoodRequest();
         Food food = createFood(user, foodId);
 
-        //// 존재하지 않는 사용자
-        given(userRepository.findById(user.getId())).willReturn(Optional.empty());
-
         //// 존재하는 음식
         given(foodRepository.findById(anyLong())).willReturn(Optional.of(food));
 
         // when
+        foodService.update(user.getId(), foodId, foodRequest);
+
         // then
-        //// 발생한 에러가 G04(NOT_FOUND_USER)와 매치
-        assertThatThrownBy(() -> foodService.update(user.getId(), foodId, foodRequest))
-                .isInstanceOf(ServiceException.class)
-                .extracting(e -> ((ServiceException) e).getCode())
-                .isEqualTo("G04");
+        then(userRepository).should(never()).findById(anyLong());
     }
 
     @DisplayName("음식 수정 - 실패(존재하지 않는 음식)")
@@ -333,7 +341,7 @@ class FoodServiceTest {
         given(foodRepository.findById(food.getId())).willReturn(Optional.of(food));
 
         //// 존재하는 리뷰
-        given(reviewRepository.findByFoodIdOrderByDateDesc(foodId)).willReturn(Arrays.asList(review));
+        given(reviewRepository.findFirstReviewDateByFoodId(foodId)).willReturn(Optional.of(review.getDate()));
         given(reviewRepository.findById(reviewId)).willReturn(Optional.of(review));
 
         // when
@@ -372,26 +380,22 @@ class FoodServiceTest {
                 .delete(any(Food.class));
     }
 
-    @DisplayName("음식 삭제 - 실패(존재하지 않는 유저)")
+    @DisplayName("음식 삭제 - 유저 조회 없이 음식 작성자와 세션 유저 id로 권한 확인")
     @Test
-    void deleteFailedWhenNotExistUser() {
+    void deleteWithoutUserLookup() {
         // given
         //// 테스트 음식 데이터
         Long foodId = 1L;
         Food food = createFood(user, foodId);
 
-        //// 존재하지 않는 사용자
-        given(userRepository.findById(user.getId())).willReturn(Optional.empty());
-
         //// 존재하는 음식
         given(foodRepository.findById(food.getId())).willReturn(Optional.of(food));
 
         // when
+        foodService.delete(user.getId(), foodId);
+
         // then
-        assertThatThrownBy(() -> foodService.delete(user.getId(), foodId))
-                .isInstanceOf(ServiceException.class)
-                .extracting(e -> ((ServiceException) e).getCode())
-                .isEqualTo("G04");
+        then(userRepository).should(never()).findById(anyLong());
     }
 
     @DisplayName("음식 삭제 - 실패(존재하지 않는 음식)")
@@ -446,4 +450,68 @@ class FoodServiceTest {
                 .isEqualTo("G02");
     }
 
-}
\ No newline at end of file
+    @DisplayName("단식일수 증감 - 성공(재집계 없이 단일 UPDATE)")
+    @Test
+    void updateDayCountWithDelta() {
+        // given
+        Food food = Food.builder()
+                .id(1L)
+                .user(user)
+                .name("food")
+                .startDate(LocalDate.of(2021, 12, 1))
+                .dayCount(5L)
+                .build();
+        given(foodRepository.addDayCount(food.getId(), 1L)).willReturn(1);
+
+        // when
+        Food result = foodService.updateDayCount(food, 1L);
+
+        // then
+        assertThat(result.getDayCount()).isEqualTo(6L);
+        then(reviewRepository)
+                .should(times(0))
+                .countByFoodIdAndFastedIsTrue(anyLong());
+    }
+
+    @DisplayName("단식일수 증감 - 변화 없음(리뷰 변경 버전만 올리는 UPDATE 1회)")
+    @Test
+    void updateDayCountWithZeroDelta() {
+        // given
+        Food food = createFood(user, 1L);
+        given(foodRepository.addDayCount(food.getId(), 0L)).willReturn(1);
+
+        // when
+        Food result = foodService.updateDayCount(food, 0L);
+
+        // then
+        assertThat(result.getDayCount()).isEqualTo(food.getDayCount());
+        then(foodRepository)
+                .should(times(1))
+                .addDayCount(food.getId(), 0L);
+        then(foodRepository)
+                .should(times(0))
+                .recountDayCount(anyLong());
+    }
+
+    @DisplayName("단식일수 증감 - 반영 실패 시 재집계")
+    @Test
+    void updateDayCountFallbackToRecount() {
+        // given
+        Food food = createFood(user, 1L);
+        given(foodRepository.addDayCount(food.getId(), -1L)).willReturn(0);
+        given(foodRepository.findDayCountById(food.getId())).willReturn(2L);
+
+        // when
+        Food result = foodService.updateDayCount(food, -1L);
+
+        // then
+        //// 재집계 UPDATE 결과를 그대로 사용 (리뷰 수를 다시 세지 않음)
+        assertThat(result.getDayCount()).isEqualTo(2L);
+        then(foodRepository)
+                .should(times(1))
+                .recountDayCount(food.getId());
+        then(reviewRepository)
+                .should(times(0))
+                .countByFoodIdAndFastedIsTrue(anyLong());
+    }
+}
@@ -0,0 +1,140 @@
+package com.term.fastingdatecounter.domain.food.service;
+
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.food.dto.FoodStatsResponse;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import com.term.fastingdatecounter.domain.review.domain.Review;
+import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
+import com.term.fastingdatecounter.domain.user.domain.User;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@Transactional
+class FoodStatsServiceTest {
+
+    // 2021-11-01 (월)
+    private static final LocalDate START_DATE = LocalDate.of(2021, 11, 1);
+
+    @Autowired
+    private FoodStatsService foodStatsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Food food;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .name("stats")
+                .email("stats@test.com")
+                .build());
+        food = foodRepository.save(Food.builder()
+                .user(user)
+                .name("food")
+                .startDate(START_DATE)
+                .build());
+    }
+
+    private void saveReview(int dayOffset, boolean fasted) {
+        reviewRepository.save(Review.builder()
+                .food(food)
+                .date(START_DATE.plusDays(dayOffset))
+                .title("review title")
+                .content("review content")
+                .fasted(fasted)
+                .build());
+    }
+
+    @Test
+    @DisplayName("음식 통계 - 성공률, 요일별, 최장 공백, 평균 연속 단식일")
+    void aggregate() {
+        // given
+        //// 연속 단식 구간: [1, 2, 3], [5], [10, 11] / 실패: 4 / 공백: 0일차, 6 ~ 9일차
+        saveReview(1, true);
+        saveReview(2, true);
+        saveReview(3, true);
+        saveReview(4, false);
+        saveReview(5, true);
+        saveReview(10, true);
+        saveReview(11, true);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        FoodStatsResponse stats = foodStatsService.aggregate(food.getId(), START_DATE, 0L);
+
+        // then
+        assertThat(stats.getReviewCount()).isEqualTo(7L);
+        assertThat(stats.getFastedCount()).isEqualTo(6L);
+        assertThat(stats.getNotFastedCount()).isEqualTo(1L);
+        assertThat(stats.getSuccessRate()).isCloseTo(6.0 / 7.0, within(1e-9));
+        assertThat(stats.getLongestGap()).isEqualTo(4L);
+        assertThat(stats.getAverageStreak()).isCloseTo(2.0, within(1e-9));
+        //// 1일차(화) ~ 5일차(토), 10일차(목), 11일차(금)
+        assertThat(stats.getWeekdays()).hasSize(7);
+        FoodStatsResponse.Weekday friday = stats.getWeekdays().get(DayOfWeek.FRIDAY.ordinal());
+        assertThat(friday.getDayOfWeek()).isEqualTo(DayOfWeek.FRIDAY);
+        assertThat(friday.getReviewCount()).isEqualTo(2L);
+        assertThat(friday.getFastedCount()).isEqualTo(1L);
+        assertThat(stats.getWeekdays().get(DayOfWeek.MONDAY.ordinal()).getReviewCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("음식 통계 - 리뷰가 없는 경우")
+    void aggregateWhenEmpty() {
+        // when
+        FoodStatsResponse stats = foodStatsService.aggregate(food.getId(), START_DATE, 0L);
+
+        // then
+        assertThat(stats.getReviewCount()).isZero();
+        assertThat(stats.getSuccessRate()).isZero();
+        assertThat(stats.getLongestGap()).isZero();
+        assertThat(stats.getAverageStreak()).isZero();
+    }
+
+    @Test
+    @DisplayName("음식 통계 - 리뷰 수와 관계없이 SQL 1회, 리뷰 엔티티 로딩 없음")
+    void aggregateInSingleQuery() {
+        // given
+        for (int i = 0; i < 1_000; i++) {
+            saveReview(i, i % 3 != 0);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.clear();
+
+        // when
+        FoodStatsResponse stats = foodStatsService.aggregate(food.getId(), START_DATE, 0L);
+
+        // then
+        assertThat(stats.getReviewCount()).isEqualTo(1_000L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
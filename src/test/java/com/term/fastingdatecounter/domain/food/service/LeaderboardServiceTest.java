@@ -0,0 +1,132 @@
+package com.term.fastingdatecounter.domain.food.service;
+
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.food.dto.FoodRankResponse;
+import com.term.fastingdatecounter.domain.food.dto.LeaderboardResponse;
+import com.term.fastingdatecounter.domain.food.dto.LeaderboardType;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import com.term.fastingdatecounter.domain.user.domain.User;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import com.term.fastingdatecounter.global.exception.ServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class LeaderboardServiceTest {
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private User anotherUser;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("ranker")
+                .email("ranker@test.com")
+                .build());
+        anotherUser = userRepository.save(User.builder()
+                .name("another")
+                .email("another@test.com")
+                .build());
+    }
+
+    private Food createFood(User user, String name, long dayCount, long currentStreak) {
+        Food food = foodRepository.save(Food.builder()
+                .user(user)
+                .name(name)
+                .startDate(LocalDate.of(2020, 1, 1))
+                .dayCount(dayCount)
+                .build());
+        food.updateStreak(currentStreak, currentStreak, null);
+        return food;
+    }
+
+    @DisplayName("순위표 - 음식명별 단식일수 순 (같으면 나중에 등록한 음식 우선)")
+    @Test
+    void findTopByName() {
+        // given
+        Food third = createFood(user, "제로콜라", 500L, 1L);
+        createFood(anotherUser, "제로 콜라", 900L, 0L); // 다른 음식명
+        Food second = createFood(anotherUser, "제로콜라", 500L, 7L);
+        Food top = createFood(anotherUser, " 제로콜라", 800L, 3L);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        LeaderboardResponse dayCount = leaderboardService.findTop(LeaderboardType.DAY_COUNT, "제로콜라", 10);
+        LeaderboardResponse streak = leaderboardService.findTop(LeaderboardType.STREAK, "제로콜라 ", 2);
+
+        // then
+        assertThat(dayCount.getRanking())
+                .extracting(LeaderboardResponse.Item::getFoodId)
+                .containsExactly(top.getId(), second.getId(), third.getId());
+        assertThat(dayCount.getRanking().get(0).getRank()).isEqualTo(1L);
+        assertThat(dayCount.getRanking().get(0).getValue()).isEqualTo(800L);
+        assertThat(dayCount.getRanking().get(0).getUserName()).isEqualTo(anotherUser.getName());
+        assertThat(streak.getRanking())
+                .extracting(LeaderboardResponse.Item::getFoodId)
+                .containsExactly(second.getId(), top.getId());
+    }
+
+    @DisplayName("순위표 - 전체 순위 및 내 음식 순위")
+    @Test
+    void findRank() {
+        // given
+        Food leader = createFood(anotherUser, "leader", 100_000L, 0L);
+        createFood(anotherUser, "LEADER", 99_999L, 5L);
+        Food mine = createFood(user, "Leader", 99_999L, 0L);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        LeaderboardResponse top = leaderboardService.findTop(LeaderboardType.DAY_COUNT, null, 2);
+        FoodRankResponse dayCountRank = leaderboardService.findRank(user.getId(), mine.getId(), LeaderboardType.DAY_COUNT);
+        FoodRankResponse streakRank = leaderboardService.findRank(user.getId(), mine.getId(), LeaderboardType.STREAK);
+
+        // then
+        assertThat(top.getName()).isNull();
+        assertThat(top.getRanking())
+                .extracting(LeaderboardResponse.Item::getFoodId)
+                .containsExactly(leader.getId(), mine.getId());
+        assertThat(dayCountRank.getRank()).isEqualTo(2L);
+        assertThat(dayCountRank.getNameRank()).isEqualTo(2L);
+        assertThat(dayCountRank.getValue()).isEqualTo(99_999L);
+        assertThat(streakRank.getNameRank()).isEqualTo(2L);
+    }
+
+    @DisplayName("순위표 - 실패(다른 유저의 음식 순위)")
+    @Test
+    void findRankFailedWhenUserWithoutAuthority() {
+        // given
+        Food food = createFood(anotherUser, "food", 1L, 0L);
+
+        // when
+        // then
+        assertThatThrownBy(() -> leaderboardService.findRank(user.getId(), food.getId(), LeaderboardType.DAY_COUNT))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getCode())
+                .isEqualTo("G02");
+    }
+}
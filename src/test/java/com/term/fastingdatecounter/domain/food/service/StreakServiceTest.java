@@ -0,0 +1,140 @@
+package com.term.fastingdatecounter.domain.food.service;
+
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import com.term.fastingdatecounter.domain.review.domain.Review;
+import com.term.fastingdatecounter.domain.review.dto.ReviewRequest;
+import com.term.fastingdatecounter.domain.review.service.ReviewService;
+import com.term.fastingdatecounter.domain.user.domain.User;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class StreakServiceTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2021, 1, 1);
+    private static final int DATE_RANGE = 40;
+    private static final int OPERATIONS = 200;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    private User user;
+    private Food food;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("streak")
+                .email("streak@test.com")
+                .build());
+        food = foodRepository.save(Food.builder()
+                .user(user)
+                .name("food")
+                .startDate(START_DATE)
+                .build());
+    }
+
+    private ReviewRequest createReviewRequest(LocalDate date, boolean fasted) {
+        return ReviewRequest.builder()
+                .date(date)
+                .title("review title")
+                .content("review content")
+                .fasted(fasted)
+                .build();
+    }
+
+    // 전체 리뷰로 연속 단식일 계산 (current, longest)
+    private long[] bruteForce(TreeMap<LocalDate, Boolean> reviews) {
+        long longest = 0L;
+        long run = 0L;
+        LocalDate previous = null;
+        for (Map.Entry<LocalDate, Boolean> entry : reviews.entrySet()) {
+            if (!entry.getValue()) {
+                run = 0L;
+            } else {
+                run = previous != null && entry.getKey().equals(previous.plusDays(1)) ? run + 1 : 1L;
+            }
+            longest = Math.max(longest, run);
+            previous = entry.getKey();
+        }
+        long current = 0L;
+        if (!reviews.isEmpty()) {
+            for (LocalDate date = reviews.lastKey(); Boolean.TRUE.equals(reviews.get(date)); date = date.minusDays(1)) {
+                current++;
+            }
+        }
+        return new long[]{current, longest};
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 7L, 42L})
+    @DisplayName("연속 단식일 - 무작위 등록/수정/삭제 후 전체 재계산 결과와 일치")
+    void matchesBruteForce(long seed) {
+        Random random = new Random(seed);
+        TreeMap<LocalDate, Boolean> expected = new TreeMap<>();
+        Map<LocalDate, Long> reviewIds = new HashMap<>();
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            LocalDate date = START_DATE.plusDays(random.nextInt(DATE_RANGE));
+            boolean fasted = random.nextInt(4) != 0;
+            int operation = random.nextInt(3);
+
+            if (!expected.containsKey(date)) {
+                //// 빈 날짜: 등록 (순서와 무관한 과거 날짜 backfill 포함)
+                Review review = reviewService.save(user.getId(), food.getId(), createReviewRequest(date, fasted));
+                expected.put(date, fasted);
+                reviewIds.put(date, review.getId());
+            } else if (operation == 0) {
+                //// 삭제
+                reviewService.delete(user.getId(), food.getId(), reviewIds.remove(date));
+                expected.remove(date);
+            } else {
+                //// 수정 (빈 날짜로 이동하거나 같은 날짜에서 단식 여부만 변경)
+                List<LocalDate> freeDates = new ArrayList<>();
+                for (int d = 0; d < DATE_RANGE; d++) {
+                    if (!expected.containsKey(START_DATE.plusDays(d))) {
+                        freeDates.add(START_DATE.plusDays(d));
+                    }
+                }
+                LocalDate newDate = operation == 1 || freeDates.isEmpty()
+                        ? date : freeDates.get(random.nextInt(freeDates.size()));
+                Long reviewId = reviewIds.remove(date);
+                expected.remove(date);
+                reviewService.update(user.getId(), food.getId(), reviewId, createReviewRequest(newDate, fasted));
+                expected.put(newDate, fasted);
+                reviewIds.put(newDate, reviewId);
+            }
+
+            // then
+            long[] bruteForce = bruteForce(expected);
+            Food result = foodRepository.findById(food.getId()).get();
+            assertThat(result.getCurrentStreak()).as("current streak after operation %d", i).isEqualTo(bruteForce[0]);
+            assertThat(result.getLongestStreak()).as("longest streak after operation %d", i).isEqualTo(bruteForce[1]);
+            assertThat(result.getLastReviewDate()).isEqualTo(expected.isEmpty() ? null : expected.lastKey());
+        }
+    }
+}
@@ -2,18 +2,26 @@ package com.term.fastingdatecounter.domain.review.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jayway.jsonpath.JsonPath;
 import com.term.fastingdatecounter.domain.food.domain.Food;
 import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
 import com.term.fastingdatecounter.domain.review.domain.Review;
+import com.term.fastingdatecounter.domain.review.dto.ReviewImportRequest;
 import com.term.fastingdatecounter.domain.review.dto.ReviewRequest;
 import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
+import com.term.fastingdatecounter.domain.user.domain.LoginUserArgumentResolver;
 import com.term.fastingdatecounter.domain.user.domain.User;
 import com.term.fastingdatecounter.domain.user.dto.SessionUser;
 import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -21,14 +29,22 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.oauth2Login;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -59,6 +75,12 @@ class ReviewApiControllerTest {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private User user;
     private Food food;
 
@@ -78,6 +100,8 @@ class ReviewApiControllerTest {
                 .build());
         session = new MockHttpSession();
         session.setAttribute("user", new SessionUser(user));
+        session.setAttribute(LoginUserArgumentResolver.VERIFIED_USER_ATTRIBUTE, user.getId()); // 로그인 시 확인된 세션
+        session.setAttribute(LoginUserArgumentResolver.VERIFIED_AT_ATTRIBUTE, System.currentTimeMillis());
         PREFIX_URI = "/api/food/" + food.getId() + "/reviews";
     }
 
@@ -88,6 +112,48 @@ class ReviewApiControllerTest {
         userRepository.deleteAll();
     }
 
+    private Statistics startCountingStatements() {
+        // 테스트 데이터가 영속성 컨텍스트에 남아 요청의 조회를 가리지 않도록 비운 뒤 카운트 시작
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private long flushedStatementCount(Statistics statistics) {
+        // 요청은 테스트 트랜잭션에 참여하므로, 커밋 시점까지 미뤄진 INSERT/UPDATE/DELETE를 실행한 뒤 카운트
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long userLookups(Statistics statistics) {
+        // 유저 행 조회 수 (DB 로드 + 지연 로딩 + 존재 확인 쿼리)
+        EntityStatistics userStatistics = statistics.getEntityStatistics(User.class.getName());
+        long existsQueries = Arrays.stream(statistics.getQueries())
+                .filter(query -> query.contains("from User "))
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionCount())
+                .sum();
+        return userStatistics.getLoadCount() + userStatistics.getFetchCount() + existsQueries;
+    }
+
+    private ResultActions performWithLogin(MockHttpServletRequestBuilder request) throws Exception {
+        return mvc.perform(request
+                .session(session)
+                .with(oauth2Login()
+                        .attributes(attributes -> {
+                            attributes.put("id", user.getId());
+                            attributes.put("name", user.getName());
+                            attributes.put("email", user.getEmail());
+                        })));
+    }
+
+    private String toJson(Object request) throws Exception {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .writeValueAsString(request);
+    }
+
     private ReviewRequest createReviewRequest() {
         return ReviewRequest.builder()
                 .date(LocalDate.now().minusDays(3))
@@ -118,6 +184,80 @@ class ReviewApiControllerTest {
                 .andExpect(jsonPath("$.reviewList").exists());
     }
 
+    @Test
+    @DisplayName("리뷰 목록 조회 - 성공(커서 기반 페이지)")
+    void findReviewPage() throws Exception {
+        // given
+        String url = PREFIX_URI;
+        for (int i = 1; i <= 3; i++) {
+            reviewRepository.save(ReviewRequest.builder()
+                    .date(LocalDate.of(2021, 12, i))
+                    .title("review title " + i)
+                    .content("review content")
+                    .fasted(true)
+                    .build()
+                    .toEntity(food));
+        }
+
+        // when
+        //// 첫 페이지
+        MvcResult firstPage = mvc.perform(get(url)
+                .param("size", "2")
+                .session(session)
+                .with(oauth2Login()
+                        .attributes(attributes -> {
+                            attributes.put("id", user.getId());
+                            attributes.put("name", user.getName());
+                            attributes.put("email", user.getEmail());
+                        })))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviewList.length()").value(2))
+                .andExpect(jsonPath("$.reviewList[0].date").value("2021-12-03"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn();
+        String nextCursor = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextCursor");
+
+        //// 다음 페이지
+        ResultActions result = mvc.perform(get(url)
+                .param("size", "2")
+                .param("cursor", nextCursor)
+                .session(session)
+                .with(oauth2Login()
+                        .attributes(attributes -> {
+                            attributes.put("id", user.getId());
+                            attributes.put("name", user.getName());
+                            attributes.put("email", user.getEmail());
+                        })));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviewList.length()").value(1))
+                .andExpect(jsonPath("$.reviewList[0].date").value("2021-12-01"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    @DisplayName("리뷰 목록 조회 - 실패(잘못된 커서)")
+    void findReviewFailedWhenCursorIsInvalid() throws Exception {
+        // given
+        String url = PREFIX_URI;
+
+        // when
+        ResultActions result = mvc.perform(get(url)
+                .param("cursor", "not-a-cursor")
+                .session(session)
+                .with(oauth2Login()
+                        .attributes(attributes -> {
+                            attributes.put("id", user.getId());
+                            attributes.put("name", user.getName());
+                            attributes.put("email", user.getEmail());
+                        })));
+
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("R10"));
+    }
+
     @Test
     @DisplayName("리뷰 목록 조회 - 실패(로그인 X)")
     void findReviewFailedWhenUserIsUnAuthenticated() throws Exception {
@@ -180,6 +320,90 @@ class ReviewApiControllerTest {
                 .andExpect(jsonPath("$.code").value("G02"));
     }
 
+    @Test
+    @DisplayName("리뷰 단건 조회 - 성공(전체 내용)")
+    void findOneReview() throws Exception {
+        // given
+        Review saveReview = reviewRepository.save(ReviewRequest.builder()
+                .date(LocalDate.now().minusDays(3))
+                .title("review title")
+                .content("긴 리뷰 내용".repeat(50))
+                .fasted(true)
+                .build()
+                .toEntity(food));
+        String url = PREFIX_URI + "/" + saveReview.getId();
+
+        // when
+        ResultActions result = mvc.perform(get(url)
+                .session(session)
+                .with(oauth2Login()
+                        .attributes(attributes -> {
+                            attributes.put("id", user.getId());
+                            attributes.put("name", user.getName());
+                            attributes.put("email", user.getEmail());
+                        })));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(saveReview.getId()))
+                .andExpect(jsonPath("$.content").value(saveReview.getContent()));
+    }
+
+    @Test
+    @DisplayName("리뷰 달력 조회 - 성공(월별 비트맵)")
+    void findCalendar() throws Exception {
+        // given
+        //// 12/1 단식, 12/2 실패, 12/3 단식
+        reviewRepository.save(ReviewRequest.builder().date(LocalDate.of(2021, 12, 1)).title("1일차").content("content").fasted(true).build().toEntity(food));
+        reviewRepository.save(ReviewRequest.builder().date(LocalDate.of(2021, 12, 2)).title("2일차").content("content").fasted(false).build().toEntity(food));
+        reviewRepository.save(ReviewRequest.builder().date(LocalDate.of(2021, 12, 3)).title("3일차").content("content").fasted(true).build().toEntity(food));
+        String url = PREFIX_URI + "/calendar?from=2021-12-01&to=2022-11-30";
+
+        // when
+        ResultActions result = mvc.perform(get(url)
+                .session(session)
+                .with(oauth2Login()
+                        .attributes(attributes -> {
+                            attributes.put("id", user.getId());
+                            attributes.put("name", user.getName());
+                            attributes.put("email", user.getEmail());
+                        })));
+
+        // then
+        //// 1~3일 작성 비트(0b111), 단식 비트(0b101), 1년치 응답이 1KB 미만
+        MvcResult mvcResult = result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.months.length()").value(12))
+                .andExpect(jsonPath("$.months[0].month").value("2021-12"))
+                .andExpect(jsonPath("$.months[0].days").value(31))
+                .andExpect(jsonPath("$.months[0].reviewed").value("BwAAAA=="))
+                .andExpect(jsonPath("$.months[0].fasted").value("BQAAAA=="))
+                .andExpect(jsonPath("$.months[1].reviewed").value("AAAAAA=="))
+                .andReturn();
+        assertThat(mvcResult.getResponse().getContentAsByteArray().length).isLessThan(1024);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"from=2021-12-01&to=2023-01-01", "from=2021-12-01&to=2022-12-01", "from=2021-12-15&to=2022-12-14"})
+    @DisplayName("리뷰 달력 조회 - 실패(12개월 초과 기간, 13번째 달의 첫날 포함)")
+    void findCalendarFailedWhenRangeIsTooLong(String range) throws Exception {
+        // given
+        String url = PREFIX_URI + "/calendar?" + range;
+
+        // when
+        ResultActions result = mvc.perform(get(url)
+                .session(session)
+                .with(oauth2Login()
+                        .attributes(attributes -> {
+                            attributes.put("id", user.getId());
+                            attributes.put("name", user.getName());
+                            attributes.put("email", user.getEmail());
+                        })));
+
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("R14"));
+    }
+
     @Test
     @DisplayName("리뷰 등록 - 성공")
     void saveReview() throws Exception {
@@ -270,6 +494,69 @@ class ReviewApiControllerTest {
     }
 
 
+    @Test
+    @DisplayName("리뷰 일괄 등록 - 성공")
+    void importReviews() throws Exception {
+        // given
+        String url = PREFIX_URI + "/import";
+
+        //// 단식 시작일부터 3일치 리뷰 (단식 2일)
+        ReviewImportRequest request = ReviewImportRequest.builder()
+                .reviews(Arrays.asList(
+                        ReviewRequest.builder().date(LocalDate.of(2021, 12, 1)).title("1일차").content("content").fasted(true).build(),
+                        ReviewRequest.builder().date(LocalDate.of(2021, 12, 2)).title("2일차").content("content").fasted(false).build(),
+                        ReviewRequest.builder().date(LocalDate.of(2021, 12, 3)).title("3일차").content("content").fasted(true).build()))
+                .build();
+
+        // when
+        ResultActions result = mvc.perform(post(url)
+                .session(session)
+                .with(oauth2Login()
+                        .attributes(attributes -> {
+                            attributes.put("id", user.getId());
+                            attributes.put("name", user.getName());
+                            attributes.put("email", user.getEmail());
+                        }))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper()
+                        .registerModule(new JavaTimeModule())
+                        .writeValueAsString(request)));
+
+        // then
+        result.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.importedCount").value(3))
+                .andExpect(jsonPath("$.dayCount").value(2));
+        assertThat(reviewRepository.findByFoodIdOrderByDateDesc(food.getId())).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("리뷰 일괄 등록 - 실패(빈 목록)")
+    void importReviewsFailedWhenEmpty() throws Exception {
+        // given
+        String url = PREFIX_URI + "/import";
+        ReviewImportRequest request = ReviewImportRequest.builder()
+                .reviews(Collections.emptyList())
+                .build();
+
+        // when
+        ResultActions result = mvc.perform(post(url)
+                .session(session)
+                .with(oauth2Login()
+                        .attributes(attributes -> {
+                            attributes.put("id", user.getId());
+                            attributes.put("name", user.getName());
+                            attributes.put("email", user.getEmail());
+                        }))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper()
+                        .registerModule(new JavaTimeModule())
+                        .writeValueAsString(request)));
+
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("R12"));
+    }
+
     @Test
     @WithMockUser
     @DisplayName("리뷰 수정 - 성공")
@@ -314,6 +601,87 @@ class ReviewApiControllerTest {
                 .andExpect(jsonPath("$.fasted").value(updateRequest.isFasted()));
     }
 
+    @Test
+    @DisplayName("리뷰 수정 - 실행 SQL 수 (세션 유저의 음식 행 잠금 + 리뷰/음식/권한 단일 조회 + 리뷰 수정 + 단식일수 증감/리뷰 변경 버전 + 연속 단식일 재계산 2회 + 연속 단식일 저장 + 검색 색인 조회/등록)")
+    void updateReviewStatementCount() throws Exception {
+        // given
+        Review saveReview = reviewRepository.save(createReviewRequest().toEntity(food));
+        foodRepository.addDayCount(food.getId(), 1L); // 단식 성공 리뷰 1건에 맞춘 단식일수
+        String url = PREFIX_URI + "/" + saveReview.getId();
+        ReviewRequest updateRequest = ReviewRequest.builder()
+                .date(LocalDate.now().minusDays(1))
+                .title("review title updated")
+                .content("review content updated")
+                .fasted(false)
+                .build();
+        Statistics statistics = startCountingStatements();
+
+        // when
+        ResultActions result = mvc.perform(put(url)
+                .session(session)
+                .with(oauth2Login()
+                        .attributes(attributes -> {
+                            attributes.put("id", user.getId());
+                            attributes.put("name", user.getName());
+                            attributes.put("email", user.getEmail());
+                        }))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper()
+                        .registerModule(new JavaTimeModule())
+                        .writeValueAsString(updateRequest)));
+
+        // then
+        result.andExpect(status().isOk());
+        assertThat(flushedStatementCount(statistics)).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("리뷰 API - 확인된 세션은 목록/달력/단건/등록/일괄 등록/수정/삭제/검색에서 유저를 조회하지 않음")
+    void reviewEndpointsWithoutUserLookup() throws Exception {
+        // given
+        Review saveReview = reviewRepository.save(createReviewRequest().toEntity(food));
+        String reviewUrl = PREFIX_URI + "/" + saveReview.getId();
+        ReviewImportRequest importRequest = ReviewImportRequest.builder()
+                .reviews(Collections.singletonList(
+                        ReviewRequest.builder().date(LocalDate.of(2021, 12, 1)).title("1일차").content("content").fasted(true).build()))
+                .build();
+        ReviewRequest saveRequest = ReviewRequest.builder()
+                .date(LocalDate.now().minusDays(2))
+                .title("review title")
+                .content("review content")
+                .fasted(true)
+                .build();
+        ReviewRequest updateRequest = ReviewRequest.builder()
+                .date(LocalDate.now().minusDays(1))
+                .title("review title updated")
+                .content("review content updated")
+                .fasted(false)
+                .build();
+        Statistics statistics = startCountingStatements();
+
+        // when
+        performWithLogin(get(PREFIX_URI)).andExpect(status().isOk());
+        performWithLogin(get(PREFIX_URI + "/calendar?from=2021-12-01&to=2022-11-30")).andExpect(status().isOk());
+        performWithLogin(get(reviewUrl)).andExpect(status().isOk());
+        performWithLogin(post(PREFIX_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(saveRequest)))
+                .andExpect(status().isCreated());
+        performWithLogin(post(PREFIX_URI + "/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(importRequest)))
+                .andExpect(status().isCreated());
+        performWithLogin(put(reviewUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(updateRequest)))
+                .andExpect(status().isOk());
+        performWithLogin(delete(reviewUrl)).andExpect(status().isNoContent());
+        performWithLogin(get("/api/reviews/search?q=review")).andExpect(status().isOk());
+
+        // then
+        assertThat(userLookups(statistics)).isZero();
+    }
+
     @Test
     @DisplayName("리뷰 수정 - 실패(로그인 X)")
     void updateReviewFailedWhenUserIsUnAuthenticated() throws Exception {
@@ -542,6 +910,7 @@ class ReviewApiControllerTest {
     }
 
     @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 중복 날짜는 flush 시점의 유니크 제약조건으로 검출되므로 테스트 트랜잭션 밖에서 실행
     @DisplayName("리뷰 수정 - 실패(이미 존재)")
     void updateReviewFailedWhenDateConflicts() throws Exception {
         // given
@@ -614,4 +983,28 @@ class ReviewApiControllerTest {
         // then
         result.andExpect(status().isNoContent());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("리뷰 삭제 - 실행 SQL 수 (세션 유저의 음식 행 잠금 + 리뷰/음식/권한 단일 조회 + 리뷰 삭제 + 단식일수 증감/리뷰 변경 버전 + 연속 단식일 재계산 2회 + 검색 색인 삭제)")
+    void deleteReviewStatementCount() throws Exception {
+        // given
+        Review saveReview = reviewRepository.save(createReviewRequest().toEntity(food));
+        foodRepository.addDayCount(food.getId(), 1L); // 단식 성공 리뷰 1건에 맞춘 단식일수
+        String url = PREFIX_URI + "/" + saveReview.getId();
+        Statistics statistics = startCountingStatements();
+
+        // when
+        ResultActions result = mvc.perform(delete(url)
+                .session(session)
+                .with(oauth2Login()
+                        .attributes(attributes -> {
+                            attributes.put("id", user.getId());
+                            attributes.put("name", user.getName());
+                            attributes.put("email", user.getEmail());
+                        })));
+
+        // then
+        result.andExpect(status().isNoContent());
+        assertThat(flushedStatementCount(statistics)).isEqualTo(7);
+    }
+}
@@ -3,8 +3,11 @@ package com.term.fastingdatecounter.domain.review.repository;
 import com.term.fastingdatecounter.domain.food.domain.Food;
 import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
 import com.term.fastingdatecounter.domain.review.domain.Review;
+import com.term.fastingdatecounter.domain.review.dto.ReviewSummaryResponse;
 import com.term.fastingdatecounter.domain.user.domain.User;
 import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,14 +15,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import javax.persistence.EntityManagerFactory;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 
@@ -36,6 +47,12 @@ class ReviewRepositoryTest {
     @Autowired
     FoodRepository foodRepository;
 
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
     private User user;
     private Food food;
 
@@ -205,4 +222,113 @@ class ReviewRepositoryTest {
         // then
         assertThat(count).isEqualTo(2);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("같은 음식 & 날짜의 리뷰 중복 등록 시 유니크 제약조건 위반")
+    void saveDuplicateDate() {
+        // given
+        LocalDate date = LocalDate.of(2021, 12, 3);
+        reviewRepository.saveAndFlush(createReview(date, true));
+
+        // when
+        // then
+        assertThatThrownBy(() -> reviewRepository.saveAndFlush(createReview(date, false)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("리뷰 목록 projection 조회 - 엔티티 로딩 없이 잘린 내용만 조회")
+    void findPageByFoodId() {
+        // given
+        String longContent = "가".repeat(300);
+        for (int i=1; i<6; i++) {
+            reviewRepository.save(Review.builder()
+                    .food(food)
+                    .title("review title")
+                    .content(longContent)
+                    .date(LocalDate.of(2021, 12, i))
+                    .fasted(true)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        //// projection 경로
+        Slice<ReviewSummaryResponse> page = reviewRepository.findPageByFoodId(food.getId(), PageRequest.of(0, 3));
+        long projectionLoadCount = statistics.getEntityLoadCount();
+
+        //// 엔티티 경로 (비교용)
+        reviewRepository.findByFoodIdOrderByDateDesc(food.getId());
+        long entityLoadCount = statistics.getEntityLoadCount() - projectionLoadCount;
+
+        // then
+        assertThat(page.getContent()).hasSize(3);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.getContent().get(0).getDate()).isEqualTo(LocalDate.of(2021, 12, 5));
+        assertAll(
+                () -> assertThat(page.getContent().get(0).getContent()).hasSize(ReviewSummaryResponse.CONTENT_PREVIEW_LENGTH),
+                () -> assertThat(page.getContent().get(0).isContentTruncated()).isTrue()
+        );
+        assertThat(projectionLoadCount).isZero();
+        assertThat(entityLoadCount).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("가장 빠른 리뷰 날짜 조회 - 리뷰 10,000건에서도 엔티티 로딩 없이 집계")
+    void findFirstReviewDateByFoodId() {
+        // given
+        LocalDate firstDate = LocalDate.of(1990, 1, 1);
+        for (int i = 0; i < 10_000; i++) {
+            reviewRepository.save(createReview(firstDate.plusDays(i), i % 2 == 0));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        Optional<LocalDate> result = reviewRepository.findFirstReviewDateByFoodId(food.getId());
+
+        // then
+        assertThat(result).contains(firstDate);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("가장 빠른 리뷰 날짜 조회 - 리뷰가 없으면 empty")
+    void findFirstReviewDateByFoodIdWhenEmpty() {
+        // when
+        Optional<LocalDate> result = reviewRepository.findFirstReviewDateByFoodId(food.getId());
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("리뷰 일괄 저장 - 시퀀스 id + JDBC batch로 insert 문 재사용")
+    void saveAllInBatches() {
+        // given
+        LocalDate firstDate = LocalDate.of(2021, 1, 1);
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            reviews.add(createReview(firstDate.plusDays(i), true));
+        }
+        entityManager.flush();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        reviewRepository.saveAll(reviews);
+        reviewRepository.flush();
+
+        // then
+        //// 200건을 batch(50) 단위로 insert, 시퀀스는 50개 단위로 할당 -> 행마다 statement를 만들지 않음
+        assertThat(reviews).allSatisfy(review -> assertThat(review.getId()).isNotNull());
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(200);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+    }
+}
@@ -0,0 +1,176 @@
+package com.term.fastingdatecounter.domain.review.service;
+
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import com.term.fastingdatecounter.domain.review.domain.Review;
+import com.term.fastingdatecounter.domain.review.dto.ReviewExportFormat;
+import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
+import com.term.fastingdatecounter.domain.user.domain.User;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import com.term.fastingdatecounter.global.exception.ServiceException;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class ReviewExportServiceTest {
+
+    private static final int REVIEW_COUNT = 2_000;
+
+    @Autowired
+    private ReviewExportService reviewExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Food food;
+    private Food emptyFood;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("exporter")
+                .email("exporter@test.com")
+                .build());
+        food = foodRepository.save(Food.builder()
+                .user(user)
+                .name("food")
+                .startDate(LocalDate.of(2000, 1, 1))
+                .build());
+        emptyFood = foodRepository.save(Food.builder()
+                .user(user)
+                .name("empty food")
+                .startDate(LocalDate.of(2021, 12, 1))
+                .build());
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            reviewRepository.save(Review.builder()
+                    .food(food)
+                    .date(LocalDate.of(2000, 1, 1).plusDays(i))
+                    .title("review " + i)
+                    .content("content, with \"quote\"")
+                    .fasted(i % 2 == 0)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // 쓰기가 일어날 때마다 영속성 컨텍스트에 남아 있는 엔티티 수의 최댓값을 기록
+    private class ManagedEntityTrackingStream extends ByteArrayOutputStream {
+
+        private int maxManagedEntities;
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            int managed = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+            maxManagedEntities = Math.max(maxManagedEntities, managed);
+            super.write(b, off, len);
+        }
+    }
+
+    @Test
+    @DisplayName("내보내기(NDJSON) - 리뷰 수와 관계없이 영속성 컨텍스트 크기 일정")
+    void exportNdjson() throws IOException {
+        // given
+        ManagedEntityTrackingStream outputStream = new ManagedEntityTrackingStream();
+
+        // when
+        reviewExportService.export(user.getId(), ReviewExportFormat.NDJSON, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        //// 리뷰 한 줄씩 + 리뷰가 없는 음식 한 줄
+        assertThat(lines).hasSize(REVIEW_COUNT + 1);
+        assertThat(lines[0]).contains("\"date\":\"2000-01-01\"", "\"foodName\":\"food\"");
+        assertThat(lines[REVIEW_COUNT]).contains("\"foodName\":\"empty food\"").doesNotContain("reviewId");
+
+        //// 유저 + 음식 2개 + 현재 읽는 리뷰 정도만 관리
+        assertThat(outputStream.maxManagedEntities).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("내보내기(CSV) - 헤더와 따옴표 처리")
+    void exportCsv() throws IOException {
+        // given
+        ManagedEntityTrackingStream outputStream = new ManagedEntityTrackingStream();
+
+        // when
+        reviewExportService.export(user.getId(), ReviewExportFormat.CSV, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(REVIEW_COUNT + 2);
+        assertThat(lines[0]).isEqualTo("foodId,foodName,startDate,dayCount,reviewId,date,title,content,fasted");
+        assertThat(lines[1]).endsWith(",2000-01-01,review 0,\"content, with \"\"quote\"\"\",true");
+        assertThat(lines[REVIEW_COUNT + 1]).endsWith(",empty food,2021-12-01,0,,,,,");
+        assertThat(outputStream.maxManagedEntities).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("내보내기(CSV) - 수식으로 시작하는 텍스트는 '를 붙여 내보냄")
+    void exportCsvNeutralizesFormulas() throws IOException {
+        // given
+        User formulaUser = userRepository.save(User.builder()
+                .name("formula")
+                .email("formula@test.com")
+                .build());
+        Food formulaFood = foodRepository.save(Food.builder()
+                .user(formulaUser)
+                .name("=HYPERLINK(\"http://evil\")")
+                .startDate(LocalDate.of(2021, 12, 1))
+                .build());
+        reviewRepository.save(Review.builder()
+                .food(formulaFood)
+                .date(LocalDate.of(2021, 12, 1))
+                .title("+1")
+                .content("@SUM(A1:A2), -2")
+                .fasted(false)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        reviewExportService.export(formulaUser.getId(), ReviewExportFormat.CSV, outputStream);
+
+        // then
+        //// 숫자 값(단식일수 등)은 그대로, 텍스트 값만 '를 붙이고 필요한 경우 따옴표로 감쌈
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[1]).startsWith(formulaFood.getId() + ",\"'=HYPERLINK(\"\"http://evil\"\")\",2021-12-01,0,")
+                .endsWith(",2021-12-01,'+1,\"'@SUM(A1:A2), -2\",false");
+    }
+
+    @Test
+    @DisplayName("내보내기 - 실패(지원하지 않는 형식)")
+    void exportFailedWhenFormatIsInvalid() {
+        assertThatThrownBy(() -> ReviewExportFormat.of("xml"))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getCode())
+                .isEqualTo("R11");
+    }
+}
@@ -0,0 +1,136 @@
+package com.term.fastingdatecounter.domain.review.service;
+
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import com.term.fastingdatecounter.domain.review.domain.ReviewTokenizer;
+import com.term.fastingdatecounter.domain.review.dto.ReviewSearchResponse;
+import com.term.fastingdatecounter.domain.user.domain.User;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 리뷰 10만 개를 쓴 유저의 검색 지연 시간 (목표: 중앙값 10ms 미만)
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReviewSearchBenchmarkTest {
+
+    private static final int FOOD_COUNT = 100;
+    private static final int DAYS_PER_FOOD = 1000;
+    private static final long FIRST_REVIEW_ID = 10_000_000L;
+    private static final int BATCH_SIZE = 5000;
+    private static final int WARM_UP = 20;
+    private static final int ROUNDS = 200;
+    private static final long TARGET_MILLIS = 10;
+
+    @Autowired
+    private ReviewSearchService reviewSearchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeAll
+    void setUp() {
+        // 음식 100개 x 1,000일 = 리뷰 100,000개
+        //// "물"은 모든 리뷰, "참았다"는 절반, "두통"은 1,000개 중 하나에만 있음
+        user = userRepository.save(User.builder()
+                .name("benchmark")
+                .email("benchmark@search.test")
+                .build());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        LocalDate startDate = LocalDate.of(2019, 1, 1);
+        long reviewId = FIRST_REVIEW_ID;
+        List<Object[]> reviews = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> tokens = new ArrayList<>();
+        for (int f = 0; f < FOOD_COUNT; f++) {
+            Food food = foodRepository.save(Food.builder()
+                    .user(user)
+                    .name("food" + f)
+                    .startDate(startDate)
+                    .build());
+            for (int day = 0; day < DAYS_PER_FOOD; day++, reviewId++) {
+                String title = day + "일차";
+                String content = "물 마시고 " + (day % 2 == 0 ? "참았다" : "버텼다") + (day % 1000 == 7 ? " 두통이 왔다" : "");
+                reviews.add(new Object[]{reviewId, food.getId(), Date.valueOf(startDate.plusDays(day)), title, content, now, now});
+                for (Map.Entry<String, Integer> token : ReviewTokenizer.tokenize(title, content).entrySet()) {
+                    tokens.add(new Object[]{reviewId, token.getKey(), user.getId(), token.getValue()});
+                }
+                if (reviews.size() == BATCH_SIZE) {
+                    insert(reviews, tokens);
+                }
+            }
+        }
+        insert(reviews, tokens);
+    }
+
+    @AfterAll
+    void cleanAll() {
+        jdbcTemplate.update("DELETE FROM `review_token` WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM `review` WHERE food_id IN (SELECT id FROM `food` WHERE user_id = ?)", user.getId());
+        jdbcTemplate.update("DELETE FROM `food` WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM `user` WHERE id = ?", user.getId());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"물", "두통", "물 두통", "물 참았다"})
+    @DisplayName("리뷰 검색 - 리뷰 10만 개 유저, 흔한/드문 토큰 검색 지연 시간")
+    void search(String query, TestReporter reporter) {
+        // given
+        for (int i = 0; i < WARM_UP; i++) {
+            reviewSearchService.search(user.getId(), query, 0, 20);
+        }
+
+        // when
+        long[] elapsed = new long[ROUNDS];
+        ReviewSearchResponse response = null;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            response = reviewSearchService.search(user.getId(), query, 0, 20);
+            elapsed[i] = System.nanoTime() - start;
+        }
+
+        // then
+        Arrays.sort(elapsed);
+        double median = elapsed[ROUNDS / 2] / 1_000_000.0;
+        double p95 = elapsed[ROUNDS * 95 / 100] / 1_000_000.0;
+        reporter.publishEntry("search." + query, String.format("median=%.2fms p95=%.2fms target<%dms", median, p95, TARGET_MILLIS));
+        assertThat(response.getReviewList()).isNotEmpty();
+        assertThat(median).isLessThan(TARGET_MILLIS);
+    }
+
+    private void insert(List<Object[]> reviews, List<Object[]> tokens) {
+        jdbcTemplate.batchUpdate("INSERT INTO `review` (id, food_id, `date`, title, content, fasted, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, true, ?, ?)", reviews);
+        jdbcTemplate.batchUpdate("INSERT INTO `review_token` (review_id, token, user_id, frequency) VALUES (?, ?, ?, ?)", tokens);
+        reviews.clear();
+        tokens.clear();
+    }
+}
@@ -0,0 +1,259 @@
+package com.term.fastingdatecounter.domain.review.service;
+
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import com.term.fastingdatecounter.domain.review.domain.Review;
+import com.term.fastingdatecounter.domain.review.domain.ReviewToken;
+import com.term.fastingdatecounter.domain.review.domain.ReviewTokenizer;
+import com.term.fastingdatecounter.domain.review.dto.ReviewRequest;
+import com.term.fastingdatecounter.domain.review.dto.ReviewSearchItem;
+import com.term.fastingdatecounter.domain.review.dto.ReviewSearchResponse;
+import com.term.fastingdatecounter.domain.review.repository.ReviewTokenRepository;
+import com.term.fastingdatecounter.domain.user.domain.User;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Transactional
+class ReviewSearchServiceTest {
+
+    @Autowired
+    private ReviewSearchService reviewSearchService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    @Autowired
+    private ReviewTokenRepository reviewTokenRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Food food;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("searcher")
+                .email("searcher@test.com")
+                .build());
+        food = foodRepository.save(Food.builder()
+                .user(user)
+                .name("coffee")
+                .startDate(LocalDate.of(2021, 1, 1))
+                .build());
+    }
+
+    @Test
+    @DisplayName("리뷰 검색 - 조사가 붙은 단어, 대소문자 무시")
+    void search() {
+        // given
+        Review headache = saveReview(food, 1, "힘든 날", "오후에 두통이 심했다");
+        saveReview(food, 2, "괜찮은 날", "Coffee 생각이 안 났다");
+        flushAndClear();
+
+        // when
+        ReviewSearchResponse korean = reviewSearchService.search(user.getId(), "두통", 0, 20);
+        ReviewSearchResponse english = reviewSearchService.search(user.getId(), "COFFEE", 0, 20);
+
+        // then
+        assertThat(korean.getReviewList()).extracting(ReviewSearchItem::getId).containsExactly(headache.getId());
+        assertThat(korean.getReviewList().get(0).getFoodId()).isEqualTo(food.getId());
+        assertThat(english.getReviewList()).hasSize(1);
+        assertThat(english.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("리뷰 검색 - 모든 검색어를 포함한 리뷰만, 제목 가중치/빈도 순")
+    void searchRanking() {
+        // given
+        Review inContent = saveReview(food, 1, "1일차", "커피 마시고 싶다");
+        Review inTitle = saveReview(food, 2, "커피 생각", "참았다");
+        Review twice = saveReview(food, 3, "커피 커피", "커피 향만 맡았다");
+        saveReview(food, 4, "4일차", "마시고 싶다");
+        flushAndClear();
+
+        // when
+        ReviewSearchResponse all = reviewSearchService.search(user.getId(), "커피", 0, 20);
+        ReviewSearchResponse both = reviewSearchService.search(user.getId(), "커피 마시고", 0, 20);
+
+        // then
+        assertThat(all.getReviewList()).extracting(ReviewSearchItem::getId)
+                .containsExactly(twice.getId(), inTitle.getId(), inContent.getId());
+        assertThat(both.getReviewList()).extracting(ReviewSearchItem::getId)
+                .containsExactly(inContent.getId());
+    }
+
+    @Test
+    @DisplayName("리뷰 검색 - 페이지")
+    void searchPage() {
+        // given
+        for (int day = 1; day <= 5; day++) {
+            saveReview(food, day, day + "일차", "커피 없이 하루");
+        }
+        flushAndClear();
+
+        // when
+        ReviewSearchResponse first = reviewSearchService.search(user.getId(), "커피", 0, 3);
+        ReviewSearchResponse second = reviewSearchService.search(user.getId(), "커피", 1, 3);
+
+        // then
+        assertThat(first.getReviewList()).hasSize(3);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getReviewList()).hasSize(2);
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("리뷰 검색 - 수정/삭제한 리뷰 반영")
+    void searchAfterUpdateAndDelete() {
+        // given
+        Review updated = saveReview(food, 1, "1일차", "두통이 있었다");
+        Review deleted = saveReview(food, 2, "2일차", "두통이 조금 있었다");
+        reviewService.update(user.getId(), food.getId(), updated.getId(), ReviewRequest.builder()
+                .date(updated.getDate())
+                .title("1일차")
+                .content("컨디션 좋음")
+                .fasted(true)
+                .build());
+        reviewService.delete(user.getId(), food.getId(), deleted.getId());
+        flushAndClear();
+
+        // when
+        ReviewSearchResponse headache = reviewSearchService.search(user.getId(), "두통", 0, 20);
+        ReviewSearchResponse condition = reviewSearchService.search(user.getId(), "컨디션", 0, 20);
+
+        // then
+        assertThat(headache.getReviewList()).isEmpty();
+        assertThat(condition.getReviewList()).extracting(ReviewSearchItem::getId).containsExactly(updated.getId());
+    }
+
+    @Test
+    @DisplayName("리뷰 검색 - 한 글자 검색어 (글자 단위 색인)")
+    void searchSingleSyllable() {
+        // given
+        Review water = saveReview(food, 1, "1일차", "물을 많이 마셨다");
+        saveReview(food, 2, "2일차", "커피 생각");
+        flushAndClear();
+
+        // when
+        ReviewSearchResponse single = reviewSearchService.search(user.getId(), "물", 0, 20);
+        ReviewSearchResponse both = reviewSearchService.search(user.getId(), "물 마셨", 0, 20);
+
+        // then
+        assertThat(single.getReviewList()).extracting(ReviewSearchItem::getId).containsExactly(water.getId());
+        assertThat(both.getReviewList()).extracting(ReviewSearchItem::getId).containsExactly(water.getId());
+    }
+
+    @Test
+    @DisplayName("리뷰 검색 - 같은 트랜잭션에서 수정해도 바뀐 토큰만 반영")
+    void reindexOnlyChangedTokens() {
+        // given
+        Review review = saveReview(food, 1, "두통", "두통이 있었다");
+
+        // when
+        //// 제목 토큰은 그대로, 내용만 변경 (이전 토큰이 영속성 컨텍스트에 남아 있는 상태)
+        reviewService.update(user.getId(), food.getId(), review.getId(), ReviewRequest.builder()
+                .date(review.getDate())
+                .title("두통")
+                .content("두통 두통")
+                .fasted(true)
+                .build());
+        flushAndClear();
+
+        // then
+        assertThat(reviewTokenRepository.findByReviewId(review.getId()))
+                .extracting(ReviewToken::getToken, ReviewToken::getFrequency)
+                .containsExactlyInAnyOrder(
+                        tuple("두통", ReviewTokenizer.TITLE_WEIGHT + 2),
+                        tuple("두", ReviewTokenizer.TITLE_WEIGHT + 2),
+                        tuple("통", ReviewTokenizer.TITLE_WEIGHT + 2));
+        assertThat(reviewSearchService.search(user.getId(), "있었", 0, 20).getReviewList()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("리뷰 검색 - 가장 드문 토큰을 포함한 최근 리뷰만 후보")
+    void searchFromRarestToken() {
+        // given
+        Review old = saveReview(food, 1, "1일차", "커피 마시고 두통");
+        for (int day = 2; day <= 5; day++) {
+            saveReview(food, day, day + "일차", "커피 생각");
+        }
+        flushAndClear();
+        Object maxCandidates = ReflectionTestUtils.getField(reviewSearchService, "maxCandidates");
+        ReflectionTestUtils.setField(reviewSearchService, "maxCandidates", 3);
+
+        try {
+            // when
+            ReviewSearchResponse rare = reviewSearchService.search(user.getId(), "커피 두통", 0, 20);
+            ReviewSearchResponse common = reviewSearchService.search(user.getId(), "커피", 0, 20);
+
+            // then
+            //// 두통이 더 드문 토큰: 가장 오래된 리뷰도 후보
+            assertThat(rare.getReviewList()).extracting(ReviewSearchItem::getId).containsExactly(old.getId());
+            //// 흔한 토큰만으로 된 검색어는 최근 리뷰 3개 안에서만 찾음
+            assertThat(common.getReviewList()).hasSize(3)
+                    .extracting(ReviewSearchItem::getId).doesNotContain(old.getId());
+        } finally {
+            ReflectionTestUtils.setField(reviewSearchService, "maxCandidates", maxCandidates);
+        }
+    }
+
+    @Test
+    @DisplayName("리뷰 검색 - 다른 유저의 리뷰, 빈 검색어는 결과 없음")
+    void searchOnlyOwnReviews() {
+        // given
+        User anotherUser = userRepository.save(User.builder()
+                .name("another")
+                .email("another@test.com")
+                .build());
+        Food anotherFood = foodRepository.save(Food.builder()
+                .user(anotherUser)
+                .name("coffee")
+                .startDate(LocalDate.of(2021, 1, 1))
+                .build());
+        saveReview(anotherFood, 1, "커피", "커피");
+        flushAndClear();
+
+        // when
+        ReviewSearchResponse other = reviewSearchService.search(user.getId(), "커피", 0, 20);
+        ReviewSearchResponse blank = reviewSearchService.search(user.getId(), " ...", 0, 20);
+
+        // then
+        assertThat(other.getReviewList()).isEmpty();
+        assertThat(blank.getReviewList()).isEmpty();
+    }
+
+    private Review saveReview(Food food, int day, String title, String content) {
+        return reviewService.save(food.getUser().getId(), food.getId(), ReviewRequest.builder()
+                .date(LocalDate.of(2021, 1, day))
+                .title(title)
+                .content(content)
+                .fasted(true)
+                .build());
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
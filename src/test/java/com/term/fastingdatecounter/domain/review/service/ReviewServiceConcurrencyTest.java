@@ -0,0 +1,163 @@
+package com.term.fastingdatecounter.domain.review.service;
+
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import com.term.fastingdatecounter.domain.review.domain.Review;
+import com.term.fastingdatecounter.domain.review.dto.ReviewRequest;
+import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
+import com.term.fastingdatecounter.domain.user.domain.User;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import com.term.fastingdatecounter.global.exception.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 음식 행 잠금을 기다리는 writer가 lock timeout으로 실패하지 않도록 대기 시간을 늘림
+@SpringBootTest(properties = "spring.datasource.hikari.connection-init-sql=SET LOCK_TIMEOUT 10000")
+class ReviewServiceConcurrencyTest {
+
+    private static final int WRITERS = 8;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private User user;
+    private Food food;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("writer")
+                .email("writer@test.com")
+                .build());
+        food = foodRepository.save(Food.builder()
+                .user(user)
+                .name("food")
+                .startDate(LocalDate.of(2021, 12, 1))
+                .build());
+    }
+
+    @AfterEach
+    void cleanAll() {
+        // 검색 색인까지 지우도록 서비스로 삭제
+        reviewRepository.findByFoodIdOrderByDateDesc(food.getId())
+                .forEach(review -> reviewService.delete(user.getId(), food.getId(), review.getId()));
+        foodRepository.delete(food);
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("리뷰 등록 - 같은 날짜 동시 등록 시 한 건만 저장")
+    void saveConcurrentlyOnSameDate() throws InterruptedException {
+        // given
+        ReviewRequest request = ReviewRequest.builder()
+                .date(LocalDate.now())
+                .title("review title")
+                .content("review content")
+                .fasted(true)
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(WRITERS);
+        AtomicInteger succeeded = new AtomicInteger();
+        ConcurrentLinkedQueue<Exception> failures = new ConcurrentLinkedQueue<>();
+
+        // when
+        for (int i = 0; i < WRITERS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    reviewService.save(user.getId(), food.getId(), request);
+                    succeeded.incrementAndGet();
+                } catch (Exception e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then
+        //// 한 건만 성공하고 나머지는 모두 중복 날짜(R08)로 거절
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(failures).hasSize(WRITERS - 1);
+        assertThat(failures).allSatisfy(e -> assertThat(e)
+                .isInstanceOf(ServiceException.class)
+                .extracting(failure -> ((ServiceException) failure).getCode())
+                .isEqualTo("R08"));
+
+        //// 저장된 리뷰와 단식일수도 한 건
+        List<Review> reviews = reviewRepository.findByFoodIdOrderByDateDesc(food.getId());
+        assertThat(reviews).hasSize(1);
+        assertThat(foodRepository.findById(food.getId()).get().getDayCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("연속 단식일 - 다른 날짜 동시 등록 시에도 갱신 유실 없음")
+    void saveConcurrentlyOnConsecutiveDates() throws InterruptedException {
+        // given
+        //// 단식 시작일부터 이어지는 날짜를 writer마다 하나씩 등록
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(WRITERS);
+        ConcurrentLinkedQueue<Exception> failures = new ConcurrentLinkedQueue<>();
+
+        // when
+        for (int i = 0; i < WRITERS; i++) {
+            ReviewRequest request = ReviewRequest.builder()
+                    .date(food.getStartDate().plusDays(i))
+                    .title("review title")
+                    .content("review content")
+                    .fasted(true)
+                    .build();
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    reviewService.save(user.getId(), food.getId(), request);
+                } catch (Exception e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then
+        //// 모든 등록이 반영되어 연속 단식일이 전체 날짜 수와 같음
+        assertThat(failures).isEmpty();
+        Food result = foodRepository.findById(food.getId()).get();
+        assertThat(result.getDayCount()).isEqualTo((long) WRITERS);
+        assertThat(result.getCurrentStreak()).isEqualTo((long) WRITERS);
+        assertThat(result.getLongestStreak()).isEqualTo((long) WRITERS);
+        assertThat(result.getLastReviewDate()).isEqualTo(food.getStartDate().plusDays(WRITERS - 1));
+    }
+}
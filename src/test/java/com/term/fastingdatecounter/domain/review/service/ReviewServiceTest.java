@@ -3,9 +3,11 @@ package com.term.fastingdatecounter.domain.review.service;
 import com.term.fastingdatecounter.domain.food.domain.Food;
 import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
 import com.term.fastingdatecounter.domain.food.service.FoodService;
+import com.term.fastingdatecounter.domain.food.service.StreakService;
 import com.term.fastingdatecounter.domain.review.domain.Review;
 import com.term.fastingdatecounter.domain.review.dto.ReviewRequest;
 import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
+import com.term.fastingdatecounter.domain.stats.service.GlobalStatsService;
 import com.term.fastingdatecounter.domain.user.domain.User;
 import com.term.fastingdatecounter.domain.user.repository.UserRepository;
 import com.term.fastingdatecounter.global.exception.ServiceException;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.web.WebAppConfiguration;
 
@@ -29,8 +32,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 
@@ -45,6 +51,15 @@ class ReviewServiceTest {
     @Mock
     private FoodService foodService;
 
+    @Mock
+    private StreakService streakService;
+
+    @Mock
+    private ReviewSearchService reviewSearchService;
+
+    @Mock
+    private GlobalStatsService globalStatsService;
+
     @Mock
     private FoodRepository foodRepository;
 
@@ -108,6 +123,11 @@ class ReviewServiceTest {
                 .build();
     }
 
+    private DataIntegrityViolationException createReviewDateConflict() {
+        return new DataIntegrityViolationException(
+                "Unique index or primary key violation: \"PUBLIC." + Review.FOOD_DATE_UNIQUE_KEY.toUpperCase() + "_INDEX_8\"");
+    }
+
     @Test
     @DisplayName("리뷰 목록 조회 - 성공")
     void findByFoodId() {
@@ -137,18 +157,18 @@ class ReviewServiceTest {
     }
 
     @Test
-    @DisplayName("리뷰 목록 조회 - 실패(존재하지 않는 유저)")
-    void findByFoodIdFailedWhenNotExistUser() {
+    @DisplayName("리뷰 목록 조회 - 유저 조회 없이 음식 작성자와 세션 유저 id로 권한 확인")
+    void findByFoodIdWithoutUserLookup() {
         // given
-        //// 유저 가정
-        given(userRepository.findById(user.getId())).willReturn(Optional.empty());
+        //// 음식 가정
+        given(foodRepository.findById(food.getId())).willReturn(Optional.of(food));
 
         // when
+        reviewService.findByFoodId(user.getId(), food.getId());
+
         // then
-        assertThatThrownBy(() -> reviewService.findByFoodId(user.getId(), food.getId()))
-                .isInstanceOf(ServiceException.class)
-                .extracting(e -> ((ServiceException) e).getCode())
-                .isEqualTo("G04");
+        //// 유저 확인은 LoginUserArgumentResolver가 세션당 한 번만 함
+        then(userRepository).should(never()).findById(anyLong());
     }
 
     @Test
@@ -204,7 +224,7 @@ class ReviewServiceTest {
         given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
 
         //// 존재하는 음식 가정
-        given(foodRepository.findById(user.getId())).willReturn(Optional.of(food));
+        given(foodRepository.findByIdAndUserIdForUpdate(food.getId(), user.getId())).willReturn(Optional.of(food));
 
         //// 테스트 리뷰 데이터
         ReviewRequest request = createReviewRequest(LocalDate.now());
@@ -223,24 +243,21 @@ class ReviewServiceTest {
     }
 
     @Test
-    @DisplayName("리뷰 등록 - 실패(존재하지 않는 유저)")
-    void saveFailedWhenNotExistUser() {
+    @DisplayName("리뷰 등록 - 유저 조회 없이 세션 유저 id로 권한 확인 및 통계 기록")
+    void saveWithoutUserLookup() {
         // given
-        //// 존재하자 얺는 유저
-        given(userRepository.findById(user.getId())).willReturn(Optional.empty());
-
         //// 존재하는 음식 가정
-        given(foodRepository.findById(user.getId())).willReturn(Optional.of(food));
+        given(foodRepository.findByIdAndUserIdForUpdate(food.getId(), user.getId())).willReturn(Optional.of(food));
 
         //// 테스트 리뷰 데이터
         ReviewRequest request = createReviewRequest(LocalDate.now());
 
         // when
+        reviewService.save(user.getId(), food.getId(), request);
+
         // then
-        assertThatThrownBy(() -> reviewService.save(user.getId(), food.getId(), request))
-                .isInstanceOf(ServiceException.class)
-                .extracting(e -> ((ServiceException) e).getCode())
-                .isEqualTo("G04");
+        then(userRepository).should(never()).findById(anyLong());
+        then(globalStatsService).should(times(1)).recordReview(user.getId());
     }
 
     @Test
@@ -251,7 +268,7 @@ class ReviewServiceTest {
         given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
 
         //// 존재하지 않는 음식 가정
-        given(foodRepository.findById(user.getId())).willReturn(Optional.empty());
+        given(foodRepository.findByIdAndUserIdForUpdate(food.getId(), user.getId())).willReturn(Optional.empty());
 
         //// 테스트 리뷰 데이터
         ReviewRequest request = createReviewRequest(LocalDate.now());
@@ -279,8 +296,9 @@ class ReviewServiceTest {
         given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
         given(userRepository.findById(anotherUser.getId())).willReturn(Optional.of(anotherUser));
 
-        //// 존재하는 음식
-        given(foodRepository.findById(user.getId())).willReturn(Optional.of(food));
+        //// 존재하는 음식 (다른 유저의 요청으로는 잠금 조회되지 않음)
+        given(foodRepository.findByIdAndUserIdForUpdate(food.getId(), user.getId())).willReturn(Optional.of(food));
+        given(foodRepository.findById(food.getId())).willReturn(Optional.of(food));
 
         //// 테스트 리뷰 데이터
         ReviewRequest request = createReviewRequest(LocalDate.now());
@@ -301,16 +319,13 @@ class ReviewServiceTest {
         given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
 
         //// 존재하는 음식
-        given(foodRepository.findById(user.getId())).willReturn(Optional.of(food));
-
-        LocalDate today = LocalDate.now();
+        given(foodRepository.findByIdAndUserIdForUpdate(food.getId(), user.getId())).willReturn(Optional.of(food));
 
         //// 테스트 리뷰 데이터
         ReviewRequest request = createReviewRequest(LocalDate.now());
 
-        //// 등록할 리뷰 날짜에 이미 작성된 리뷰
-        Review writtenReview = createReview(1L, today);
-        given(reviewRepository.findByFoodIdAndDate(food.getId(), today)).willReturn(Optional.of(writtenReview));
+        //// 등록할 리뷰 날짜에 이미 작성된 리뷰 (유니크 제약조건 위반)
+        given(reviewRepository.saveAndFlush(any(Review.class))).willThrow(createReviewDateConflict());
 
         // when
         // then
@@ -328,7 +343,7 @@ class ReviewServiceTest {
         given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
 
         //// 존재하는 음식
-        given(foodRepository.findById(user.getId())).willReturn(Optional.of(food));
+        given(foodRepository.findByIdAndUserIdForUpdate(food.getId(), user.getId())).willReturn(Optional.of(food));
 
         //// 테스트 리뷰 데이터
         ReviewRequest request = createReviewRequest(LocalDate.of(2020, 1, 1));
@@ -345,15 +360,11 @@ class ReviewServiceTest {
     @DisplayName("리뷰 수정 - 성공")
     void update() {
         // given
-        //// 존재하는 유저
-        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
-
-        //// 존재하는 음식
-        given(foodRepository.findById(user.getId())).willReturn(Optional.of(food));
-
-        //// 존재하는 리뷰
+        //// 존재하는 리뷰 (음식 작성자 = 세션 유저, 단일 쿼리로 조회)
         Review review = createReview(10L, LocalDate.now());
-        given(reviewRepository.findById(review.getId())).willReturn(Optional.of(review));
+        given(foodRepository.findByIdAndUserIdForUpdate(food.getId(), user.getId())).willReturn(Optional.of(food));
+        given(reviewRepository.findByIdAndFoodIdAndUserId(review.getId(), food.getId(), user.getId()))
+                .willReturn(Optional.of(review));
 
         //// 테스트 데이터
         ReviewRequest request = createReviewRequest("new title", "new content", LocalDate.now(), false);
@@ -483,23 +494,18 @@ class ReviewServiceTest {
     @DisplayName("리뷰 수정 - 실패(리뷰 중복)")
     void updateFailedWhenDateConflicts() {
         // given
-        //// 존재하는 유저
-        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
-
-        //// 존재하는 음식
-        given(foodRepository.findById(user.getId())).willReturn(Optional.of(food));
-
-        //// 존재하는 리뷰
+        //// 존재하는 리뷰 (음식 작성자 = 세션 유저, 단일 쿼리로 조회)
         Review review = createReview(10L, LocalDate.now());
-        given(reviewRepository.findById(review.getId())).willReturn(Optional.of(review));
+        given(foodRepository.findByIdAndUserIdForUpdate(food.getId(), user.getId())).willReturn(Optional.of(food));
+        given(reviewRepository.findByIdAndFoodIdAndUserId(review.getId(), food.getId(), user.getId()))
+                .willReturn(Optional.of(review));
 
         //// 테스트 데이터
         LocalDate newDate = LocalDate.of(2021, 12, 3);
         ReviewRequest request = createReviewRequest("new title", "new content", newDate, false);
 
-        //// 해당 날짜에 이미 작성된 리뷰
-        Review writtenReview = createReview(11L, newDate);
-        given(reviewRepository.findByFoodIdAndDate(food.getId(), newDate)).willReturn(Optional.of(writtenReview));
+        //// 해당 날짜에 이미 작성된 리뷰 (유니크 제약조건 위반)
+        willThrow(createReviewDateConflict()).given(reviewRepository).flush();
 
         // when
         // then
@@ -513,15 +519,11 @@ class ReviewServiceTest {
     @DisplayName("리뷰 수정 - 실패(리뷰 날짜가 단식시작일보다 빠름)")
     void updateFailedWhenDateIsInvalid() {
         // given
-        //// 존재하는 유저
-        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
-
-        //// 존재하는 음식
-        given(foodRepository.findById(user.getId())).willReturn(Optional.of(food));
-
-        //// 존재하는 리뷰
+        //// 존재하는 리뷰 (음식 작성자 = 세션 유저, 단일 쿼리로 조회)
         Review review = createReview(10L, LocalDate.now());
-        given(reviewRepository.findById(review.getId())).willReturn(Optional.of(review));
+        given(foodRepository.findByIdAndUserIdForUpdate(food.getId(), user.getId())).willReturn(Optional.of(food));
+        given(reviewRepository.findByIdAndFoodIdAndUserId(review.getId(), food.getId(), user.getId()))
+                .willReturn(Optional.of(review));
 
         //// 테스트 데이터
         ReviewRequest request = createReviewRequest("new title", "new content", LocalDate.MIN, false);
@@ -538,15 +540,11 @@ class ReviewServiceTest {
     @DisplayName("리뷰 삭제 - 성공")
     void delete() {
         // given
-        //// 존재하는 유저
-        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
-
-        //// 존재하는 음식
-        given(foodRepository.findById(user.getId())).willReturn(Optional.of(food));
-
-        //// 존재하는 리뷰
+        //// 존재하는 리뷰 (음식 작성자 = 세션 유저, 단일 쿼리로 조회)
         Review review = createReview(10L, LocalDate.now());
-        given(reviewRepository.findById(review.getId())).willReturn(Optional.of(review));
+        given(foodRepository.findByIdAndUserIdForUpdate(food.getId(), user.getId())).willReturn(Optional.of(food));
+        given(reviewRepository.findByIdAndFoodIdAndUserId(review.getId(), food.getId(), user.getId()))
+                .willReturn(Optional.of(review));
 
         // when
         reviewService.delete(user.getId(), food.getId(), review.getId());
@@ -554,10 +552,16 @@ class ReviewServiceTest {
         // then
         then(reviewRepository)
                 .should(times(1))
-                .findById(review.getId());
+                .findByIdAndFoodIdAndUserId(review.getId(), food.getId(), user.getId());
         then(reviewRepository)
                 .should(times(1))
                 .delete(any(Review.class));
+        then(userRepository)
+                .should(times(0))
+                .findById(anyLong());
+        then(foodRepository)
+                .should(times(0))
+                .findById(anyLong());
     }
 
     @Test
@@ -655,4 +659,102 @@ class ReviewServiceTest {
                 .extracting(e -> ((ServiceException) e).getCode())
                 .isEqualTo("G02");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("리뷰 등록 - 실패(날짜 중복이 아닌 제약조건 위반은 그대로 전파)")
+    void saveFailedWhenOtherConstraintViolated() {
+        // given
+        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+        given(foodRepository.findByIdAndUserIdForUpdate(food.getId(), user.getId())).willReturn(Optional.of(food));
+        ReviewRequest request = createReviewRequest(LocalDate.now());
+        given(reviewRepository.saveAndFlush(any(Review.class)))
+                .willThrow(new DataIntegrityViolationException("NULL not allowed for column \"TITLE\""));
+
+        // when
+        // then
+        assertThatThrownBy(() -> reviewService.save(user.getId(), food.getId(), request))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("리뷰 일괄 등록 - 성공(단식일수는 한 번만 재집계)")
+    void importReviews() {
+        // given
+        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+        given(foodRepository.findByIdAndUserIdForUpdate(food.getId(), user.getId())).willReturn(Optional.of(food));
+
+        //// 단식 시작일부터 연속된 날짜의 리뷰 3개
+        List<ReviewRequest> requests = Arrays.asList(
+                createReviewRequest(LocalDate.of(2021, 12, 1)),
+                createReviewRequest(LocalDate.of(2021, 12, 2)),
+                createReviewRequest(LocalDate.of(2021, 12, 3)));
+
+        // when
+        List<Review> result = reviewService.importReviews(user.getId(), food.getId(), requests);
+
+        // then
+        assertThat(result).extracting(Review::getDate)
+                .containsExactly(LocalDate.of(2021, 12, 1), LocalDate.of(2021, 12, 2), LocalDate.of(2021, 12, 3));
+        then(reviewRepository).should(times(1)).saveAll(any());
+        then(foodService).should(times(1)).updateDayCount(food);
+    }
+
+    @Test
+    @DisplayName("리뷰 일괄 등록 - 실패(배치 안에서 날짜 중복)")
+    void importReviewsFailedWhenDatesDuplicateInBatch() {
+        // given
+        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+        given(foodRepository.findByIdAndUserIdForUpdate(food.getId(), user.getId())).willReturn(Optional.of(food));
+        List<ReviewRequest> requests = Arrays.asList(
+                createReviewRequest(LocalDate.of(2021, 12, 1)),
+                createReviewRequest(LocalDate.of(2021, 12, 1)));
+
+        // when
+        // then
+        //// 저장 전에 거절
+        assertThatThrownBy(() -> reviewService.importReviews(user.getId(), food.getId(), requests))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getCode())
+                .isEqualTo("R08");
+        then(reviewRepository).should(times(0)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("리뷰 일괄 등록 - 실패(단식시작일보다 빠른 날짜 포함)")
+    void importReviewsFailedWhenDateIsInvalid() {
+        // given
+        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+        given(foodRepository.findByIdAndUserIdForUpdate(food.getId(), user.getId())).willReturn(Optional.of(food));
+        List<ReviewRequest> requests = Arrays.asList(
+                createReviewRequest(LocalDate.of(2021, 12, 1)),
+                createReviewRequest(LocalDate.of(2020, 1, 1)));
+
+        // when
+        // then
+        assertThatThrownBy(() -> reviewService.importReviews(user.getId(), food.getId(), requests))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getCode())
+                .isEqualTo("R09");
+        then(reviewRepository).should(times(0)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("리뷰 일괄 등록 - 실패(기존 리뷰와 날짜 중복)")
+    void importReviewsFailedWhenDateConflicts() {
+        // given
+        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+        given(foodRepository.findByIdAndUserIdForUpdate(food.getId(), user.getId())).willReturn(Optional.of(food));
+        List<ReviewRequest> requests = Arrays.asList(createReviewRequest(LocalDate.of(2021, 12, 1)));
+
+        //// batch insert 시 유니크 제약조건 위반
+        willThrow(createReviewDateConflict()).given(reviewRepository).flush();
+
+        // when
+        // then
+        assertThatThrownBy(() -> reviewService.importReviews(user.getId(), food.getId(), requests))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getCode())
+                .isEqualTo("R08");
+        then(foodService).should(times(0)).updateDayCount(any(Food.class));
+    }
+}
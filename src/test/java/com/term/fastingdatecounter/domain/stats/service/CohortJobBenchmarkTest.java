@@ -0,0 +1,212 @@
+package com.term.fastingdatecounter.domain.stats.service;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.term.fastingdatecounter.domain.stats.repository.CohortReportRepository;
+import com.term.fastingdatecounter.domain.user.domain.User;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 리뷰 100만 개(음식 20,000개 x 50일)에서 코호트 배치의 힙 사용량과 실행 시간 (parallelism 1, 2, 4)
+// 메모리에 동시에 올라오는 행은 partition-size x parallelism개: 음식 id 1,000개 파티션 x 4 = 음식 4,000개 분량
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CohortJobBenchmarkTest {
+
+    private static final int FOOD_COUNT = 20_000;
+    private static final int DAYS_PER_FOOD = 50;
+    private static final long FIRST_REVIEW_ID = 20_000_000L;
+    private static final long PARTITION_SIZE = 1_000L;
+    private static final int BATCH_SIZE = 10_000;
+    // 집계 중 GC 후 남은 힙 증가량 상한 (리뷰 100만 개를 한 번에 올리면 수백 MB)
+    private static final long MAX_LIVE_HEAP_GROWTH = 64L * 1024 * 1024;
+
+    @Autowired
+    private CohortJob cohortJob;
+
+    @Autowired
+    private CohortReportRepository cohortReportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeAll
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("cohort")
+                .email("benchmark@cohort.test")
+                .build());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        LocalDate firstStartDate = LocalDate.of(2019, 1, 1);
+
+        //// 음식 20,000개, 시작일은 이틀 간격 (여러 시작월에 분산)
+        List<Object[]> foods = new ArrayList<>(BATCH_SIZE);
+        for (int f = 0; f < FOOD_COUNT; f++) {
+            LocalDate startDate = firstStartDate.plusDays(f % 1000 * 2L);
+            foods.add(new Object[]{user.getId(), "음식" + f % 50, "음식" + f % 50, Date.valueOf(startDate),
+                    Date.valueOf(startDate.plusDays(DAYS_PER_FOOD - 1)), now, now});
+            if (foods.size() == BATCH_SIZE) {
+                insertFoods(foods);
+            }
+        }
+        insertFoods(foods);
+
+        //// 음식마다 리뷰 50개, 음식 id에 따라 실패일이 달라짐 (실패가 없는 음식 포함)
+        List<Long> foodIds = jdbcTemplate.queryForList("SELECT id FROM `food` WHERE user_id = ? ORDER BY id", Long.class, user.getId());
+        List<Object[]> reviews = new ArrayList<>(BATCH_SIZE);
+        long reviewId = FIRST_REVIEW_ID;
+        for (int f = 0; f < foodIds.size(); f++) {
+            LocalDate startDate = firstStartDate.plusDays(f % 1000 * 2L);
+            int failureDay = f % 7 == 0 ? -1 : f % DAYS_PER_FOOD;
+            for (int day = 0; day < DAYS_PER_FOOD; day++, reviewId++) {
+                reviews.add(new Object[]{reviewId, foodIds.get(f), Date.valueOf(startDate.plusDays(day)), day != failureDay, now, now});
+                if (reviews.size() == BATCH_SIZE) {
+                    insertReviews(reviews);
+                }
+            }
+        }
+        insertReviews(reviews);
+    }
+
+    @AfterEach
+    void cleanReports() {
+        ReflectionTestUtils.setField(cohortJob, "parallelism", 4);
+        ReflectionTestUtils.setField(cohortJob, "partitionSize", 10000L);
+        cohortReportRepository.deleteAllInBatch();
+    }
+
+    @AfterAll
+    void cleanAll() {
+        jdbcTemplate.update("DELETE FROM `review` WHERE food_id IN (SELECT id FROM `food` WHERE user_id = ?)", user.getId());
+        jdbcTemplate.update("DELETE FROM `food` WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM `user` WHERE id = ?", user.getId());
+    }
+
+    @ParameterizedTest(name = "parallelism {0}")
+    @ValueSource(ints = {1, 2, 4})
+    @DisplayName("코호트 배치 - 리뷰 100만 개, 병렬도별 실행 시간과 힙 증가량")
+    void generate(int parallelism, TestReporter reporter) {
+        // given
+        ReflectionTestUtils.setField(cohortJob, "parallelism", parallelism);
+        ReflectionTestUtils.setField(cohortJob, "partitionSize", PARTITION_SIZE);
+        HeapWatcher heap = new HeapWatcher();
+
+        // when
+        long start = System.nanoTime();
+        int rows = cohortJob.generate();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        heap.stop();
+
+        // then
+        long growth = heap.liveGrowth();
+        reporter.publishEntry("cohort.parallelism." + parallelism, String.format(
+                "wall=%dms liveHeapGrowth=%dMB peakHeapGrowth=%dMB bound=%dMB rows=%d",
+                elapsedMillis, growth >> 20, heap.peakGrowth() >> 20, MAX_LIVE_HEAP_GROWTH >> 20, rows));
+        assertThat(rows).isPositive();
+        assertThat(growth).isLessThan(MAX_LIVE_HEAP_GROWTH);
+    }
+
+    private void insertFoods(List<Object[]> foods) {
+        jdbcTemplate.batchUpdate("INSERT INTO `food` (user_id, name, name_key, start_date, last_review_date, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", foods);
+        foods.clear();
+    }
+
+    private void insertReviews(List<Object[]> reviews) {
+        jdbcTemplate.batchUpdate("INSERT INTO `review` (id, food_id, `date`, title, content, fasted, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 't', 'c', ?, ?, ?)", reviews);
+        reviews.clear();
+    }
+
+    // 실행 전 GC 후 힙 사용량 대비 증가량
+    // live: 실행 중 GC 직후 사용량의 최댓값 (실제로 붙잡고 있는 행), 실행 중 GC가 없었으면 peak로 대신함
+    // peak: 힙 영역별 최대 사용량의 합 (아직 수거하지 않은 garbage 포함, 상한)
+    private static class HeapWatcher {
+
+        private final long baseline;
+        private final AtomicLong maxAfterGc = new AtomicLong(-1);
+        private final List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        private final Set<String> heapPoolNames = new HashSet<>();
+        private final NotificationListener listener = (notification, handback) -> {
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            long used = info.getGcInfo().getMemoryUsageAfterGc().entrySet().stream()
+                    .filter(pool -> heapPoolNames.contains(pool.getKey()))
+                    .mapToLong(pool -> pool.getValue().getUsed())
+                    .sum();
+            maxAfterGc.accumulateAndGet(used, Math::max);
+        };
+
+        private HeapWatcher() {
+            System.gc();
+            baseline = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    pool.resetPeakUsage();
+                    heapPools.add(pool);
+                    heapPoolNames.add(pool.getName());
+                }
+            }
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                ((NotificationEmitter) gc).addNotificationListener(listener, null, null);
+            }
+        }
+
+        private void stop() {
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                try {
+                    ((NotificationEmitter) gc).removeNotificationListener(listener);
+                } catch (Exception ignored) {
+                    // 등록되지 않은 collector
+                }
+            }
+        }
+
+        private long peakGrowth() {
+            return heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum() - baseline;
+        }
+
+        private long liveGrowth() {
+            long afterGc = maxAfterGc.get();
+            return afterGc < 0 ? peakGrowth() : afterGc - baseline;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.term.fastingdatecounter.domain.stats.service;
+
+import com.term.fastingdatecounter.domain.stats.domain.CohortHistogram;
+import com.term.fastingdatecounter.domain.stats.domain.CohortReport;
+import com.term.fastingdatecounter.domain.stats.repository.CohortReportRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CohortJobTest {
+
+    @Autowired
+    private CohortJob cohortJob;
+
+    @Autowired
+    private CohortReportService cohortReportService;
+
+    @Autowired
+    private CohortReportRepository cohortReportRepository;
+
+    @AfterEach
+    void cleanAll() {
+        ReflectionTestUtils.setField(cohortJob, "partitionSize", 10000L);
+        cohortReportRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("코호트 배치 - 음식 id 파티션으로 나눠 병렬 집계한 결과가 한 번에 집계한 결과와 같음")
+    void generate() {
+        // given
+        //// 음식 하나씩 파티션 (data.sql 음식)
+        ReflectionTestUtils.setField(cohortJob, "partitionSize", 1L);
+        long[] range = cohortReportService.findFoodIdRange().orElseThrow();
+        List<CohortReport> expected = cohortReportService.readPartition(range[0], range[1]).toReports();
+
+        // when
+        int rows = cohortJob.generate();
+
+        // then
+        assertThat(rows).isEqualTo(expected.size());
+        assertThat(cohortReportRepository.findAll()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("코호트 배치 - 음식이 없는 범위는 빈 집계")
+    void emptyHistogram() {
+        // when
+        CohortHistogram histogram = cohortReportService.readPartition(-10L, -1L);
+
+        // then
+        assertThat(histogram.toReports()).isEmpty();
+    }
+}
@@ -0,0 +1,140 @@
+package com.term.fastingdatecounter.domain.stats.service;
+
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import com.term.fastingdatecounter.domain.review.domain.Review;
+import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
+import com.term.fastingdatecounter.domain.stats.domain.CohortHistogram;
+import com.term.fastingdatecounter.domain.stats.dto.CohortResponse;
+import com.term.fastingdatecounter.domain.user.domain.User;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import com.term.fastingdatecounter.global.exception.ServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class CohortReportServiceTest {
+
+    // 다른 데이터와 겹치지 않는 시작월
+    private static final LocalDate COHORT_MONTH = LocalDate.of(1999, 1, 1);
+
+    @Autowired
+    private CohortReportService cohortReportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("cohort")
+                .email("cohort@test.com")
+                .build());
+    }
+
+    // startDay일에 시작해서 reviews(true: 성공, false: 실패) 순서로 하루씩 리뷰를 남긴 음식
+    private Food createFood(String name, int startDay, boolean... reviews) {
+        Food food = foodRepository.save(Food.builder()
+                .user(user)
+                .name(name)
+                .startDate(COHORT_MONTH.withDayOfMonth(startDay))
+                .build());
+        LocalDate date = food.getStartDate();
+        for (boolean fasted : reviews) {
+            reviewRepository.save(Review.builder()
+                    .food(food)
+                    .date(date)
+                    .title("review title")
+                    .content("review content")
+                    .fasted(fasted)
+                    .build());
+            date = date.plusDays(1);
+        }
+        food.updateStreak(0L, 0L, reviews.length == 0 ? null : date.minusDays(1));
+        return food;
+    }
+
+    private boolean[] fastedDays(int days) {
+        boolean[] reviews = new boolean[days];
+        Arrays.fill(reviews, true);
+        return reviews;
+    }
+
+    @Test
+    @DisplayName("코호트 - 단식 유지 일수 (첫 실패 전날까지, 실패가 없으면 마지막 리뷰까지)")
+    void lastedDays() {
+        LocalDate start = LocalDate.of(2021, 1, 1);
+
+        assertThat(CohortHistogram.lastedDays(start, null, null)).isZero();
+        assertThat(CohortHistogram.lastedDays(start, start.plusDays(13), null)).isEqualTo(14L);
+        assertThat(CohortHistogram.lastedDays(start, start.plusDays(30), start.plusDays(7))).isEqualTo(7L);
+        assertThat(CohortHistogram.lastedDays(start, start, start)).isZero();
+    }
+
+    @Test
+    @DisplayName("코호트 - 파티션을 나눠 집계해도 같은 결과, 시작월별 유지 비율")
+    void findCohorts() {
+        // given
+        Food first = createFood("커피", 1, fastedDays(14));                // 2주
+        createFood("커피", 2, true, true, true, false, true);              // 0주 (3일 후 실패)
+        createFood("커피", 3, fastedDays(7));                              // 1주
+        Food last = createFood("콜라", 4, fastedDays(20));                 // 2주
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        CohortHistogram whole = cohortReportService.readPartition(first.getId(), last.getId());
+        CohortHistogram split = cohortReportService.readPartition(first.getId(), first.getId())
+                .merge(cohortReportService.readPartition(first.getId() + 1, last.getId()));
+        cohortReportService.replaceReports(split);
+        List<CohortResponse> coffee = cohortReportService.findCohorts("커피", COHORT_MONTH, COHORT_MONTH);
+        List<CohortResponse> all = cohortReportService.findCohorts(null, COHORT_MONTH, COHORT_MONTH.plusMonths(1));
+
+        // then
+        assertThat(split.toReports()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(whole.toReports());
+
+        assertThat(coffee).hasSize(1);
+        assertThat(coffee.get(0).getFoodCount()).isEqualTo(3L);
+        assertThat(coffee.get(0).getRetention().subList(0, 4)).containsExactly(1.0, 2.0 / 3.0, 1.0 / 3.0, 0.0);
+
+        assertThat(all).hasSize(1);
+        assertThat(all.get(0).getFoodCount()).isEqualTo(4L);
+        assertThat(all.get(0).getRetention().get(2)).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("코호트 - 실패(조회 기간이 5년 이상)")
+    void findCohortsFailedWhenRangeIsTooLong() {
+        // when
+        // then
+        assertThatThrownBy(() -> cohortReportService.findCohorts(null, COHORT_MONTH, COHORT_MONTH.plusYears(5)))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getCode())
+                .isEqualTo("S02");
+    }
+}
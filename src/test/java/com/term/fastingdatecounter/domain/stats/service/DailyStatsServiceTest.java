@@ -0,0 +1,150 @@
+package com.term.fastingdatecounter.domain.stats.service;
+
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import com.term.fastingdatecounter.domain.review.domain.Review;
+import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
+import com.term.fastingdatecounter.domain.stats.dto.DailyStatsResponse;
+import com.term.fastingdatecounter.domain.user.domain.User;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import com.term.fastingdatecounter.global.exception.ServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class DailyStatsServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private DailyStatsService dailyStatsService;
+
+    @Autowired
+    private DailyStatsJob dailyStatsJob;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private User anotherUser;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("stats")
+                .email("stats@test.com")
+                .build());
+        anotherUser = userRepository.save(User.builder()
+                .name("another")
+                .email("another@test.com")
+                .build());
+    }
+
+    private Food createFood(User user, String name) {
+        return foodRepository.save(Food.builder()
+                .user(user)
+                .name(name)
+                .startDate(TODAY.minusDays(30))
+                .build());
+    }
+
+    private void createReview(Food food, int daysAgo, boolean fasted) {
+        reviewRepository.save(Review.builder()
+                .food(food)
+                .date(TODAY.minusDays(daysAgo))
+                .title("review title")
+                .content("review content")
+                .fasted(fasted)
+                .build());
+    }
+
+    private DailyStatsResponse findToday() {
+        return dailyStatsService.findDaily(TODAY, TODAY).get(0);
+    }
+
+    @Test
+    @DisplayName("일별 통계 - 오늘 작성된 리뷰/음식 집계, 다시 계산해도 같은 결과")
+    void rollup() {
+        // given
+        //// data.sql 등 기존 데이터 기준값
+        dailyStatsService.rollup(TODAY);
+        DailyStatsResponse before = findToday();
+
+        Food food = createFood(user, "Zero Cola");
+        Food anotherFood = createFood(anotherUser, "zero  cola");
+        createFood(anotherUser, "새 음식");
+        createReview(food, 1, true);
+        createReview(food, 2, false);
+        createReview(anotherFood, 1, true);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        dailyStatsService.rollup(TODAY);
+        dailyStatsService.rollup(TODAY);
+        DailyStatsResponse after = findToday();
+        List<DailyStatsResponse> byName = dailyStatsService.findDailyByName("ZERO COLA", TODAY, TODAY);
+
+        // then
+        assertThat(after.getReviewCount() - before.getReviewCount()).isEqualTo(3L);
+        assertThat(after.getFastedCount() - before.getFastedCount()).isEqualTo(2L);
+        assertThat(after.getNewFoodCount() - before.getNewFoodCount()).isEqualTo(3L);
+        assertThat(after.getActiveUserCount() - before.getActiveUserCount()).isEqualTo(2L);
+        assertThat(after.getName()).isNull();
+
+        assertThat(byName).hasSize(1);
+        assertThat(byName.get(0).getName()).isEqualTo("zero cola");
+        assertThat(byName.get(0).getReviewCount()).isEqualTo(3L);
+        assertThat(byName.get(0).getSuccessRate()).isEqualTo(2.0 / 3.0);
+        assertThat(byName.get(0).getNewFoodCount()).isEqualTo(2L);
+        assertThat(byName.get(0).getActiveUserCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("일별 통계 - 집계 작업은 마지막 집계일부터 오늘까지 채움")
+    void rollupUntil() {
+        // given
+        dailyStatsService.rollup(TODAY.minusDays(5));
+
+        // when
+        dailyStatsJob.rollupUntil(TODAY);
+
+        // then
+        assertThat(dailyStatsService.findDaily(TODAY.minusDays(5), TODAY))
+                .extracting(DailyStatsResponse::getDate)
+                .containsExactly(TODAY.minusDays(5), TODAY.minusDays(4), TODAY.minusDays(3),
+                        TODAY.minusDays(2), TODAY.minusDays(1), TODAY);
+    }
+
+    @Test
+    @DisplayName("일별 통계 - 실패(조회 기간이 1년 초과)")
+    void findDailyFailedWhenRangeIsTooLong() {
+        // when
+        // then
+        assertThatThrownBy(() -> dailyStatsService.findDaily(TODAY.minusYears(2), TODAY))
+                .isInstanceOf(ServiceException.class)
+                .extracting(e -> ((ServiceException) e).getCode())
+                .isEqualTo("S01");
+    }
+}
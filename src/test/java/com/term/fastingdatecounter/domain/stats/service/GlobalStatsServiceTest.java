@@ -0,0 +1,134 @@
+package com.term.fastingdatecounter.domain.stats.service;
+
+import com.term.fastingdatecounter.domain.stats.domain.CountMinSketch;
+import com.term.fastingdatecounter.domain.stats.domain.HyperLogLog;
+import com.term.fastingdatecounter.domain.stats.domain.SketchHash;
+import com.term.fastingdatecounter.domain.stats.dto.GlobalStatsResponse;
+import com.term.fastingdatecounter.domain.stats.repository.StatsSketchRepository;
+import com.term.fastingdatecounter.global.config.CacheConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+class GlobalStatsServiceTest {
+
+    @Autowired
+    private GlobalStatsService globalStatsService;
+
+    @Autowired
+    private StatsSketchRepository statsSketchRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void cleanAll() {
+        statsSketchRepository.deleteAllInBatch();
+        cacheManager.getCache(CacheConfig.GLOBAL_STATS).clear();
+    }
+
+    @Test
+    @DisplayName("HyperLogLog - pod별로 나눠 센 뒤 합친 고유 유저 수가 오차 범위(표준 오차의 3배) 이내")
+    void hyperLogLogMerge() {
+        // given
+        //// 유저 100000명을 두 pod가 겹치게 나눠서 기록 (중복 기록 포함)
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (long userId = 1; userId <= 100000; userId++) {
+            if (userId <= 60000) {
+                first.add(SketchHash.of(userId));
+                first.add(SketchHash.of(userId));
+            }
+            if (userId > 40000) {
+                second.add(SketchHash.of(userId));
+            }
+        }
+
+        // when
+        long estimate = HyperLogLog.fromBytes(first.toBytes()).merge(second).estimate();
+
+        // then
+        double standardError = 1.04 / Math.sqrt(HyperLogLog.REGISTER_COUNT);
+        assertThat((double) estimate).isCloseTo(100000.0, within(100000.0 * standardError * 3));
+    }
+
+    @Test
+    @DisplayName("count-min sketch - 추정 빈도가 실제보다 작지 않고, 합친 스케치의 상위 후보에 많이 등록된 이름이 포함됨")
+    void countMinSketchMerge() {
+        // given
+        //// 두 pod에 많이 등록된 이름 3개와 한 번씩 등록된 이름 3000개를 나눠서 기록
+        CountMinSketch first = new CountMinSketch();
+        CountMinSketch second = new CountMinSketch();
+        Random random = new Random(20);
+        for (int i = 0; i < 3000; i++) {
+            CountMinSketch sketch = random.nextBoolean() ? first : second;
+            sketch.add("음식" + i);
+            if (i % 10 == 0) {
+                sketch.add("커피");
+            }
+            if (i % 20 == 0) {
+                sketch.add("술");
+            }
+            if (i % 30 == 0) {
+                sketch.add("담배");
+            }
+        }
+
+        // when
+        CountMinSketch merged = CountMinSketch.fromBytes(first.toBytes()).merge(second);
+
+        // then
+        assertThat(merged.getTotal()).isEqualTo(3000 + 300 + 150 + 100);
+        assertThat(merged.topItems().subList(0, 3)).containsExactly("커피", "술", "담배");
+        //// 초과분은 대부분 (e / WIDTH) x 전체 건수 이내
+        long errorBound = (long) Math.ceil(Math.E / CountMinSketch.WIDTH * merged.getTotal());
+        assertThat(merged.estimate("커피")).isBetween(300L, 300L + errorBound);
+        for (int i = 0; i < 3000; i += 100) {
+            assertThat(merged.estimate("음식" + i)).isGreaterThanOrEqualTo(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("전체 통계 - 기록 후 저장한 스케치로 오늘 활동 유저 수와 많이 등록된 음식명 조회")
+    void findGlobalStats() {
+        // given
+        LocalDate today = LocalDate.now();
+        globalStatsService.flush();
+        GlobalStatsResponse before = globalStatsService.findGlobalStats(today);
+        cacheManager.getCache(CacheConfig.GLOBAL_STATS).clear();
+
+        //// 유저 500명이 리뷰 작성 (한 명은 여러 번), 같은 이름(표기만 다름)의 음식 50개 등록
+        for (long userId = 1_000_001; userId <= 1_000_500; userId++) {
+            globalStatsService.recordReview(userId);
+        }
+        globalStatsService.recordReview(1_000_001L);
+        for (int i = 0; i < 50; i++) {
+            globalStatsService.recordFood(i % 2 == 0 ? "전체통계 테스트" : "  전체통계   테스트 ");
+        }
+
+        // when
+        globalStatsService.flush();
+        GlobalStatsResponse after = globalStatsService.findGlobalStats(today);
+
+        // then
+        assertThat(statsSketchRepository.count()).isGreaterThanOrEqualTo(3L);
+        assertThat((double) after.getDailyActiveUsers() - before.getDailyActiveUsers()).isCloseTo(500.0, within(25.0));
+        assertThat(after.getWeeklyActiveUsers()).isGreaterThanOrEqualTo(after.getDailyActiveUsers() - 25);
+        assertThat(after.getNewFoodCount() - before.getNewFoodCount()).isEqualTo(50L);
+        assertThat(after.getTrendingFoods())
+                .anySatisfy(item -> {
+                    assertThat(item.getName()).isEqualTo("전체통계 테스트");
+                    assertThat(item.getCount()).isGreaterThanOrEqualTo(50L);
+                });
+    }
+}
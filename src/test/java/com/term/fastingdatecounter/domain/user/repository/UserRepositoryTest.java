@@ -1,14 +1,62 @@
 package com.term.fastingdatecounter.domain.user.repository;
 
+import com.term.fastingdatecounter.domain.user.domain.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
 class UserRepositoryTest {
 
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
     @Test
     @DisplayName("")
     void findByEmail() {
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("유저 저장 - 같은 email로 두 번 가입하면 unique 제약 위반")
+    void saveDuplicatedEmail() {
+        // given
+        userRepository.saveAndFlush(User.builder().name("first").email("unique@test.com").build());
+
+        // when, then
+        assertThatThrownBy(() -> userRepository.saveAndFlush(User.builder().name("second").email("unique@test.com").build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("이름 조건부 갱신 - 이름이 같으면 0건, 다르면 1건")
+    void updateNameIfChanged() {
+        // given
+        User user = userRepository.saveAndFlush(User.builder().name("before").email("rename@test.com").build());
+        entityManager.clear();
+
+        // when
+        int unchanged = userRepository.updateNameIfChanged("rename@test.com", "before", LocalDateTime.now());
+        int changed = userRepository.updateNameIfChanged("rename@test.com", "after", LocalDateTime.now());
+        entityManager.clear();
+
+        // then
+        assertThat(unchanged).isZero();
+        assertThat(changed).isEqualTo(1);
+        assertThat(userRepository.findById(user.getId()).get().getName()).isEqualTo("after");
+    }
+}
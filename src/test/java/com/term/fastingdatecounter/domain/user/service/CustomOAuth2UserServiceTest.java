@@ -1,14 +1,149 @@
 package com.term.fastingdatecounter.domain.user.service;
 
+import com.term.fastingdatecounter.domain.user.domain.User;
+import com.term.fastingdatecounter.domain.user.dto.OAuthAttributes;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import javax.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
+@SpringBootTest
 class CustomOAuth2UserServiceTest {
 
+    private static final int STORM_SIZE = 10_000;
+
+    @Autowired
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanAll() {
+        jdbcTemplate.update("DELETE FROM `user` WHERE email LIKE '%@login.test'");
+    }
+
     @Test
     @DisplayName("")
     void loadUser() {
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("로그인 유저 저장 - 처음 로그인하면 insert, 같은 정보로 다시 로그인하면 조회 + 0건 update")
+    void saveOrUpdate() {
+        // given
+        User joined = customOAuth2UserService.saveOrUpdate(attributes("first@login.test", "처음"));
+        statistics.clear();
+
+        // when
+        User again = customOAuth2UserService.saveOrUpdate(attributes("first@login.test", "처음"));
+
+        // then
+        assertThat(again.getId()).isEqualTo(joined.getId());
+        //// email 조회 + 조건부 update (이름이 같아 0건), 엔티티 insert/update 없음
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(again.getName()).isEqualTo("처음");
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("로그인 유저 저장 - 이름이 바뀐 경우에만 update 한 번")
+    void saveOrUpdateWhenNameChanged() {
+        // given
+        User joined = customOAuth2UserService.saveOrUpdate(attributes("changed@login.test", "이전"));
+        statistics.clear();
+
+        // when
+        User updated = customOAuth2UserService.saveOrUpdate(attributes("changed@login.test", "변경"));
+
+        // then
+        assertThat(updated.getId()).isEqualTo(joined.getId());
+        assertThat(updated.getName()).isEqualTo("변경");
+        //// email 조회 + 조건부 update
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(userRepository.findByEmail("changed@login.test").get().getName()).isEqualTo("변경");
+    }
+
+    @Test
+    @DisplayName("로그인 유저 저장 - 조회한 뒤 다른 pod가 이름을 바꿔도 이번 로그인 이름으로 update")
+    void updateNameWhenEntityIsStale() {
+        // given
+        customOAuth2UserService.saveOrUpdate(attributes("stale@login.test", "이전"));
+        User stale = userRepository.findByEmail("stale@login.test").get();
+        //// 조회 직후 다른 pod의 로그인이 이름을 바꿈
+        jdbcTemplate.update("UPDATE `user` SET name = '다른 pod' WHERE email = 'stale@login.test'");
+
+        // when
+        User user = customOAuth2UserService.updateName(stale, attributes("stale@login.test", "이전"));
+
+        // then
+        assertThat(user.getName()).isEqualTo("이전");
+        assertThat(userRepository.findByEmail("stale@login.test").get().getName()).isEqualTo("이전");
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("로그인 유저 저장 - 아침 로그인 몰림(10,000명)에서 이름이 바뀐 유저만 쓰기, 로그인당 조회 + 조건부 update 한 번")
+    void loginStorm() {
+        // given
+        //// 이미 가입한 10,000명, 그중 1%만 구글 이름이 바뀜
+        List<Object[]> rows = new ArrayList<>(STORM_SIZE);
+        Timestamp joinedAt = Timestamp.valueOf(LocalDateTime.now().minusDays(1));
+        for (int i = 0; i < STORM_SIZE; i++) {
+            rows.add(new Object[]{"storm" + i + "@login.test", "storm" + i, joinedAt, joinedAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO `user` (email, name, created_at, updated_at) VALUES (?, ?, ?, ?)", rows);
+        statistics.clear();
+
+        // when
+        for (int i = 0; i < STORM_SIZE; i++) {
+            String name = i % 100 == 0 ? "renamed" + i : "storm" + i;
+            customOAuth2UserService.saveOrUpdate(attributes("storm" + i + "@login.test", name));
+        }
+
+        // then
+        //// email 인덱스 조회 10,000번 + 조건부 update 10,000번, 그중 이름이 바뀐 100명의 행만 바뀜
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L * STORM_SIZE);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM `user` WHERE email LIKE 'storm%@login.test' AND updated_at > ?",
+                Long.class, joinedAt)).isEqualTo(STORM_SIZE / 100);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(userRepository.findByEmail("storm100@login.test").get().getName()).isEqualTo("renamed100");
+    }
+
+    private OAuthAttributes attributes(String email, String name) {
+        return OAuthAttributes.of("sub", Map.of("sub", email, "email", email, "name", name));
+    }
+}
@@ -0,0 +1,60 @@
+package com.term.fastingdatecounter.global.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SchedulerLockServiceTest {
+
+    private static final String LOCK_NAME = "testJob";
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @AfterEach
+    void cleanAll() {
+        schedulerLockRepository.deleteById(LOCK_NAME);
+    }
+
+    @Test
+    @DisplayName("작업 잠금 - 해제 전까지 다시 잠글 수 없음")
+    void tryLock() {
+        // when
+        boolean first = schedulerLockService.tryLock(LOCK_NAME, Duration.ofMinutes(10));
+        boolean second = schedulerLockService.tryLock(LOCK_NAME, Duration.ofMinutes(10));
+        schedulerLockService.unlock(LOCK_NAME);
+        boolean afterUnlock = schedulerLockService.tryLock(LOCK_NAME, Duration.ofMinutes(10));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(afterUnlock).isTrue();
+    }
+
+    @Test
+    @DisplayName("작업 잠금 - 다른 pod의 잠금은 lease가 지나면 다시 잠글 수 있음")
+    void tryLockAfterLeaseExpired() {
+        // given
+        schedulerLockRepository.saveAndFlush(new SchedulerLock(LOCK_NAME, LocalDateTime.now().plusMinutes(10), "other-pod"));
+        boolean whileLocked = schedulerLockService.tryLock(LOCK_NAME, Duration.ofMinutes(10));
+        schedulerLockRepository.acquire(LOCK_NAME, LocalDateTime.now().minusSeconds(1), "other-pod", LocalDateTime.now().plusDays(1));
+
+        // when
+        boolean expired = schedulerLockService.tryLock(LOCK_NAME, Duration.ofMinutes(10));
+
+        // then
+        assertThat(whileLocked).isFalse();
+        assertThat(expired).isTrue();
+    }
+}
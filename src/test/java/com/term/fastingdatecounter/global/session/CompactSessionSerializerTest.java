@@ -0,0 +1,129 @@
+package com.term.fastingdatecounter.global.session;
+
+import com.term.fastingdatecounter.domain.user.domain.LoginUserArgumentResolver;
+import com.term.fastingdatecounter.domain.user.dto.SessionUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.util.SerializationUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactSessionSerializerTest {
+
+    private final CompactSessionSerializer serializer = new CompactSessionSerializer();
+
+    @Test
+    @DisplayName("세션 속성 직렬화 - SessionUser를 압축 형식으로 저장하고 그대로 복원 (Java 직렬화의 1/3 이하)")
+    void sessionUser() {
+        // given
+        SessionUser user = new SessionUser(1L, "compact@test.com", "압축");
+
+        // when
+        byte[] bytes = serializer.serialize(user);
+        SessionUser restored = (SessionUser) serializer.deserialize(bytes);
+
+        // then
+        assertThat(restored.getId()).isEqualTo(1L);
+        assertThat(restored.getEmail()).isEqualTo("compact@test.com");
+        assertThat(restored.getName()).isEqualTo("압축");
+        assertThat(bytes.length * 3).isLessThanOrEqualTo(SerializationUtils.serialize(user).length);
+    }
+
+    @Test
+    @DisplayName("세션 속성 직렬화 - OAuth2 로그인 인증 정보를 압축 형식으로 저장하고 같은 객체로 복원 (Java 직렬화의 1/2 이하)")
+    void oauth2SecurityContext() {
+        // given
+        SecurityContext context = new SecurityContextImpl(googleAuthentication());
+
+        // when
+        byte[] bytes = serializer.serialize(context);
+        SecurityContext restored = (SecurityContext) serializer.deserialize(bytes);
+
+        // then
+        assertThat(restored).isEqualTo(context);
+        assertThat(restored.getAuthentication().getName()).isEqualTo("104857600123456789012");
+        assertThat(restored.getAuthentication().isAuthenticated()).isTrue();
+        assertThat(bytes.length * 2).isLessThanOrEqualTo(SerializationUtils.serialize(context).length);
+    }
+
+    @Test
+    @DisplayName("세션 속성 직렬화 - 로그인 세션의 속성 전체 크기 (Java 직렬화 대비 1/2 이하)")
+    void loginSessionSize(TestReporter reporter) {
+        // given
+        //// 로그인 직후 SPRING_SESSION_ATTRIBUTES에 저장되는 속성 (속성 하나가 행 하나)
+        SessionUser user = new SessionUser(1L, "compact@test.com", "홍길동");
+        OAuth2AuthenticationToken authentication = googleAuthentication();
+        authentication.setDetails(new WebAuthenticationDetails(new MockHttpServletRequest()));
+        Map<String, Object> session = new LinkedHashMap<>();
+        session.put("user", user);
+        session.put(LoginUserArgumentResolver.VERIFIED_USER_ATTRIBUTE, user.getId());
+        session.put(LoginUserArgumentResolver.VERIFIED_AT_ATTRIBUTE, System.currentTimeMillis());
+        session.put(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, new SecurityContextImpl(authentication));
+        session.put(NearCacheSessionRepository.VERSION_ATTRIBUTE, 42L);
+
+        // when
+        int javaSize = 0;
+        int compactSize = 0;
+        for (Map.Entry<String, Object> attribute : session.entrySet()) {
+            byte[] java = SerializationUtils.serialize(attribute.getValue());
+            byte[] compact = serializer.serialize(attribute.getValue());
+            reporter.publishEntry("session.attribute." + attribute.getKey(), "java=" + java.length + "B compact=" + compact.length + "B");
+            javaSize += java.length;
+            compactSize += compact.length;
+        }
+
+        // then
+        reporter.publishEntry("session.total", "java=" + javaSize + "B compact=" + compactSize + "B");
+        assertThat(compactSize * 2).isLessThanOrEqualTo(javaSize);
+    }
+
+    @Test
+    @DisplayName("세션 속성 직렬화 - 그 밖의 값과 이미 Java 직렬화로 저장된 값은 Java 직렬화로 처리")
+    void fallback() {
+        // given
+        List<String> list = new ArrayList<>(List.of("a", "b"));
+        byte[] legacyUser = SerializationUtils.serialize(new SessionUser(2L, "legacy@test.com", "이전"));
+
+        // when
+        Object restoredList = serializer.deserialize(serializer.serialize(list));
+        SessionUser restoredUser = (SessionUser) serializer.deserialize(legacyUser);
+        Object version = serializer.deserialize(serializer.serialize(42L));
+
+        // then
+        assertThat(restoredList).isEqualTo(list);
+        assertThat(restoredUser.getEmail()).isEqualTo("legacy@test.com");
+        assertThat(version).isEqualTo(42L);
+    }
+
+    // 구글 로그인 후 세션에 저장되는 형태
+    private static OAuth2AuthenticationToken googleAuthentication() {
+        Set<GrantedAuthority> authorities = Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("sub", "104857600123456789012");
+        attributes.put("name", "홍길동");
+        attributes.put("given_name", "길동");
+        attributes.put("family_name", "홍");
+        attributes.put("picture", "https://lh3.googleusercontent.com/a/default-user=s96-c");
+        attributes.put("email", "compact@test.com");
+        attributes.put("email_verified", true);
+        attributes.put("locale", "ko");
+        return new OAuth2AuthenticationToken(new DefaultOAuth2User(authorities, attributes, "sub"), authorities, "google");
+    }
+}
@@ -0,0 +1,186 @@
+package com.term.fastingdatecounter.global.session;
+
+import com.term.fastingdatecounter.domain.user.domain.User;
+import com.term.fastingdatecounter.domain.user.dto.SessionUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 H2 DB(세션 테이블)를 공유하는 near-cache 두 개로 pod 두 개를 흉내 냄
+@SpringBootTest
+class NearCacheSessionRepositoryTest {
+
+    @Autowired
+    private JdbcIndexedSessionRepository jdbcSessionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MeterRegistry podAMetrics;
+    private MeterRegistry podBMetrics;
+    private SessionAccessTimeWriter podAWriter;
+    private NearCacheSessionRepository podA;
+    private NearCacheSessionRepository podB;
+
+    @BeforeEach
+    void setUp() {
+        podAMetrics = new SimpleMeterRegistry();
+        podBMetrics = new SimpleMeterRegistry();
+        podAWriter = new SessionAccessTimeWriter(jdbcTemplate, podAMetrics, Duration.ofMinutes(1));
+        podA = new NearCacheSessionRepository(jdbcSessionRepository, jdbcTemplate, new CompactSessionSerializer(),
+                podAWriter, podAMetrics, 100, Duration.ofMinutes(1));
+        podB = new NearCacheSessionRepository(jdbcSessionRepository, jdbcTemplate, new CompactSessionSerializer(),
+                new SessionAccessTimeWriter(jdbcTemplate, podBMetrics, Duration.ofMinutes(1)), podBMetrics,
+                100, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void cleanAll() {
+        jdbcTemplate.update("DELETE FROM SPRING_SESSION");
+    }
+
+    @Test
+    @DisplayName("세션 near-cache - 한 번 불러온 세션은 확인 주기 동안 DB 조회 없이 응답")
+    void findByIdHit() {
+        // given
+        String sessionId = login(podA, 1L, "near@test.com");
+
+        // when
+        NearCacheSessionRepository.NearCacheSession first = podB.findById(sessionId);
+        NearCacheSessionRepository.NearCacheSession second = podB.findById(sessionId);
+        NearCacheSessionRepository.NearCacheSession third = podB.findById(sessionId);
+
+        // then
+        SessionUser sessionUser = third.getAttribute("user");
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(sessionUser.getEmail()).isEqualTo("near@test.com");
+        assertThat(lookups(podBMetrics, "miss")).isEqualTo(1.0);
+        assertThat(lookups(podBMetrics, "hit")).isEqualTo(2.0);
+        //// 로그인한 pod는 저장하면서 캐시에 넣었으므로 처음부터 hit
+        podA.findById(sessionId);
+        assertThat(lookups(podAMetrics, "hit")).isEqualTo(1.0);
+        assertThat(lookups(podAMetrics, "miss")).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("세션 near-cache - 다른 pod에서 속성을 바꾸면 확인 주기가 지난 뒤 버전 비교로 새 값을 불러옴")
+    void attributeChangedOnAnotherPod() {
+        // given
+        String sessionId = login(podA, 1L, "before@test.com");
+        podB.findById(sessionId);
+
+        //// pod A에서 속성 변경
+        NearCacheSessionRepository.NearCacheSession session = podA.findById(sessionId);
+        session.setAttribute("user", sessionUser(1L, "after@test.com"));
+        podA.save(session);
+
+        // when
+        //// 확인 주기 안에서는 이전 사본, 주기가 지나면 버전이 달라 전체 조회
+        SessionUser stale = podB.findById(sessionId).getAttribute("user");
+        ReflectionTestUtils.setField(podB, "validateInterval", Duration.ZERO);
+        SessionUser refreshed = podB.findById(sessionId).getAttribute("user");
+        SessionUser validated = podB.findById(sessionId).getAttribute("user");
+
+        // then
+        assertThat(stale.getEmail()).isEqualTo("before@test.com");
+        assertThat(refreshed.getEmail()).isEqualTo("after@test.com");
+        assertThat(validated.getEmail()).isEqualTo("after@test.com");
+        assertThat(lookups(podBMetrics, "miss")).isEqualTo(2.0);
+        assertThat(lookups(podBMetrics, "validated")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("세션 near-cache - 다른 pod에서 로그아웃(삭제)하면 확인 주기가 지난 뒤 세션 없음")
+    void deletedOnAnotherPod() {
+        // given
+        String sessionId = login(podA, 1L, "logout@test.com");
+        podB.findById(sessionId);
+
+        // when
+        podA.deleteById(sessionId);
+        ReflectionTestUtils.setField(podB, "validateInterval", Duration.ZERO);
+
+        // then
+        assertThat(podA.findById(sessionId)).isNull();
+        assertThat(podB.findById(sessionId)).isNull();
+    }
+
+    @Test
+    @DisplayName("세션 접근 시각 - DB 접근 시각보다 staleness 이상 지난 경우만 모아서 한 번에 기록")
+    void coalesceAccessTime() {
+        // given
+        String sessionId = login(podA, 1L, "touch@test.com");
+        String otherSessionId = login(podA, 2L, "other@test.com");
+        Long persisted = lastAccessTime(sessionId);
+        Long otherPersisted = lastAccessTime(otherSessionId);
+
+        // when
+        //// staleness 안의 접근은 기록하지 않음
+        NearCacheSessionRepository.NearCacheSession recent = podA.findById(sessionId);
+        recent.setLastAccessedTime(recent.getLastAccessedTime().plusSeconds(10));
+        podA.save(recent);
+        podAWriter.flush();
+        Long afterRecent = lastAccessTime(sessionId);
+
+        //// staleness가 지난 접근은 세션별 가장 늦은 시각 하나로 모았다가 flush 때 기록
+        Instant accessedAt = Instant.ofEpochMilli(persisted).plusSeconds(120);
+        for (int i = 0; i < 3; i++) {
+            NearCacheSessionRepository.NearCacheSession later = podA.findById(sessionId);
+            later.setLastAccessedTime(accessedAt.plusSeconds(i));
+            podA.save(later);
+        }
+        NearCacheSessionRepository.NearCacheSession other = podA.findById(otherSessionId);
+        other.setLastAccessedTime(other.getLastAccessedTime().plusSeconds(120));
+        podA.save(other);
+        Long beforeFlush = lastAccessTime(sessionId);
+        podAWriter.flush();
+
+        // then
+        assertThat(afterRecent).isEqualTo(persisted);
+        assertThat(beforeFlush).isEqualTo(persisted);
+        //// 첫 접근만 대기열에 넣고, 이후 접근은 사본의 DB 접근 시각이 앞당겨져서 staleness 안으로 처리됨
+        assertThat(lastAccessTime(sessionId)).isEqualTo(accessedAt.toEpochMilli());
+        assertThat(lastAccessTime(otherSessionId)).isEqualTo(otherPersisted + 120_000);
+        //// 두 세션을 한 번의 batch update로 기록
+        assertThat(podAMetrics.get("session.access-time.updates").tag("result", "written").counter().count()).isEqualTo(2.0);
+        assertThat(podAMetrics.get("session.access-time.updates").tag("result", "coalesced").counter().count()).isEqualTo(3.0);
+    }
+
+    private String login(NearCacheSessionRepository repository, Long userId, String email) {
+        NearCacheSessionRepository.NearCacheSession session = repository.createSession();
+        session.setAttribute("user", sessionUser(userId, email));
+        repository.save(session);
+        return session.getId();
+    }
+
+    private SessionUser sessionUser(Long userId, String email) {
+        return new SessionUser(User.builder()
+                .id(userId)
+                .name("near-cache")
+                .email(email)
+                .build());
+    }
+
+    private Long lastAccessTime(String sessionId) {
+        return jdbcTemplate.queryForObject("SELECT LAST_ACCESS_TIME FROM SPRING_SESSION WHERE SESSION_ID = ?",
+                Long.class, sessionId);
+    }
+
+    private double lookups(MeterRegistry meterRegistry, String result) {
+        return meterRegistry.get("session.near-cache.lookups").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,75 @@
+package com.term.fastingdatecounter.global.session;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SessionAccessTimeWriterTest {
+
+    private static final int SESSIONS = 100;
+    private static final Duration REQUEST_INTERVAL = Duration.ofSeconds(5);
+    private static final Duration DURATION = Duration.ofMinutes(30);
+    private static final Duration STALENESS = Duration.ofMinutes(1);
+    private static final Duration FLUSH_INTERVAL = Duration.ofSeconds(10);
+    private static final Duration MAX_INACTIVE_INTERVAL = Duration.ofMinutes(30);
+
+    @Test
+    @DisplayName("세션 접근 시각 쓰기 - 5초마다 요청하는 세션 100개, 30분 동안 세션 행 쓰기 수 (요청마다 쓰는 경우의 1/12)")
+    void writeRate(TestReporter reporter) {
+        // given
+        //// 설정값과 같은 staleness 1분, flush 10초
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SessionAccessTimeWriter writer = new SessionAccessTimeWriter(jdbcTemplate, meterRegistry, STALENESS);
+        Instant loginAt = Instant.parse("2021-11-01T09:00:00Z");
+        Instant[] persisted = new Instant[SESSIONS];
+        for (int i = 0; i < SESSIONS; i++) {
+            persisted[i] = loginAt;
+        }
+
+        // when
+        //// NearCacheSessionRepository처럼 대기열에 넣은 경우 이 pod가 아는 DB 접근 시각을 앞당김
+        long requests = 0;
+        long flushes = 0;
+        for (Duration elapsed = REQUEST_INTERVAL; elapsed.compareTo(DURATION) <= 0; elapsed = elapsed.plus(REQUEST_INTERVAL)) {
+            Instant now = loginAt.plus(elapsed);
+            for (int i = 0; i < SESSIONS; i++, requests++) {
+                if (writer.touch("session" + i, now, persisted[i], MAX_INACTIVE_INTERVAL)) {
+                    persisted[i] = now;
+                }
+            }
+            if (elapsed.toMillis() % FLUSH_INTERVAL.toMillis() == 0) {
+                writer.flush();
+                flushes++;
+            }
+        }
+
+        // then
+        double written = meterRegistry.get("session.access-time.updates").tag("result", "written").counter().count();
+        double coalesced = meterRegistry.get("session.access-time.updates").tag("result", "coalesced").counter().count();
+        reporter.publishEntry("session.access-time.requests", String.valueOf(requests));
+        reporter.publishEntry("session.access-time.updates", String.format("written=%.0f coalesced=%.0f writeRatio=%.3f",
+                written, coalesced, written / (written + coalesced)));
+        reporter.publishEntry("session.access-time.writes-per-second", String.format("rows=%.2f/s (per request: %.2f/s)",
+                written / DURATION.getSeconds(), (double) requests / DURATION.getSeconds()));
+        //// 세션마다 1분에 한 번 (30분 x 100개), batch update는 그중 행이 있는 flush에서만
+        assertThat(written).isEqualTo(SESSIONS * DURATION.toMinutes());
+        assertThat(written + coalesced).isEqualTo(requests);
+        assertThat(written * 12).isLessThanOrEqualTo(requests);
+        verify(jdbcTemplate, times((int) DURATION.toMinutes())).batchUpdate(anyString(), anyList());
+        assertThat(flushes).isGreaterThan(DURATION.toMinutes());
+    }
+}
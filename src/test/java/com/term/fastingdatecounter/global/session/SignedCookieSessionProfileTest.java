@@ -0,0 +1,91 @@
+package com.term.fastingdatecounter.global.session;
+
+import com.term.fastingdatecounter.domain.user.domain.LoginUserArgumentResolver;
+import com.term.fastingdatecounter.domain.user.domain.User;
+import com.term.fastingdatecounter.domain.user.dto.SessionUser;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import com.term.fastingdatecounter.global.config.StatelessSessionConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.session.MapSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import javax.servlet.http.Cookie;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// stateless-session 프로필 (rotate-after 0: 모든 요청이 유저 행을 다시 확인)
+@SpringBootTest(properties = {
+        "session.token.secret=test-session-token-secret-0123456789",
+        "session.token.rotate-after=PT0S"
+})
+@ActiveProfiles(StatelessSessionConfig.PROFILE)
+@AutoConfigureMockMvc
+class SignedCookieSessionProfileTest {
+
+    private static final String SESSION_COOKIE = "SESSION";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private SignedCookieSessionRepository sessionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("cookie-user")
+                .email("cookie@signed.test")
+                .build());
+    }
+
+    @AfterEach
+    void cleanAll() {
+        userRepository.findByEmail("cookie@signed.test").ifPresent(userRepository::delete);
+    }
+
+    @Test
+    @DisplayName("서명 쿠키 세션 - 로그인 후 삭제된 계정의 쿠키는 거부")
+    void rejectDeletedUser() throws Exception {
+        // given
+        Cookie cookie = login(user);
+        performWithCookie(cookie).andExpect(status().isOk());
+        userRepository.delete(user);
+
+        // when
+        ResultActions result = performWithCookie(cookie);
+
+        // then
+        result.andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("G04"));
+    }
+
+    private Cookie login(User user) {
+        // 로그인 직후와 같은 세션으로 토큰 발급
+        MapSession session = sessionRepository.createSession();
+        session.setAttribute(SignedCookieSessionRepository.USER_ATTRIBUTE, new SessionUser(user));
+        session.setAttribute(LoginUserArgumentResolver.VERIFIED_USER_ATTRIBUTE, user.getId());
+        sessionRepository.save(session);
+        return new Cookie(SESSION_COOKIE, Base64.getEncoder().encodeToString(session.getId().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private ResultActions performWithCookie(Cookie cookie) throws Exception {
+        return mvc.perform(get("/api/food").cookie(cookie));
+    }
+}
@@ -0,0 +1,201 @@
+package com.term.fastingdatecounter.global.session;
+
+import com.term.fastingdatecounter.domain.user.domain.LoginUserArgumentResolver;
+import com.term.fastingdatecounter.domain.user.dto.SessionUser;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.MapSession;
+
+import javax.servlet.http.Cookie;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class SignedCookieSessionRepositoryTest {
+
+    private static final String SECRET = "test-session-token-secret-0123456789";
+    private static final String NEW_SECRET = "new-session-token-secret-9876543210";
+
+    private static final Long DELETED_USER_ID = 2L;
+
+    private final SessionTokenSigner signer = new SessionTokenSigner(SECRET, null);
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        given(userRepository.existsById(anyLong())).willReturn(true);
+        given(userRepository.existsById(DELETED_USER_ID)).willReturn(false);
+    }
+
+    @Test
+    @DisplayName("서명 쿠키 세션 - 로그인 후 저장한 토큰으로 유저와 인증 정보를 다시 만듦")
+    void saveAndFind() {
+        // given
+        SignedCookieSessionRepository repository = repository(signer, Duration.ofMinutes(30), Duration.ofMinutes(5));
+        MapSession session = repository.createSession();
+        session.setAttribute(SignedCookieSessionRepository.USER_ATTRIBUTE, new SessionUser(1L, "token@test.com", "토큰"));
+
+        // when
+        repository.save(session);
+        MapSession found = repository.findById(session.getId());
+
+        // then
+        SessionUser user = found.getAttribute(SignedCookieSessionRepository.USER_ATTRIBUTE);
+        SecurityContext context = found.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+        assertThat(user.getId()).isEqualTo(1L);
+        assertThat(user.getEmail()).isEqualTo("token@test.com");
+        assertThat(user.getName()).isEqualTo("토큰");
+        assertThat(context.getAuthentication().isAuthenticated()).isTrue();
+        assertThat(context.getAuthentication().getName()).isEqualTo("token@test.com");
+        //// 쿠키에 담기는 토큰 크기
+        assertThat(session.getId().length()).isLessThan(200);
+    }
+
+    @Test
+    @DisplayName("서명 쿠키 세션 - 변조됐거나 만료된 토큰, 로그인 전 세션 id는 세션 없음")
+    void invalidToken() {
+        // given
+        SignedCookieSessionRepository repository = repository(signer, Duration.ofMinutes(30), Duration.ofMinutes(5));
+        SignedCookieSessionRepository expiredRepository = repository(signer, Duration.ZERO, Duration.ZERO);
+        String token = login(repository, 1L);
+        String expiredToken = login(expiredRepository, 1L);
+        String tampered = (token.charAt(0) == 'A' ? 'B' : 'A') + token.substring(1);
+
+        // when, then
+        assertThat(repository.findById(tampered)).isNull();
+        assertThat(repository.findById(expiredToken)).isNull();
+        assertThat(repository.findById(repository.createSession().getId())).isNull();
+        assertThat(repository(new SessionTokenSigner(NEW_SECRET, null), Duration.ofMinutes(30), Duration.ofMinutes(5))
+                .findById(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("서명 쿠키 세션 - rotate-after가 지났거나 유저 정보가 바뀌면 새 토큰 발급")
+    void rotate() throws InterruptedException {
+        // given
+        SignedCookieSessionRepository repository = repository(signer, Duration.ofMinutes(30), Duration.ofMinutes(5));
+        SignedCookieSessionRepository rotatingRepository = repository(signer, Duration.ofMinutes(30), Duration.ZERO);
+        String token = login(repository, 1L);
+
+        // when
+        MapSession unchanged = repository.findById(token);
+        repository.save(unchanged);
+        MapSession renamed = repository.findById(token);
+        renamed.setAttribute(SignedCookieSessionRepository.USER_ATTRIBUTE, new SessionUser(1L, "user1@test.com", "새 이름"));
+        repository.save(renamed);
+        Thread.sleep(10);
+        MapSession expiring = rotatingRepository.findById(token);
+        rotatingRepository.save(expiring);
+
+        // then
+        assertThat(unchanged.getId()).isEqualTo(token);
+        assertThat(renamed.getId()).isNotEqualTo(token);
+        assertThat(repository.findById(renamed.getId()).<SessionUser>getAttribute(SignedCookieSessionRepository.USER_ATTRIBUTE)
+                .getName()).isEqualTo("새 이름");
+        assertThat(expiring.getId()).isNotEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("서명 쿠키 세션 - rotate-after 이내의 토큰만 확인된 유저로 취급, 삭제된 계정은 새 토큰을 발급하지 않음")
+    void verifyOnRotate() throws InterruptedException {
+        // given
+        SignedCookieSessionRepository repository = repository(signer, Duration.ofMinutes(30), Duration.ofMinutes(5));
+        SignedCookieSessionRepository rotatingRepository = repository(signer, Duration.ofMinutes(30), Duration.ZERO);
+        String token = login(repository, 1L);
+        String deletedToken = login(repository, DELETED_USER_ID);
+        Thread.sleep(10);
+
+        // when
+        MapSession fresh = repository.findById(deletedToken);
+        MapSession stale = rotatingRepository.findById(token);
+        rotatingRepository.save(stale);
+        MapSession deleted = rotatingRepository.findById(deletedToken);
+        rotatingRepository.save(deleted);
+
+        // then
+        //// 발급 직후 토큰은 DB 확인 없이 사용
+        assertThat(fresh.<Long>getAttribute(LoginUserArgumentResolver.VERIFIED_USER_ATTRIBUTE)).isEqualTo(DELETED_USER_ID);
+        assertThat(fresh.<Long>getAttribute(LoginUserArgumentResolver.VERIFIED_AT_ATTRIBUTE)).isEqualTo(fresh.getCreationTime().toEpochMilli());
+        //// 오래된 토큰은 확인 기록 없이 조회되고, 재발급 시 유저 행을 조회
+        assertThat(stale.<Long>getAttribute(LoginUserArgumentResolver.VERIFIED_USER_ATTRIBUTE)).isNull();
+        assertThat(stale.<Long>getAttribute(LoginUserArgumentResolver.VERIFIED_AT_ATTRIBUTE)).isNull();
+        assertThat(stale.getId()).isNotEqualTo(token);
+        assertThat(rotatingRepository.findById(stale.getId())).isNotNull();
+        //// 삭제된 계정은 재발급하지 않고 세션 종료
+        assertThat(deleted.getId()).isNotEqualTo(deletedToken);
+        assertThat(rotatingRepository.findById(deleted.getId())).isNull();
+        then(userRepository).should(times(1)).existsById(1L);
+        then(userRepository).should(times(1)).existsById(DELETED_USER_ID);
+    }
+
+    @Test
+    @DisplayName("서명 쿠키 세션 - 키를 바꿔도 이전 키로 서명한 토큰은 만료 전까지 유효")
+    void keyRotation() {
+        // given
+        String token = login(repository(signer, Duration.ofMinutes(30), Duration.ofMinutes(5)), 1L);
+        SignedCookieSessionRepository rotated = repository(new SessionTokenSigner(NEW_SECRET, SECRET),
+                Duration.ofMinutes(30), Duration.ofMinutes(5));
+
+        // when
+        MapSession found = rotated.findById(token);
+
+        // then
+        assertThat(found).isNotNull();
+        assertThat(found.<SessionUser>getAttribute(SignedCookieSessionRepository.USER_ATTRIBUTE).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("서명 쿠키 인가 요청 - 저장한 쿠키로 OAuth2 인가 요청을 불러오고, 다른 토큰 종류는 거부")
+    void authorizationRequest() {
+        // given
+        SignedCookieAuthorizationRequestRepository repository = new SignedCookieAuthorizationRequestRepository(signer, Duration.ofMinutes(5));
+        OAuth2AuthorizationRequest authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("test-id")
+                .redirectUri("http://localhost/login/oauth2/code/google")
+                .state("state-1")
+                .build();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveAuthorizationRequest(authorizationRequest, new MockHttpServletRequest(), response);
+
+        MockHttpServletRequest callback = new MockHttpServletRequest();
+        callback.setCookies(response.getCookie(SignedCookieAuthorizationRequestRepository.COOKIE_NAME));
+        MockHttpServletRequest sessionCookie = new MockHttpServletRequest();
+        sessionCookie.setCookies(new Cookie(SignedCookieAuthorizationRequestRepository.COOKIE_NAME,
+                login(repository(signer, Duration.ofMinutes(30), Duration.ofMinutes(5)), 1L)));
+
+        // when
+        MockHttpServletResponse removeResponse = new MockHttpServletResponse();
+        OAuth2AuthorizationRequest loaded = repository.removeAuthorizationRequest(callback, removeResponse);
+
+        // then
+        assertThat(loaded.getState()).isEqualTo("state-1");
+        assertThat(removeResponse.getCookie(SignedCookieAuthorizationRequestRepository.COOKIE_NAME).getMaxAge()).isZero();
+        assertThat(repository.loadAuthorizationRequest(sessionCookie)).isNull();
+    }
+
+    private SignedCookieSessionRepository repository(SessionTokenSigner signer, Duration timeToLive, Duration rotateAfter) {
+        return new SignedCookieSessionRepository(signer, userRepository, timeToLive, rotateAfter);
+    }
+
+    private String login(SignedCookieSessionRepository repository, Long userId) {
+        MapSession session = repository.createSession();
+        session.setAttribute(SignedCookieSessionRepository.USER_ATTRIBUTE,
+                new SessionUser(userId, "user" + userId + "@test.com", "유저" + userId));
+        session.setAttribute(LoginUserArgumentResolver.VERIFIED_USER_ATTRIBUTE, userId); // 로그인 시 확인된 유저
+        repository.save(session);
+        return session.getId();
+    }
+}
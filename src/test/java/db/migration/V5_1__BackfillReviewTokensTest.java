@@ -0,0 +1,86 @@
+package db.migration;
+
+import com.term.fastingdatecounter.domain.food.domain.Food;
+import com.term.fastingdatecounter.domain.food.repository.FoodRepository;
+import com.term.fastingdatecounter.domain.review.domain.Review;
+import com.term.fastingdatecounter.domain.review.dto.ReviewSearchItem;
+import com.term.fastingdatecounter.domain.review.repository.ReviewRepository;
+import com.term.fastingdatecounter.domain.review.service.ReviewSearchService;
+import com.term.fastingdatecounter.domain.user.domain.User;
+import com.term.fastingdatecounter.domain.user.repository.UserRepository;
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@SpringBootTest
+@Transactional
+class V5_1__BackfillReviewTokensTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FoodRepository foodRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewSearchService reviewSearchService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("검색 색인 backfill - 색인 없이 저장된 기존 리뷰를 검색 가능하게 함")
+    void migrate() {
+        // given
+        //// 색인 도입 이전에 저장된 리뷰 (검색 서비스를 거치지 않고 저장)
+        User user = userRepository.save(User.builder()
+                .name("legacy")
+                .email("legacy@test.com")
+                .build());
+        Food food = foodRepository.save(Food.builder()
+                .user(user)
+                .name("coffee")
+                .startDate(LocalDate.of(2021, 1, 1))
+                .build());
+        Review review = reviewRepository.save(Review.builder()
+                .food(food)
+                .date(LocalDate.of(2021, 1, 1))
+                .title("힘든 날")
+                .content("오후에 두통이 심했다")
+                .fasted(true)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(reviewSearchService.search(user.getId(), "두통", 0, 20).getReviewList()).isEmpty();
+
+        //// 테스트 트랜잭션의 커넥션으로 실행
+        Context context = mock(Context.class);
+        given(context.getConnection()).willReturn(DataSourceUtils.getConnection(dataSource));
+
+        // when
+        new V5_1__BackfillReviewTokens().migrate(context);
+
+        // then
+        assertThat(reviewSearchService.search(user.getId(), "두통", 0, 20).getReviewList())
+                .extracting(ReviewSearchItem::getId)
+                .containsExactly(review.getId());
+    }
+}
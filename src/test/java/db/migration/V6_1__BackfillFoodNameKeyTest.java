@@ -0,0 +1,59 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class V6_1__BackfillFoodNameKeyTest {
+
+    private Connection connection;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        // V6 적용 직후의 food 테이블 (name_key nullable)
+        connection = DriverManager.getConnection("jdbc:h2:mem:backfill_food_name_key");
+        jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        jdbcTemplate.execute("CREATE TABLE food (id bigint PRIMARY KEY, name varchar(50) NOT NULL, name_key varchar(50) NULL)");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        jdbcTemplate.execute("DROP TABLE food");
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("음식명 정규화 backfill - 기존 음식을 앱과 같은 정규화로 채움")
+    void migrate() {
+        // given
+        jdbcTemplate.update("INSERT INTO food (id, name) VALUES (1, '  Coke   Zero ')");
+        jdbcTemplate.update("INSERT INTO food (id, name) VALUES (2, 'ＣＯＫＥ　ｚｅｒｏ')"); // 전각 문자
+        jdbcTemplate.update("INSERT INTO food (id, name) VALUES (3, '커피')");
+        jdbcTemplate.update("INSERT INTO food (id, name, name_key) VALUES (4, 'Tea', 'already')"); // 이미 채워진 음식
+
+        Context context = mock(Context.class);
+        given(context.getConnection()).willReturn(connection);
+
+        // when
+        new V6_1__BackfillFoodNameKey().migrate(context);
+
+        // then
+        assertThat(jdbcTemplate.queryForList("SELECT id, name_key FROM food ORDER BY id"))
+                .extracting(row -> row.get("NAME_KEY"))
+                .containsExactly("coke zero", "coke zero", "커피", "already");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM food WHERE name_key IS NULL", Long.class)).isZero();
+    }
+}